@@ -0,0 +1,74 @@
+package io.github.drewctaylor.require;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A character sequence view of the bytes of an array or a buffer, each of which is one ISO-8859-1 character; the view
+ * reads a buffer at absolute indexes, so it does not change the position of the buffer.
+ */
+final class AsciiCharSequence implements CharSequence
+{
+    private final byte[] array;
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    AsciiCharSequence(
+            final byte[] array)
+    {
+        this.array = array;
+        this.buffer = null;
+        this.offset = 0;
+        this.length = array.length;
+    }
+
+    AsciiCharSequence(
+            final ByteBuffer buffer)
+    {
+        this.array = buffer.hasArray() ? buffer.array() : null;
+        this.buffer = buffer.hasArray() ? null : buffer;
+        this.offset = buffer.hasArray() ? buffer.arrayOffset() : 0;
+        this.length = buffer.limit();
+    }
+
+    @Override
+    public int length()
+    {
+        return length;
+    }
+
+    @Override
+    public char charAt(
+            final int index)
+    {
+        return (char) ((array == null ? buffer.get(index) : array[offset + index]) & 0xFF);
+    }
+
+    char[] toCharArray(
+            final int from,
+            final int to)
+    {
+        final char[] charArray = new char[to - from];
+
+        for (int index = from; index < to; index++)
+        {
+            charArray[index - from] = charAt(index);
+        }
+
+        return charArray;
+    }
+
+    @Override
+    public CharSequence subSequence(
+            final int from,
+            final int to)
+    {
+        return new String(toCharArray(from, to));
+    }
+
+    @Override
+    public String toString()
+    {
+        return new String(toCharArray(0, length));
+    }
+}
@@ -0,0 +1,285 @@
+package io.github.drewctaylor.require;
+
+import java.math.BigInteger;
+
+/**
+ * Parse a decimal double or float from a range of a character sequence, with the same result, bit for bit, as
+ * Double.parseDouble or Float.parseFloat.
+ *
+ * <p>
+ * A value of the form {@code [+-]digits[.digits][(e|E)[+-]digits]}, with at most nineteen significant digits, is parsed
+ * without allocation: first by the fast path of Clinger, which is exact when the significand and the power of ten are
+ * both exactly representable; then, for a double, by the algorithm of Eisel and Lemire, which multiplies the
+ * significand by a 128-bit approximation of the power of ten and gives up only when that approximation cannot decide the
+ * rounding. Any other value, and any value on which both give up, is parsed by Double.parseDouble or Float.parseFloat,
+ * which also throw the NumberFormatException for a value that is not a number.
+ */
+final class FloatingPointParser
+{
+    private FloatingPointParser()
+    {
+    }
+
+    private static final int SIGNIFICAND_DIGIT_COUNT_MAXIMUM = 19;
+    private static final int EXPONENT_MAXIMUM = 100_000;
+    private static final int POWER_MINIMUM = -325;
+    private static final int POWER_MAXIMUM = 308;
+
+    private static final double[] DOUBLE_POWER_ARRAY = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    private static final float[] FLOAT_POWER_ARRAY = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+    // the high and the low 64 bits of 5^q, normalized to 128 bits, for each q from POWER_MINIMUM to POWER_MAXIMUM: for a
+    // positive q, truncated; for a negative q, the reciprocal, rounded up and then truncated.
+    private static final long[] POWER_HIGH_ARRAY = new long[POWER_MAXIMUM - POWER_MINIMUM + 1];
+    private static final long[] POWER_LOW_ARRAY = new long[POWER_MAXIMUM - POWER_MINIMUM + 1];
+
+    static
+    {
+        final BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+        for (int q = POWER_MINIMUM; q <= POWER_MAXIMUM; q++)
+        {
+            BigInteger power;
+
+            if (q < 0)
+            {
+                final BigInteger power5 = BigInteger.valueOf(5).pow(-q);
+                final int z = power5.subtract(BigInteger.ONE).bitLength();
+                final int b = q >= -27 ? z + 127 : 2 * z + 128;
+
+                power = BigInteger.ONE.shiftLeft(b).divide(power5).add(BigInteger.ONE);
+            }
+            else
+            {
+                power = BigInteger.valueOf(5).pow(q);
+            }
+
+            power = power.bitLength() > 128 ? power.shiftRight(power.bitLength() - 128) : power.shiftLeft(128 - power.bitLength());
+
+            POWER_HIGH_ARRAY[q - POWER_MINIMUM] = power.shiftRight(64).longValue();
+            POWER_LOW_ARRAY[q - POWER_MINIMUM] = power.and(mask).longValue();
+        }
+    }
+
+    static double parseDouble(
+            final CharSequence value,
+            final int from,
+            final int to)
+    {
+        return parse(value, from, to, false);
+    }
+
+    static float parseFloat(
+            final CharSequence value,
+            final int from,
+            final int to)
+    {
+        return (float) parse(value, from, to, true);
+    }
+
+    private static int digit(
+            final CharSequence value,
+            final int index)
+    {
+        return value.charAt(index) - '0';
+    }
+
+    private static boolean isDigit(
+            final CharSequence value,
+            final int index,
+            final int to)
+    {
+        return index < to && value.charAt(index) >= '0' && value.charAt(index) <= '9';
+    }
+
+    private static double parse(
+            final CharSequence value,
+            final int from,
+            final int to,
+            final boolean isFloat)
+    {
+        int index = from;
+        final boolean negative = index < to && value.charAt(index) == '-';
+        index += index < to && (value.charAt(index) == '-' || value.charAt(index) == '+') ? 1 : 0;
+
+        long significand = 0;
+        int significandDigitCount = 0;
+        int digitCount = 0;
+        int exponent = 0;
+
+        for (; isDigit(value, index, to); index++, digitCount++)
+        {
+            if (significand != 0 || digit(value, index) != 0)
+            {
+                significand = significand * 10 + digit(value, index);
+                significandDigitCount++;
+            }
+        }
+
+        if (index < to && value.charAt(index) == '.')
+        {
+            for (index++; isDigit(value, index, to); index++, digitCount++)
+            {
+                if (significand != 0 || digit(value, index) != 0)
+                {
+                    significand = significand * 10 + digit(value, index);
+                    significandDigitCount++;
+                }
+
+                exponent--;
+            }
+        }
+
+        if (digitCount == 0 || significandDigitCount > SIGNIFICAND_DIGIT_COUNT_MAXIMUM)
+        {
+            return parseFallback(value, from, to, isFloat);
+        }
+
+        if (index < to && (value.charAt(index) == 'e' || value.charAt(index) == 'E'))
+        {
+            index++;
+
+            final boolean exponentNegative = index < to && value.charAt(index) == '-';
+            index += index < to && (value.charAt(index) == '-' || value.charAt(index) == '+') ? 1 : 0;
+
+            if (!isDigit(value, index, to))
+            {
+                return parseFallback(value, from, to, isFloat);
+            }
+
+            int exponentExplicit = 0;
+
+            for (; isDigit(value, index, to) && exponentExplicit < EXPONENT_MAXIMUM; index++)
+            {
+                exponentExplicit = exponentExplicit * 10 + digit(value, index);
+            }
+
+            exponent += exponentNegative ? -exponentExplicit : exponentExplicit;
+        }
+
+        if (index != to)
+        {
+            return parseFallback(value, from, to, isFloat);
+        }
+
+        if (significand == 0)
+        {
+            return negative ? -0.0d : 0.0d;
+        }
+
+        final double result = isFloat ? parseFloat(significand, exponent) : parseDouble(significand, exponent);
+
+        if (Double.isNaN(result))
+        {
+            return parseFallback(value, from, to, isFloat);
+        }
+
+        return negative ? -result : result;
+    }
+
+    private static double parseFallback(
+            final CharSequence value,
+            final int from,
+            final int to,
+            final boolean isFloat)
+    {
+        final String string = value.subSequence(from, to).toString();
+
+        return isFloat ? Float.parseFloat(string) : Double.parseDouble(string);
+    }
+
+    // return the nearest float to the given significand times ten to the given exponent, or NaN if the fast path cannot
+    // decide it.
+    private static double parseFloat(
+            final long significand,
+            final int exponent)
+    {
+        if (significand >= 0 && significand <= 1L << 24 && exponent >= -10 && exponent <= 10)
+        {
+            return exponent < 0 ? (float) significand / FLOAT_POWER_ARRAY[-exponent] : (float) significand * FLOAT_POWER_ARRAY[exponent];
+        }
+
+        return Double.NaN;
+    }
+
+    // return the nearest double to the given significand times ten to the given exponent, or NaN if neither the fast path
+    // nor the algorithm of Eisel and Lemire can decide it.
+    private static double parseDouble(
+            final long significand,
+            final int exponent)
+    {
+        if (significand >= 0 && significand <= 1L << 53 && exponent >= -22 && exponent <= 22)
+        {
+            return exponent < 0 ? (double) significand / DOUBLE_POWER_ARRAY[-exponent] : (double) significand * DOUBLE_POWER_ARRAY[exponent];
+        }
+
+        if (exponent < POWER_MINIMUM || exponent > POWER_MAXIMUM)
+        {
+            return Double.NaN;
+        }
+
+        final long exponentBinary = ((217706L * exponent) >> 16) + 1024 + 63;
+        int leadingZeroCount = Long.numberOfLeadingZeros(significand);
+        final long significandNormal = significand << leadingZeroCount;
+
+        final long powerHigh = POWER_HIGH_ARRAY[exponent - POWER_MINIMUM];
+        long lower = significandNormal * powerHigh;
+        long upper = multiplyHighUnsigned(significandNormal, powerHigh);
+
+        if ((upper & 0x1FF) == 0x1FF && Long.compareUnsigned(lower + significandNormal, lower) < 0)
+        {
+            final long powerLow = POWER_LOW_ARRAY[exponent - POWER_MINIMUM];
+            final long productLow = significandNormal * powerLow;
+            final long productMiddle = lower + multiplyHighUnsigned(significandNormal, powerLow);
+            final long productHigh = upper + (Long.compareUnsigned(productMiddle, lower) < 0 ? 1 : 0);
+
+            if (productMiddle + 1 == 0 && (productHigh & 0x1FF) == 0x1FF && Long.compareUnsigned(productLow + significandNormal, productLow) < 0)
+            {
+                return Double.NaN;
+            }
+
+            upper = productHigh;
+            lower = productMiddle;
+        }
+
+        final long upperBit = upper >>> 63;
+        long mantissa = upper >>> (upperBit + 9);
+        leadingZeroCount += (int) (1 ^ upperBit);
+
+        if (lower == 0 && (upper & 0x1FF) == 0 && (mantissa & 3) == 1)
+        {
+            return Double.NaN;
+        }
+
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+
+        if (mantissa >= 1L << 53)
+        {
+            mantissa = 1L << 52;
+            leadingZeroCount--;
+        }
+
+        mantissa &= ~(1L << 52);
+
+        final long exponentReal = exponentBinary - leadingZeroCount;
+
+        if (exponentReal < 1 || exponentReal > 2046)
+        {
+            return Double.NaN;
+        }
+
+        return Double.longBitsToDouble(mantissa | exponentReal << 52);
+    }
+
+    private static long multiplyHighUnsigned(
+            final long x,
+            final long y)
+    {
+        return Math.multiplyHigh(x, y) + (x >> 63 & y) + (y >> 63 & x);
+    }
+}
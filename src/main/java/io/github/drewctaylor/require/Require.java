@@ -1,5 +1,7 @@
 package io.github.drewctaylor.require;
 
+import java.util.function.Function;
+
 import static java.lang.String.format;
 
 /**
@@ -11,6 +13,35 @@ public final class Require
     {
     }
 
+    // the characters below 64 for which Character.isWhitespace is true: '\t', '\n', '\u000B', '\f', '\r', '\u001C',
+    // '\u001D', '\u001E', '\u001F', and ' '; no other ASCII character is whitespace.
+    private static final long WHITESPACE = 0x1_F000_3E00L;
+
+    private static boolean isWhitespace(
+            final char character)
+    {
+        return character < 64 ? (WHITESPACE >>> character & 1L) != 0 : character >= 128 && Character.isWhitespace(character);
+    }
+
+    static boolean isBlank(
+            final CharSequence charSequence)
+    {
+        if (charSequence instanceof String)
+        {
+            return ((String) charSequence).isBlank();
+        }
+
+        for (int index = 0; index < charSequence.length(); index++)
+        {
+            if (!isWhitespace(charSequence.charAt(index)))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     private static <TYPE, EXCEPTION extends RuntimeException> TYPE requireHelper(
             final boolean expression,
             final TYPE value,
@@ -31,11 +62,16 @@ public final class Require
         return requireHelper(value != null, value, new NullPointerException(format("%s must be non-null.", name)));
     }
 
-    static String requireNonBlankHelper(
-            final String string,
+    static <CHARSEQUENCE extends CharSequence> CHARSEQUENCE requireNonBlankHelper(
+            final CHARSEQUENCE charSequence,
             final String name)
     {
-        return require(!string.chars().allMatch(Character::isWhitespace), string, new IllegalArgumentException(format("%s must be non-blank; it is '%s'.", name, string)));
+        if (isBlank(charSequence))
+        {
+            throw new IllegalArgumentException(format("%s must be non-blank; it is '%s'.", name, RequireRender.render(charSequence)));
+        }
+
+        return charSequence;
     }
 
     static void requireName(
@@ -66,7 +102,12 @@ public final class Require
     {
         requireNonNullHelper(runtimeException, "runtimeException");
 
-        return requireHelper(expression, value, runtimeException);
+        if (!expression)
+        {
+            throw RequireEvent.failure("Require.require", null, value, runtimeException);
+        }
+
+        return value;
     }
 
     /**
@@ -94,6 +135,76 @@ public final class Require
         return require(expression, value, new IllegalArgumentException(message));
     }
 
+    /**
+     * Return the given value, if the given expression is true; otherwise, throw a RequirementViolation of the given kind
+     * for the given value, name, and expected bounds.
+     */
+    static <TYPE> TYPE require(
+            final boolean expression,
+            final TYPE value,
+            final RequirementViolation.Kind kind,
+            final String name,
+            final Object... expectedArray)
+    {
+        if (!expression)
+        {
+            throw RequireEvent.failure("Require.require", name, value, RequirementViolation.of(kind, name, value, expectedArray));
+        }
+
+        return value;
+    }
+
+    /**
+     * Return the given value, if the given expression is true; otherwise, throw a RequirementViolation of the given kind
+     * for the given derivative value, parameter name, field name, and expected bounds.
+     */
+    static <T1, T2> T1 requireField(
+            final boolean expression,
+            final T1 value,
+            final RequirementViolation.Kind kind,
+            final String parameterName,
+            final String fieldName,
+            final T2 fieldValue,
+            final Object... expectedArray)
+    {
+        if (!expression)
+        {
+            throw RequireEvent.failure("Require.require", parameterName, value, RequirementViolation.ofField(kind, parameterName, fieldName, fieldValue, expectedArray));
+        }
+
+        return value;
+    }
+
+    /**
+     * Return the given value, if it meets the given requirement or if the given level is disabled; otherwise, throw the
+     * exception that the given requirement throws.
+     *
+     * <p>
+     * If the given level is disabled, the given requirement does not run.
+     *
+     * @param  level                the given level
+     * @param  value                the given value
+     * @param  require              the given requirement
+     * @param  <TYPE>               the type of the given value
+     * 
+     * @return                      the given value, if it meets the given requirement or if the given level is disabled
+     * 
+     * @throws NullPointerException if level is null
+     * @throws NullPointerException if require is null and the given level is enabled
+     */
+    public static <TYPE> TYPE require(
+            final RequireLevel level,
+            final TYPE value,
+            final Function<TYPE, TYPE> require)
+    {
+        if (level.isEnabled())
+        {
+            requireNonNullHelper(require, "require").apply(value);
+        }
+
+        return value;
+    }
+
     /**
      * Return the given value, if non-null; otherwise, throw an IllegalArgumentException.
      *
@@ -135,6 +246,6 @@ public final class Require
     {
         requireName(name);
 
-        return require(value == null, value, format("%s must be null; it is '%s'.", name, value));
+        return require(value == null, value, RequirementViolation.Kind.NULL, name);
     }
 }
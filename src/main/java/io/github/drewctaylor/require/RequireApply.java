@@ -0,0 +1,81 @@
+package io.github.drewctaylor.require;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Apply a requirement function to an element of a collection or a map, and instrument the application: commit a
+ * {@link RequireEvent} duration event if it meets the threshold, and attribute its {@link RequireCost} if it is sampled.
+ */
+final class RequireApply
+{
+    private RequireApply()
+    {
+    }
+
+    /**
+     * Apply the given requirement function to the given value; commit a duration event if it meets the threshold, and
+     * attribute its cost if it is sampled.
+     */
+    static <T1, T2> T2 apply(
+            final String method,
+            final String name,
+            final Function<T1, T2> require,
+            final T1 value)
+    {
+        final RequireEvent.Duration duration = RequireEvent.begin();
+        final boolean sampled = RequireCost.isSampled();
+        final long start = sampled ? System.nanoTime() : 0;
+        boolean failure = true;
+
+        try
+        {
+            final T2 result = require.apply(value);
+            failure = false;
+            return result;
+        }
+        finally
+        {
+            if (sampled)
+            {
+                RequireCost.record(require, name, System.nanoTime() - start);
+            }
+
+            RequireEvent.end(duration, method, name, value, failure);
+        }
+    }
+
+    /**
+     * Apply the given requirement function to the given key and value; commit a duration event if it meets the
+     * threshold, and attribute its cost to the given requirement if it is sampled.
+     */
+    static <KEY, VALUE, T3> T3 apply(
+            final String method,
+            final String name,
+            final Object requirement,
+            final BiFunction<KEY, VALUE, T3> require,
+            final KEY key,
+            final VALUE value)
+    {
+        final RequireEvent.Duration duration = RequireEvent.begin();
+        final boolean sampled = RequireCost.isSampled();
+        final long start = sampled ? System.nanoTime() : 0;
+        boolean failure = true;
+
+        try
+        {
+            final T3 result = require.apply(key, value);
+            failure = false;
+            return result;
+        }
+        finally
+        {
+            if (sampled)
+            {
+                RequireCost.record(requirement, name, System.nanoTime() - start);
+            }
+
+            RequireEvent.end(duration, method, name, key, failure);
+        }
+    }
+}
@@ -3,9 +3,9 @@ package io.github.drewctaylor.require;
 import java.util.function.Function;
 
 import static io.github.drewctaylor.require.Require.require;
+import static io.github.drewctaylor.require.Require.requireField;
 import static io.github.drewctaylor.require.Require.requireName;
 import static io.github.drewctaylor.require.Require.requireNonNull;
-import static java.lang.String.format;
 
 /**
  * Require a comparable type to be within bounds.
@@ -41,7 +41,7 @@ public final class RequireBound
         requireNonNull(maximum, "maximum");
         requireName(name);
 
-        return require(value.compareTo(maximum) < 0, value, format("%s must be less than '%s'; it is '%s'.", name, maximum, value));
+        return require(value.compareTo(maximum) < 0, value, RequirementViolation.Kind.LESS_THAN, name, maximum);
     }
 
     /**
@@ -69,7 +69,7 @@ public final class RequireBound
         requireNonNull(maximum, "maximum");
         requireName(name);
 
-        return require(value.compareTo(maximum) <= 0, value, format("%s must be less than or equal to '%s'; it is '%s'.", name, maximum, value));
+        return require(value.compareTo(maximum) <= 0, value, RequirementViolation.Kind.LESS_THAN_OR_EQUAL, name, maximum);
     }
 
     /**
@@ -97,7 +97,7 @@ public final class RequireBound
         requireNonNull(target, "target");
         requireName(name);
 
-        return require(value.compareTo(target) == 0, value, format("%s must be equal to '%s'; it is '%s'.", name, target, value));
+        return require(value.compareTo(target) == 0, value, RequirementViolation.Kind.EQUAL, name, target);
     }
 
     /**
@@ -125,7 +125,7 @@ public final class RequireBound
         requireNonNull(minimum, "minimum");
         requireName(name);
 
-        return require(value.compareTo(minimum) >= 0, value, format("%s must be greater than or equal to '%s'; it is '%s'.", name, minimum, value));
+        return require(value.compareTo(minimum) >= 0, value, RequirementViolation.Kind.GREATER_THAN_OR_EQUAL, name, minimum);
     }
 
     /**
@@ -153,7 +153,7 @@ public final class RequireBound
         requireNonNull(minimum, "minimum");
         requireName(name);
 
-        return require(value.compareTo(minimum) > 0, value, format("%s must be greater than '%s'; it is '%s'.", name, minimum, value));
+        return require(value.compareTo(minimum) > 0, value, RequirementViolation.Kind.GREATER_THAN, name, minimum);
     }
 
     /**
@@ -186,7 +186,7 @@ public final class RequireBound
         requireNonNull(maximum, "maximum");
         requireName(name);
 
-        return require(value.compareTo(maximum) <= 0 && value.compareTo(minimum) >= 0, value, format("%s must be greater than or equal to '%s' and less than or equal to '%s'; it is '%s'.", name, minimum, maximum, value));
+        return require(value.compareTo(maximum) <= 0 && value.compareTo(minimum) >= 0, value, RequirementViolation.Kind.BOUND_INCLUSIVE, name, minimum, maximum);
     }
 
     /**
@@ -219,7 +219,7 @@ public final class RequireBound
         requireNonNull(maximum, "maximum");
         requireName(name);
 
-        return require(value.compareTo(maximum) < 0 && value.compareTo(minimum) > 0, value, format("%s must be greater than '%s' and less than '%s'; it is '%s'.", name, minimum, maximum, value));
+        return require(value.compareTo(maximum) < 0 && value.compareTo(minimum) > 0, value, RequirementViolation.Kind.BOUND_EXCLUSIVE, name, minimum, maximum);
     }
 
     /**
@@ -252,7 +252,7 @@ public final class RequireBound
         requireNonNull(maximum, "maximum");
         requireName(name);
 
-        return require(value.compareTo(maximum) <= 0 && value.compareTo(minimum) > 0, value, format("%s must be greater than '%s' and less than or equal to '%s'; it is '%s'.", name, minimum, maximum, value));
+        return require(value.compareTo(maximum) <= 0 && value.compareTo(minimum) > 0, value, RequirementViolation.Kind.BOUND_MINIMUM_EXCLUSIVE_MAXIMUM_INCLUSIVE, name, minimum, maximum);
     }
 
     /**
@@ -285,7 +285,7 @@ public final class RequireBound
         requireNonNull(maximum, "maximum");
         requireName(name);
 
-        return require(value.compareTo(maximum) < 0 && value.compareTo(minimum) >= 0, value, format("%s must be greater than or equal to '%s' and less than '%s'; it is '%s'.", name, minimum, maximum, value));
+        return require(value.compareTo(maximum) < 0 && value.compareTo(minimum) >= 0, value, RequirementViolation.Kind.BOUND_MINIMUM_INCLUSIVE_MAXIMUM_EXCLUSIVE, name, minimum, maximum);
     }
 
     /**
@@ -321,7 +321,7 @@ public final class RequireBound
         requireName(parameterName);
         requireName(fieldName);
 
-        return require(get.apply(value).compareTo(maximum) < 0, value, format("%s %s must be less than '%s'; it is '%s'.", parameterName, fieldName, maximum, get.apply(value)));
+        return requireField(get.apply(value).compareTo(maximum) < 0, value, RequirementViolation.Kind.LESS_THAN, parameterName, fieldName, get.apply(value), maximum);
     }
 
     /**
@@ -357,7 +357,7 @@ public final class RequireBound
         requireName(parameterName);
         requireName(fieldName);
 
-        return require(get.apply(value).compareTo(maximum) <= 0, value, format("%s %s must be less than or equal to '%s'; it is '%s'.", parameterName, fieldName, maximum, get.apply(value)));
+        return requireField(get.apply(value).compareTo(maximum) <= 0, value, RequirementViolation.Kind.LESS_THAN_OR_EQUAL, parameterName, fieldName, get.apply(value), maximum);
     }
 
     /**
@@ -392,7 +392,7 @@ public final class RequireBound
         requireName(parameterName);
         requireName(fieldName);
 
-        return require(get.apply(value).compareTo(target) == 0, value, format("%s %s must be equal to '%s'; it is '%s'.", parameterName, fieldName, target, get.apply(value)));
+        return requireField(get.apply(value).compareTo(target) == 0, value, RequirementViolation.Kind.EQUAL, parameterName, fieldName, get.apply(value), target);
     }
 
     /**
@@ -429,7 +429,7 @@ public final class RequireBound
         requireName(parameterName);
         requireName(fieldName);
 
-        return require(get.apply(value).compareTo(minimum) >= 0, value, format("%s %s must be greater than or equal to '%s'; it is '%s'.", parameterName, fieldName, minimum, get.apply(value)));
+        return requireField(get.apply(value).compareTo(minimum) >= 0, value, RequirementViolation.Kind.GREATER_THAN_OR_EQUAL, parameterName, fieldName, get.apply(value), minimum);
     }
 
     /**
@@ -465,7 +465,7 @@ public final class RequireBound
         requireName(parameterName);
         requireName(fieldName);
 
-        return require(get.apply(value).compareTo(minimum) > 0, value, format("%s %s must be greater than '%s'; it is '%s'.", parameterName, fieldName, minimum, get.apply(value)));
+        return requireField(get.apply(value).compareTo(minimum) > 0, value, RequirementViolation.Kind.GREATER_THAN, parameterName, fieldName, get.apply(value), minimum);
     }
 
     /**
@@ -506,7 +506,7 @@ public final class RequireBound
         requireName(parameterName);
         requireName(fieldName);
 
-        return require(get.apply(value).compareTo(maximum) <= 0 && get.apply(value).compareTo(minimum) >= 0, value, format("%s %s must be greater than or equal to '%s' and less than or equal to '%s'; it is '%s'.", parameterName, fieldName, minimum, maximum, get.apply(value)));
+        return requireField(get.apply(value).compareTo(maximum) <= 0 && get.apply(value).compareTo(minimum) >= 0, value, RequirementViolation.Kind.BOUND_INCLUSIVE, parameterName, fieldName, get.apply(value), minimum, maximum);
     }
 
     /**
@@ -547,7 +547,7 @@ public final class RequireBound
         requireName(parameterName);
         requireName(fieldName);
 
-        return require(get.apply(value).compareTo(maximum) < 0 && get.apply(value).compareTo(minimum) > 0, value, format("%s %s must be greater than '%s' and less than '%s'; it is '%s'.", parameterName, fieldName, minimum, maximum, get.apply(value)));
+        return requireField(get.apply(value).compareTo(maximum) < 0 && get.apply(value).compareTo(minimum) > 0, value, RequirementViolation.Kind.BOUND_EXCLUSIVE, parameterName, fieldName, get.apply(value), minimum, maximum);
     }
 
     /**
@@ -588,7 +588,7 @@ public final class RequireBound
         requireName(parameterName);
         requireName(fieldName);
 
-        return require(get.apply(value).compareTo(maximum) <= 0 && get.apply(value).compareTo(minimum) > 0, value, format("%s %s must be greater than '%s' and less than or equal to '%s'; it is '%s'.", parameterName, fieldName, minimum, maximum, get.apply(value)));
+        return requireField(get.apply(value).compareTo(maximum) <= 0 && get.apply(value).compareTo(minimum) > 0, value, RequirementViolation.Kind.BOUND_MINIMUM_EXCLUSIVE_MAXIMUM_INCLUSIVE, parameterName, fieldName, get.apply(value), minimum, maximum);
     }
 
     /**
@@ -629,6 +629,6 @@ public final class RequireBound
         requireName(parameterName);
         requireName(fieldName);
 
-        return require(get.apply(value).compareTo(maximum) < 0 && get.apply(value).compareTo(minimum) >= 0, value, format("%s %s must be greater than or equal to '%s' and less than '%s'; it is '%s'.", parameterName, fieldName, minimum, maximum, get.apply(value)));
+        return requireField(get.apply(value).compareTo(maximum) < 0 && get.apply(value).compareTo(minimum) >= 0, value, RequirementViolation.Kind.BOUND_MINIMUM_INCLUSIVE_MAXIMUM_EXCLUSIVE, parameterName, fieldName, get.apply(value), minimum, maximum);
     }
 }
@@ -1,7 +1,9 @@
 package io.github.drewctaylor.require;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -22,8 +24,6 @@ import static io.github.drewctaylor.require.RequireBound.requireGreaterThanOrEqu
 import static io.github.drewctaylor.require.RequireBound.requireLessThan;
 import static io.github.drewctaylor.require.RequireBound.requireLessThanOrEqual;
 import static io.github.drewctaylor.require.RequireNumberInteger.requireZeroOrPositive;
-import static java.lang.String.format;
-import static java.lang.System.lineSeparator;
 import static java.util.AbstractMap.SimpleImmutableEntry;
 import static java.util.Map.Entry;
 import static java.util.Optional.empty;
@@ -36,7 +36,7 @@ import static java.util.stream.StreamSupport.stream;
 
 /**
  * Require a collection to be empty or non-empty, to have a size within bounds, to have at least one element meet a
- * requirement, or to have all elements meet a requirement.
+ * requirement, or to have all elements, or all elements of a {@link RequireSample}, meet a requirement.
  */
 public final class RequireCollection
 {
@@ -66,7 +66,12 @@ public final class RequireCollection
         requireNonNull(collection, "collection");
         requireName(name);
 
-        return require(collection.isEmpty(), collection, format("%s must be empty; it was '%s'.", name, collection.size()));
+        if (!collection.isEmpty())
+        {
+            throw RequireEvent.failure("RequireCollection.requireEmpty", name, collection, RequirementViolation.of(RequirementViolation.Kind.EMPTY, name, collection.size()));
+        }
+
+        return collection;
     }
 
     /**
@@ -91,7 +96,7 @@ public final class RequireCollection
         requireNonNull(collection, "collection");
         requireName(name);
 
-        return require(!collection.isEmpty(), collection, format("%s must be non-empty.", name));
+        return require(!collection.isEmpty(), collection, RequirementViolation.Kind.NON_EMPTY, name);
     }
 
     /**
@@ -403,13 +408,15 @@ public final class RequireCollection
 
     private static <TYPE, COLLECTION extends Collection<TYPE>> Stream<Optional<Entry<Integer, RuntimeException>>> requireCollection(
             final COLLECTION collection,
-            final Function<TYPE, TYPE> require)
+            final Function<TYPE, TYPE> require,
+            final String method,
+            final String parameterName)
     {
         return zip(iterate(0, i -> i + 1), collection.stream(), SimpleImmutableEntry::new).map(entry ->
         {
             try
             {
-                require.apply(entry.getValue());
+                RequireApply.apply(method, parameterName, require, entry.getValue());
                 return empty();
             }
             catch (final RuntimeException runtimeException)
@@ -419,36 +426,31 @@ public final class RequireCollection
         });
     }
 
-    private static String requireMessage(
+    private static List<Entry<Integer, RuntimeException>> requireFailureList(
             final Stream<Optional<Entry<Integer, RuntimeException>>> stream)
     {
         return stream
                 .filter(Optional::isPresent)
                 .map(Optional::get)
-                .map(entry -> String.format("%s: %s", entry.getKey(), entry.getValue().getMessage()))
-                .collect(Collectors.joining(lineSeparator()));
+                .collect(Collectors.toList());
     }
 
-    private static IllegalArgumentException requireForAllException(
+    static RequirementViolation requireForAllException(
+            final Object value,
             final String parameterName,
             final String fieldName,
-            final Stream<Optional<Entry<Integer, RuntimeException>>> stream)
+            final List<Entry<Integer, RuntimeException>> list)
     {
-        return new IllegalArgumentException(format("Every %s of %s must meet the requirement:%n%s",
-                fieldName,
-                parameterName,
-                requireMessage(stream)));
+        return RequirementViolation.ofIndex(RequirementViolation.Kind.FOR_ALL, parameterName, fieldName, value, list);
     }
 
-    private static IllegalArgumentException requireThereExistsException(
+    private static RequirementViolation requireThereExistsException(
+            final Object value,
             final String parameterName,
             final String fieldName,
-            final Stream<Optional<Entry<Integer, RuntimeException>>> stream)
+            final List<Entry<Integer, RuntimeException>> list)
     {
-        return new IllegalArgumentException(format("At least one %s of %s must exist that meets the requirement:%n%s",
-                fieldName,
-                parameterName,
-                requireMessage(stream)));
+        return RequirementViolation.ofIndex(RequirementViolation.Kind.THERE_EXISTS, parameterName, fieldName, value, list);
     }
 
     /**
@@ -479,6 +481,37 @@ public final class RequireCollection
         return requireForAll(collection, identity(), require, name, "element");
     }
 
+    /**
+     * Return the given collection, if all elements meet the given requirement or if the given level is disabled.
+     *
+     * <p>
+     * If the given level is disabled, neither the given requirement nor any precondition runs.
+     *
+     * @param  level                    the given level
+     * @param  collection               the given collection
+     * @param  require                  the given requirement
+     * @param  name                     the name of the given collection
+     * @param  <TYPE>                   the type of the collection element
+     * @param  <COLLECTION>             the type of the collection
+     * 
+     * @return                          the given collection, if all elements meet the given requirement or if the given
+     *                                  level is disabled
+     * 
+     * @throws NullPointerException     if level is null
+     * @throws NullPointerException     if collection is null and the given level is enabled
+     * @throws NullPointerException     if require is null and the given level is enabled
+     * @throws NullPointerException     if name is null and the given level is enabled
+     * @throws IllegalArgumentException if name is blank and the given level is enabled
+     */
+    public static <TYPE, COLLECTION extends Collection<TYPE>> COLLECTION requireForAll(
+            final RequireLevel level,
+            final COLLECTION collection,
+            final Function<TYPE, TYPE> require,
+            final String name)
+    {
+        return level.isEnabled() ? requireForAll(collection, require, name) : collection;
+    }
+
     /**
      * Return the given collection, if all elements of the derivative collection meet the given requirement.
      *
@@ -514,11 +547,38 @@ public final class RequireCollection
         requireName(parameterName);
         requireName(fieldName);
 
-        final Supplier<Stream<Optional<Entry<Integer, RuntimeException>>>> stream = () -> requireCollection(get.apply(collection), require);
+        return requireForAll(collection, get, require, parameterName, fieldName, "RequireCollection.requireForAll");
+    }
+
+    static <T1, T2, COLLECTION extends Collection<T2>> T1 requireForAll(
+            final T1 collection,
+            final Function<T1, COLLECTION> get,
+            final Function<T2, T2> require,
+            final String parameterName,
+            final String fieldName,
+            final String method)
+    {
+        final boolean cacheable = RequireIdentityCache.isCacheable(collection);
+
+        if (cacheable && RequireIdentityCache.contains(collection, method, get, require))
+        {
+            RequireMetrics.record(method, parameterName, false);
+            return collection;
+        }
+
+        final Supplier<Stream<Optional<Entry<Integer, RuntimeException>>>> stream = () -> requireCollection(get.apply(collection), require, method, parameterName);
+        final boolean failure = stream.get().anyMatch(Optional::isPresent);
+
+        RequireMetrics.record(method, parameterName, failure);
+
+        if (failure)
+        {
+            throw RequireEvent.failure(method, parameterName, collection, requireForAllException(collection, parameterName, fieldName, requireFailureList(stream.get())));
+        }
 
-        if (stream.get().anyMatch(Optional::isPresent))
+        if (cacheable)
         {
-            throw requireForAllException(parameterName, fieldName, stream.get());
+            RequireIdentityCache.add(collection, method, get, require);
         }
 
         return collection;
@@ -587,13 +647,113 @@ public final class RequireCollection
         requireName(parameterName);
         requireName(fieldName);
 
-        final Supplier<Stream<Optional<Entry<Integer, RuntimeException>>>> stream = () -> requireCollection(get.apply(collection), require);
+        return requireThereExists(collection, get, require, parameterName, fieldName, "RequireCollection.requireThereExists");
+    }
 
-        if (stream.get().allMatch(Optional::isPresent))
+    static <T1, T2, COLLECTION extends Collection<T2>> T1 requireThereExists(
+            final T1 collection,
+            final Function<T1, COLLECTION> get,
+            final Function<T2, T2> require,
+            final String parameterName,
+            final String fieldName,
+            final String method)
+    {
+        final boolean cacheable = RequireIdentityCache.isCacheable(collection);
+
+        if (cacheable && RequireIdentityCache.contains(collection, method, get, require))
         {
-            throw requireThereExistsException(parameterName, fieldName, stream.get());
+            RequireMetrics.record(method, parameterName, false);
+            return collection;
+        }
+
+        final Supplier<Stream<Optional<Entry<Integer, RuntimeException>>>> stream = () -> requireCollection(get.apply(collection), require, method, parameterName);
+        final boolean failure = stream.get().allMatch(Optional::isPresent);
+
+        RequireMetrics.record(method, parameterName, failure);
+
+        if (failure)
+        {
+            throw RequireEvent.failure(method, parameterName, collection, requireThereExistsException(collection, parameterName, fieldName, requireFailureList(stream.get())));
+        }
+
+        if (cacheable)
+        {
+            RequireIdentityCache.add(collection, method, get, require);
         }
 
         return collection;
     }
+
+    static <T1, TYPE> T1 requireForAllSample(
+            final T1 value,
+            final Collection<TYPE> collection,
+            final RequireSample sample,
+            final Function<TYPE, TYPE> require,
+            final String parameterName,
+            final String fieldName,
+            final String method)
+    {
+        final List<Entry<Integer, TYPE>> sampleList = sample.sample(collection);
+        final List<Entry<Integer, RuntimeException>> list = new ArrayList<>();
+
+        for (final Entry<Integer, TYPE> entry : sampleList)
+        {
+            try
+            {
+                RequireApply.apply(method, parameterName, require, entry.getValue());
+            }
+            catch (final RuntimeException runtimeException)
+            {
+                list.add(new SimpleImmutableEntry<>(entry.getKey(), runtimeException));
+            }
+        }
+
+        RequireMetrics.record(method, parameterName, !list.isEmpty());
+
+        if (!list.isEmpty())
+        {
+            final RequireSample.Estimate estimate = new RequireSample.Estimate(collection.size(), sampleList.size(), list.size());
+
+            throw RequireEvent.failure(method, parameterName, value, RequirementViolation.ofIndex(RequirementViolation.Kind.FOR_ALL_SAMPLE, parameterName, fieldName, value, list, estimate));
+        }
+
+        return value;
+    }
+
+    /**
+     * Return the given collection, if all elements of the given sample of the collection meet the given requirement.
+     *
+     * <p>
+     * Only the elements of the sample are validated; the exception message estimates the failure rate of the collection,
+     * with a 95% confidence interval, and identifies each element of the sample that fails the requirement by its index.
+     *
+     * @param  collection               the given collection
+     * @param  sample                   the given sample
+     * @param  require                  the given requirement
+     * @param  name                     the name of the given collection
+     * @param  <TYPE>                   the type of the collection element
+     * @param  <COLLECTION>             the type of the collection
+     * 
+     * @return                          the given collection, if all elements of the given sample of the collection meet
+     *                                  the given requirement
+     * 
+     * @throws NullPointerException     if collection is null
+     * @throws NullPointerException     if sample is null
+     * @throws NullPointerException     if require is null
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <TYPE, COLLECTION extends Collection<TYPE>> COLLECTION requireForAllSample(
+            final COLLECTION collection,
+            final RequireSample sample,
+            final Function<TYPE, TYPE> require,
+            final String name)
+    {
+        requireNonNull(collection, "collection");
+        requireNonNull(sample, "sample");
+        requireNonNull(require, "require");
+        requireName(name);
+
+        return requireForAllSample(collection, collection, sample, require, name, "element", "RequireCollection.requireForAllSample");
+    }
 }
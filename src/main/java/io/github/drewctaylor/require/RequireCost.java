@@ -0,0 +1,416 @@
+package io.github.drewctaylor.require;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static io.github.drewctaylor.require.Require.requireName;
+import static io.github.drewctaylor.require.Require.requireNonBlankHelper;
+import static io.github.drewctaylor.require.Require.requireNonNull;
+import static io.github.drewctaylor.require.RequireNumberInteger.requirePositive;
+import static java.lang.String.format;
+
+/**
+ * Attribute the cost of the requirement functions that the collection and map requirements, such as
+ * {@link RequireCollection#requireForAll(java.util.Collection, Function, String)} and
+ * {@link RequireMap#requireForAllValue(Map, Function, String)}, apply to each element.
+ *
+ * <p>
+ * The cost is disabled until {@link #enable(int)}; then, one in every sample interval applications, at random, is
+ * timed with {@link System#nanoTime()}, and the time is attributed to the label of the requirement function, and to the
+ * name of the collection or map. While the cost is disabled, an application reads one volatile field.
+ *
+ * <p>
+ * The label of a requirement function is the label that {@link #label(Function, String)} or
+ * {@link #label(BiFunction, String)} gave it; otherwise, for a {@link RequireResultCache}, the label of its requirement
+ * function, within {@code RequireResultCache(...)}; otherwise, the name of its class, without the address that the JVM
+ * appends to the name of the class of a lambda.
+ */
+public final class RequireCost
+{
+    private RequireCost()
+    {
+    }
+
+    /**
+     * The cost of a requirement function for the name of a collection or map.
+     */
+    public static final class Snapshot
+    {
+        private final String requirement;
+        private final String name;
+        private final long sampleCount;
+        private final long totalNanoseconds;
+        private final long maximumNanoseconds;
+
+        private Snapshot(
+                final String requirement,
+                final String name,
+                final long sampleCount,
+                final long totalNanoseconds,
+                final long maximumNanoseconds)
+        {
+            this.requirement = requirement;
+            this.name = name;
+            this.sampleCount = sampleCount;
+            this.totalNanoseconds = totalNanoseconds;
+            this.maximumNanoseconds = maximumNanoseconds;
+        }
+
+        /**
+         * Return the label of the requirement function.
+         *
+         * @return the label of the requirement function
+         */
+        public String getRequirement()
+        {
+            return requirement;
+        }
+
+        /**
+         * Return the name of the collection or map.
+         *
+         * @return the name of the collection or map
+         */
+        public String getName()
+        {
+            return name;
+        }
+
+        /**
+         * Return the number of timed applications.
+         *
+         * @return the number of timed applications
+         */
+        public long getSampleCount()
+        {
+            return sampleCount;
+        }
+
+        /**
+         * Return the total time of the timed applications, in nanoseconds.
+         *
+         * @return the total time of the timed applications, in nanoseconds
+         */
+        public long getTotalNanoseconds()
+        {
+            return totalNanoseconds;
+        }
+
+        /**
+         * Return the maximum time of a timed application, in nanoseconds.
+         *
+         * @return the maximum time of a timed application, in nanoseconds
+         */
+        public long getMaximumNanoseconds()
+        {
+            return maximumNanoseconds;
+        }
+
+        /**
+         * Return the mean time of a timed application, in nanoseconds.
+         *
+         * @return the mean time of a timed application, in nanoseconds
+         */
+        public long getMeanNanoseconds()
+        {
+            return sampleCount == 0 ? 0 : totalNanoseconds / sampleCount;
+        }
+
+        @Override
+        public String toString()
+        {
+            return format("%s(%s): sampleCount=%s, totalNanoseconds=%s, meanNanoseconds=%s, maximumNanoseconds=%s",
+                    requirement,
+                    name,
+                    sampleCount,
+                    totalNanoseconds,
+                    getMeanNanoseconds(),
+                    maximumNanoseconds);
+        }
+    }
+
+    private static final class Cost
+    {
+        private final LongAdder sampleCount = new LongAdder();
+        private final LongAdder totalNanoseconds = new LongAdder();
+        private final LongAccumulator maximumNanoseconds = new LongAccumulator(Math::max, 0);
+    }
+
+    // a requirement function with a label.
+    private interface Labeled
+    {
+        String getLabel();
+    }
+
+    private static final class LabeledFunction<T1, T2> implements Function<T1, T2>, Labeled
+    {
+        private final Function<T1, T2> require;
+        private final String label;
+
+        private LabeledFunction(
+                final Function<T1, T2> require,
+                final String label)
+        {
+            this.require = require;
+            this.label = label;
+        }
+
+        @Override
+        public T2 apply(
+                final T1 value)
+        {
+            return require.apply(value);
+        }
+
+        @Override
+        public String getLabel()
+        {
+            return label;
+        }
+
+        @Override
+        public String toString()
+        {
+            return label;
+        }
+    }
+
+    private static final class LabeledBiFunction<T1, T2, T3> implements BiFunction<T1, T2, T3>, Labeled
+    {
+        private final BiFunction<T1, T2, T3> require;
+        private final String label;
+
+        private LabeledBiFunction(
+                final BiFunction<T1, T2, T3> require,
+                final String label)
+        {
+            this.require = require;
+            this.label = label;
+        }
+
+        @Override
+        public T3 apply(
+                final T1 value1,
+                final T2 value2)
+        {
+            return require.apply(value1, value2);
+        }
+
+        @Override
+        public String getLabel()
+        {
+            return label;
+        }
+
+        @Override
+        public String toString()
+        {
+            return label;
+        }
+    }
+
+    // the label of a requirement function of a class, computed once for the class; the name of the hidden class of a
+    // lambda ends with a slash and an address that differs from run to run.
+    private static final ClassValue<String> CLASS_LABEL = new ClassValue<>()
+    {
+        @Override
+        protected String computeValue(
+                final Class<?> type)
+        {
+            final String name = type.getName();
+            final int index = name.indexOf('/');
+
+            return index < 0 ? name : name.substring(0, index);
+        }
+    };
+
+    // the sample interval; zero if the cost is disabled.
+    private static volatile int sampleInterval = 0;
+
+    // the costs, by requirement function label and then by name, so that recording a time does not allocate a key.
+    private static final Map<String, Map<String, Cost>> costMap = new ConcurrentHashMap<>();
+
+    static boolean isSampled()
+    {
+        final int sampleInterval = RequireCost.sampleInterval;
+
+        return sampleInterval != 0 && (sampleInterval == 1 || ThreadLocalRandom.current().nextInt(sampleInterval) == 0);
+    }
+
+    // return the label of the given requirement function.
+    private static String label(
+            final Object require)
+    {
+        if (require instanceof Labeled)
+        {
+            return ((Labeled) require).getLabel();
+        }
+        else if (require instanceof RequireResultCache<?>)
+        {
+            return "RequireResultCache(" + label(((RequireResultCache<?>) require).getRequire()) + ")";
+        }
+        else
+        {
+            return CLASS_LABEL.get(require.getClass());
+        }
+    }
+
+    static void record(
+            final Object require,
+            final String name,
+            final long nanoseconds)
+    {
+        final Cost cost = costMap
+                .computeIfAbsent(label(require), key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(name, key -> new Cost());
+
+        cost.sampleCount.increment();
+        cost.totalNanoseconds.add(nanoseconds);
+        cost.maximumNanoseconds.accumulate(nanoseconds);
+    }
+
+    /**
+     * Return a requirement function that applies the given requirement function, and to which the cost attributes the
+     * given label.
+     *
+     * @param  require                  the given requirement function
+     * @param  label                    the given label
+     * @param  <T1>                     the type of the value
+     * @param  <T2>                     the type of the result
+     * 
+     * @return                          a requirement function that applies the given requirement function, with the
+     *                                  given label
+     * 
+     * @throws NullPointerException     if require is null
+     * @throws NullPointerException     if label is null
+     * @throws IllegalArgumentException if label is blank
+     */
+    public static <T1, T2> Function<T1, T2> label(
+            final Function<T1, T2> require,
+            final String label)
+    {
+        requireNonNull(require, "require");
+        requireNonNull(label, "label");
+        requireNonBlankHelper(label, "label");
+
+        return new LabeledFunction<>(require, label);
+    }
+
+    /**
+     * Return a requirement function that applies the given requirement function, and to which the cost attributes the
+     * given label.
+     *
+     * @param  require                  the given requirement function
+     * @param  label                    the given label
+     * @param  <T1>                     the type of the first value
+     * @param  <T2>                     the type of the second value
+     * @param  <T3>                     the type of the result
+     * 
+     * @return                          a requirement function that applies the given requirement function, with the
+     *                                  given label
+     * 
+     * @throws NullPointerException     if require is null
+     * @throws NullPointerException     if label is null
+     * @throws IllegalArgumentException if label is blank
+     */
+    public static <T1, T2, T3> BiFunction<T1, T2, T3> label(
+            final BiFunction<T1, T2, T3> require,
+            final String label)
+    {
+        requireNonNull(require, "require");
+        requireNonNull(label, "label");
+        requireNonBlankHelper(label, "label");
+
+        return new LabeledBiFunction<>(require, label);
+    }
+
+    /**
+     * Enable the cost, and time one in every given sample interval applications of a requirement function.
+     *
+     * @param  sampleInterval           the given sample interval
+     * 
+     * @throws IllegalArgumentException if sampleInterval is not positive
+     */
+    public static void enable(
+            final int sampleInterval)
+    {
+        RequireCost.sampleInterval = requirePositive(sampleInterval, "sampleInterval");
+    }
+
+    /**
+     * Disable the cost; the costs remain.
+     */
+    public static void disable()
+    {
+        sampleInterval = 0;
+    }
+
+    /**
+     * Return true if the cost is enabled.
+     *
+     * @return true if the cost is enabled
+     */
+    public static boolean isEnabled()
+    {
+        return sampleInterval != 0;
+    }
+
+    /**
+     * Remove every cost.
+     */
+    public static void reset()
+    {
+        costMap.clear();
+    }
+
+    /**
+     * Return the cost of each requirement function for each name, by descending total time.
+     *
+     * @return the cost of each requirement function for each name, by descending total time
+     */
+    public static List<Snapshot> snapshot()
+    {
+        final List<Snapshot> list = new ArrayList<>();
+
+        costMap.forEach((requirement, costMapForRequirement) -> costMapForRequirement.forEach((name, cost) -> list.add(new Snapshot(
+                requirement,
+                name,
+                cost.sampleCount.sum(),
+                cost.totalNanoseconds.sum(),
+                cost.maximumNanoseconds.get()))));
+
+        list.sort(Comparator.comparingLong(Snapshot::getTotalNanoseconds).reversed());
+
+        return list;
+    }
+
+    /**
+     * Return the cost of each requirement function for the given name, by descending total time.
+     *
+     * @param  name                     the given name
+     * 
+     * @return                          the cost of each requirement function for the given name, by descending total time
+     * 
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static List<Snapshot> snapshot(
+            final String name)
+    {
+        requireName(name);
+
+        final List<Snapshot> list = snapshot();
+
+        list.removeIf(snapshot -> !snapshot.getName().equals(name));
+
+        return list;
+    }
+}
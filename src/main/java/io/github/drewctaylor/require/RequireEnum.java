@@ -0,0 +1,212 @@
+package io.github.drewctaylor.require;
+
+import static io.github.drewctaylor.require.Require.requireName;
+import static io.github.drewctaylor.require.Require.requireNonNull;
+
+/**
+ * Require that a string name a constant of an enum, exactly or ignoring case.
+ *
+ * <p>
+ * Each enum has a lookup table, computed once, that maps the hash of a name to a constant; a lookup compares the
+ * characters of a string or a character sequence in place, so it neither allocates nor throws unless the name is
+ * invalid.
+ */
+public final class RequireEnum
+{
+    private RequireEnum()
+    {
+    }
+
+    private static final ClassValue<EnumTable> enumTableClassValue = new ClassValue<>()
+    {
+        @Override
+        protected EnumTable computeValue(
+                final Class<?> type)
+        {
+            return new EnumTable((Enum<?>[]) type.getEnumConstants());
+        }
+    };
+
+    // an open-addressing hash table of the constants of an enum, by name and by name ignoring case; a character is
+    // folded as String.equalsIgnoreCase compares it, so that two names have the same folded hash if they are equal
+    // ignoring case.
+    private static final class EnumTable
+    {
+        private final Enum<?>[] enumArray;
+        private final Enum<?>[] enumArrayIgnoreCase;
+        private final int mask;
+
+        private EnumTable(
+                final Enum<?>[] enumConstantArray)
+        {
+            this.mask = Integer.highestOneBit(Math.max(1, enumConstantArray.length) * 2) * 2 - 1;
+            this.enumArray = new Enum<?>[mask + 1];
+            this.enumArrayIgnoreCase = new Enum<?>[mask + 1];
+
+            for (final Enum<?> enumConstant : enumConstantArray)
+            {
+                put(enumArray, enumConstant, hash(enumConstant.name(), false), false);
+                put(enumArrayIgnoreCase, enumConstant, hash(enumConstant.name(), true), true);
+            }
+        }
+
+        private void put(
+                final Enum<?>[] array,
+                final Enum<?> enumConstant,
+                final int hash,
+                final boolean ignoreCase)
+        {
+            int index = hash & mask;
+
+            while (array[index] != null)
+            {
+                // if two constants are equal ignoring case, keep the first.
+                if (equals(array[index].name(), enumConstant.name(), ignoreCase))
+                {
+                    return;
+                }
+
+                index = index + 1 & mask;
+            }
+
+            array[index] = enumConstant;
+        }
+
+        private Enum<?> get(
+                final CharSequence value,
+                final boolean ignoreCase)
+        {
+            final Enum<?>[] array = ignoreCase ? enumArrayIgnoreCase : enumArray;
+            int index = hash(value, ignoreCase) & mask;
+
+            while (array[index] != null)
+            {
+                if (equals(array[index].name(), value, ignoreCase))
+                {
+                    return array[index];
+                }
+
+                index = index + 1 & mask;
+            }
+
+            return null;
+        }
+
+        private static char fold(
+                final char character,
+                final boolean ignoreCase)
+        {
+            return ignoreCase ? Character.toLowerCase(Character.toUpperCase(character)) : character;
+        }
+
+        private static int hash(
+                final CharSequence value,
+                final boolean ignoreCase)
+        {
+            int hash = 0;
+
+            for (int index = 0; index < value.length(); index++)
+            {
+                hash = 31 * hash + fold(value.charAt(index), ignoreCase);
+            }
+
+            return hash ^ hash >>> 16;
+        }
+
+        private static boolean equals(
+                final String name,
+                final CharSequence value,
+                final boolean ignoreCase)
+        {
+            if (name.length() != value.length())
+            {
+                return false;
+            }
+
+            for (int index = 0; index < name.length(); index++)
+            {
+                if (fold(name.charAt(index), ignoreCase) != fold(value.charAt(index), ignoreCase))
+                {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+    private static <ENUM extends Enum<ENUM>> ENUM requireEnum(
+            final CharSequence value,
+            final Class<ENUM> type,
+            final String name,
+            final boolean ignoreCase)
+    {
+        requireNonNull(value, "value");
+        requireNonNull(type, "type");
+        requireName(name);
+
+        final Enum<?> enumConstant = enumTableClassValue.get(type).get(value, ignoreCase);
+
+        RequireMetrics.record(ignoreCase ? "RequireEnum.requireEnumIgnoreCase" : "RequireEnum.requireEnum", name, enumConstant == null);
+
+        if (enumConstant == null)
+        {
+            throw RequirementViolation.ofType(name, value, type, null);
+        }
+
+        return type.cast(enumConstant);
+    }
+
+    /**
+     * Return the constant of the given enum with the given name, if it exists; otherwise, throw an
+     * IllegalArgumentException.
+     *
+     * @param  value                    the given name
+     * @param  type                     the given enum
+     * @param  name                     the name of the given value
+     * @param  <ENUM>                   the type of the enum
+     * 
+     * @return                          the constant of the given enum with the given name, if it exists
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws NullPointerException     if type is null
+     * @throws IllegalArgumentException if the given enum does not have a constant with the given name
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static <ENUM extends Enum<ENUM>> ENUM requireEnum(
+            final CharSequence value,
+            final Class<ENUM> type,
+            final String name)
+    {
+        return requireEnum(value, type, name, false);
+    }
+
+    /**
+     * Return the constant of the given enum with the given name, ignoring case, if it exists; otherwise, throw an
+     * IllegalArgumentException.
+     *
+     * <p>
+     * If the names of two constants of the given enum are equal ignoring case, return the one declared first.
+     *
+     * @param  value                    the given name
+     * @param  type                     the given enum
+     * @param  name                     the name of the given value
+     * @param  <ENUM>                   the type of the enum
+     * 
+     * @return                          the constant of the given enum with the given name, ignoring case, if it exists
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws NullPointerException     if type is null
+     * @throws IllegalArgumentException if the given enum does not have a constant with the given name, ignoring case
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static <ENUM extends Enum<ENUM>> ENUM requireEnumIgnoreCase(
+            final CharSequence value,
+            final Class<ENUM> type,
+            final String name)
+    {
+        return requireEnum(value, type, name, true);
+    }
+}
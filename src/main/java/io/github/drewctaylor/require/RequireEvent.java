@@ -0,0 +1,139 @@
+package io.github.drewctaylor.require;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Emit JDK Flight Recorder events when a requirement fails and when a requirement function is slow.
+ *
+ * <p>
+ * Each method creates an event and, unless the recording enables the event and the event meets its threshold, neither
+ * renders the value nor commits the event; the recording settings {@code io.github.drewctaylor.require.Failure#enabled}
+ * and {@code io.github.drewctaylor.require.Duration#threshold} configure them.
+ */
+final class RequireEvent
+{
+    private RequireEvent()
+    {
+    }
+
+    // the maximum number of characters of a value in an event.
+    private static final int VALUE_LENGTH_MAXIMUM = 256;
+
+    @Name("io.github.drewctaylor.require.Failure")
+    @Label("Requirement Failure")
+    @Category("Require")
+    @Description("A requirement failed.")
+    @StackTrace(true)
+    static final class Failure extends Event
+    {
+        @Label("Method")
+        String method;
+
+        @Label("Name")
+        String name;
+
+        @Label("Kind")
+        @Description("The kind of requirement that failed, if the exception is a RequirementViolation.")
+        String kind;
+
+        @Label("Value")
+        String value;
+
+        @Label("Message")
+        String message;
+    }
+
+    @Name("io.github.drewctaylor.require.Duration")
+    @Label("Requirement Duration")
+    @Category("Require")
+    @Description("A requirement function took at least the threshold to complete.")
+    @Threshold("20 ms")
+    @StackTrace(true)
+    static final class Duration extends Event
+    {
+        @Label("Method")
+        String method;
+
+        @Label("Name")
+        String name;
+
+        @Label("Value")
+        String value;
+
+        @Label("Failure")
+        boolean failure;
+    }
+
+    static String render(
+            final Object value)
+    {
+        return RequireRender.render(value, VALUE_LENGTH_MAXIMUM);
+    }
+
+    /**
+     * Commit a failure event for the given method, name, value, and exception, and for the kind of the exception, if it
+     * is a RequirementViolation, if the recording enables it; return the given exception, so that the caller may throw
+     * it.
+     */
+    static <EXCEPTION extends RuntimeException> EXCEPTION failure(
+            final String method,
+            final String name,
+            final Object value,
+            final EXCEPTION runtimeException)
+    {
+        final Failure failure = new Failure();
+
+        if (failure.isEnabled())
+        {
+            failure.method = method;
+            failure.name = name;
+            failure.kind = runtimeException instanceof RequirementViolation ? ((RequirementViolation) runtimeException).getKind().name() : null;
+            failure.value = render(value);
+            failure.message = runtimeException.getMessage();
+            failure.commit();
+        }
+
+        return runtimeException;
+    }
+
+    /**
+     * Return a duration event that has begun.
+     */
+    static Duration begin()
+    {
+        final Duration duration = new Duration();
+
+        duration.begin();
+
+        return duration;
+    }
+
+    /**
+     * End the given duration event, and commit it for the given method, name, value, and failure, if it meets the
+     * threshold.
+     */
+    static void end(
+            final Duration duration,
+            final String method,
+            final String name,
+            final Object value,
+            final boolean failure)
+    {
+        duration.end();
+
+        if (duration.shouldCommit())
+        {
+            duration.method = method;
+            duration.name = name;
+            duration.value = render(value);
+            duration.failure = failure;
+            duration.commit();
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package io.github.drewctaylor.require;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+/**
+ * Remember, by identity, the immutable collections and maps that met a requirement, so that a collection or map
+ * requirement, such as {@link RequireCollection#requireForAll(java.util.Collection, Function, String)}, does not
+ * validate the same instance with the same requirement function twice.
+ *
+ * <p>
+ * The cache is disabled until {@link #enable()}. It remembers only the instances of the classes that
+ * {@link List#of()}, {@link List#copyOf(java.util.Collection)}, {@link Set#of()}, {@link Map#of()}, and the like return,
+ * which are immutable; it refers to the instances and to the requirement functions weakly, so that it does not keep
+ * them from being garbage collected. A requirement function is identified by identity: a lambda that captures no
+ * variables is the same instance on every evaluation, while a lambda that captures a variable may not be.
+ *
+ * <p>
+ * Enable the cache only if each requirement function depends on nothing but the elements, and the elements themselves
+ * do not change; the cache cannot detect a requirement function that would now fail for an instance that once met it.
+ */
+public final class RequireIdentityCache
+{
+    private RequireIdentityCache()
+    {
+    }
+
+    // the classes of the immutable collections and maps; some factory methods share a class, which the set collapses.
+    private static final Set<Class<?>> immutableClassSet = Stream.of(
+            List.of().getClass(),
+            List.of(0).getClass(),
+            List.of(0, 1, 2).getClass(),
+            List.of(0, 1, 2).subList(0, 1).getClass(),
+            Set.of().getClass(),
+            Set.of(0).getClass(),
+            Set.of(0, 1, 2).getClass(),
+            Map.of().getClass(),
+            Map.of(0, 0).getClass(),
+            Map.of(0, 0, 1, 1).getClass())
+            .collect(toUnmodifiableSet());
+
+    // a weak reference that is equal to another if they refer to the same object, and that hashes by identity.
+    private static class IdentityWeakReference extends WeakReference<Object>
+    {
+        private final int hashCode;
+
+        private IdentityWeakReference(
+                final Object referent,
+                final ReferenceQueue<Object> referenceQueue)
+        {
+            super(referent, referenceQueue);
+            this.hashCode = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(
+                final Object object)
+        {
+            if (this == object)
+            {
+                return true;
+            }
+
+            if (!(object instanceof IdentityWeakReference))
+            {
+                return false;
+            }
+
+            final Object referent = get();
+
+            return referent != null && referent == ((IdentityWeakReference) object).get();
+        }
+    }
+
+    // a weak reference to a function of a requirement; when the function is garbage collected, the requirement is
+    // removed from the set of requirements of its instance.
+    private static final class FunctionWeakReference extends IdentityWeakReference
+    {
+        private Set<Requirement> requirementSet;
+        private Requirement requirement;
+
+        private FunctionWeakReference(
+                final Object referent,
+                final ReferenceQueue<Object> referenceQueue)
+        {
+            super(referent, referenceQueue);
+        }
+    }
+
+    // the identity of a requirement: the method, and the derivative function and the requirement function, by identity.
+    private static final class Requirement
+    {
+        private final String method;
+        private final IdentityWeakReference get;
+        private final IdentityWeakReference require;
+
+        private Requirement(
+                final String method,
+                final IdentityWeakReference get,
+                final IdentityWeakReference require)
+        {
+            this.method = method;
+            this.get = get;
+            this.require = require;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (method.hashCode() * 31 + get.hashCode()) * 31 + require.hashCode();
+        }
+
+        @Override
+        public boolean equals(
+                final Object object)
+        {
+            return object instanceof Requirement
+                    && method.equals(((Requirement) object).method)
+                    && get.equals(((Requirement) object).get)
+                    && require.equals(((Requirement) object).require);
+        }
+    }
+
+    // the maximum number of requirements for an instance; an instance validated with a new capturing lambda on each call
+    // would otherwise accumulate a requirement for each lambda until the lambdas are garbage collected.
+    private static final int REQUIREMENT_COUNT_MAXIMUM = 64;
+
+    private static volatile boolean enabled = false;
+
+    private static final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<>();
+    private static final Map<IdentityWeakReference, Set<Requirement>> requirementMap = new ConcurrentHashMap<>();
+
+    // remove the entries whose instances have been garbage collected, and the requirements whose functions have been
+    // garbage collected.
+    private static void expunge()
+    {
+        Reference<?> reference;
+
+        while ((reference = referenceQueue.poll()) != null)
+        {
+            if (reference instanceof FunctionWeakReference)
+            {
+                final FunctionWeakReference functionWeakReference = (FunctionWeakReference) reference;
+
+                if (functionWeakReference.requirementSet != null)
+                {
+                    functionWeakReference.requirementSet.remove(functionWeakReference.requirement);
+                }
+            }
+            else
+            {
+                requirementMap.remove(reference);
+            }
+        }
+    }
+
+    static boolean isCacheable(
+            final Object value)
+    {
+        return enabled && immutableClassSet.contains(value.getClass());
+    }
+
+    static boolean contains(
+            final Object value,
+            final String method,
+            final Object get,
+            final Object require)
+    {
+        final Set<Requirement> requirementSet = requirementMap.get(new IdentityWeakReference(value, null));
+
+        return requirementSet != null && requirementSet.contains(new Requirement(method, new IdentityWeakReference(get, null), new IdentityWeakReference(require, null)));
+    }
+
+    static void add(
+            final Object value,
+            final String method,
+            final Object get,
+            final Object require)
+    {
+        expunge();
+
+        final Set<Requirement> requirementSet = requirementMap.computeIfAbsent(new IdentityWeakReference(value, referenceQueue), key -> ConcurrentHashMap.newKeySet());
+
+        if (requirementSet.size() < REQUIREMENT_COUNT_MAXIMUM)
+        {
+            final FunctionWeakReference getWeakReference = new FunctionWeakReference(get, referenceQueue);
+            final FunctionWeakReference requireWeakReference = new FunctionWeakReference(require, referenceQueue);
+            final Requirement requirement = new Requirement(method, getWeakReference, requireWeakReference);
+
+            getWeakReference.requirementSet = requirementSet;
+            getWeakReference.requirement = requirement;
+            requireWeakReference.requirementSet = requirementSet;
+            requireWeakReference.requirement = requirement;
+
+            requirementSet.add(requirement);
+        }
+    }
+
+    /**
+     * Enable the cache.
+     */
+    public static void enable()
+    {
+        enabled = true;
+    }
+
+    /**
+     * Disable the cache, and remove every instance from it.
+     */
+    public static void disable()
+    {
+        enabled = false;
+        clear();
+    }
+
+    /**
+     * Return true if the cache is enabled.
+     *
+     * @return true if the cache is enabled
+     */
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Remove every instance from the cache.
+     */
+    public static void clear()
+    {
+        requirementMap.clear();
+        expunge();
+    }
+
+    /**
+     * Return the number of instances in the cache.
+     *
+     * @return the number of instances in the cache
+     */
+    public static int size()
+    {
+        expunge();
+
+        return requirementMap.size();
+    }
+
+    /**
+     * Return the number of requirements in the cache, for all instances.
+     *
+     * @return the number of requirements in the cache
+     */
+    public static int requirementCount()
+    {
+        expunge();
+
+        return requirementMap.values().stream().mapToInt(Set::size).sum();
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.drewctaylor.require;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+
+import static io.github.drewctaylor.require.Require.requireNonNull;
+
+/**
+ * The level of a requirement: a requirement at a level runs only while the level is enabled.
+ *
+ * <p>
+ * The levels are ordered: {@link #setLevel(RequireLevel)} enables the given level and every level before it, and
+ * disables every level after it. {@link #ALWAYS} is always enabled; {@link #STANDARD} is enabled and {@link #PARANOID}
+ * is disabled unless the system property {@value #PROPERTY} names another level; a system property that names no level
+ * is ignored.
+ *
+ * <p>
+ * Whether a level is enabled is the constant target of a {@link MutableCallSite}, which the JIT compiler may fold into
+ * the code that checks it; a requirement at a disabled level then costs nothing. Changing the level changes the target
+ * and deoptimizes the code that folded the old target, so a change is expensive, but rare.
+ */
+public enum RequireLevel
+{
+    /**
+     * The level of a requirement that always runs.
+     */
+    ALWAYS,
+
+    /**
+     * The level of a requirement that runs unless the level is {@link #ALWAYS}.
+     */
+    STANDARD,
+
+    /**
+     * The level of an expensive requirement that runs only if the level is {@link #PARANOID}.
+     */
+    PARANOID;
+
+    /**
+     * The system property that names the initial level.
+     */
+    public static final String PROPERTY = "io.github.drewctaylor.require.level";
+
+    private static final MutableCallSite STANDARD_CALL_SITE = new MutableCallSite(MethodType.methodType(boolean.class));
+    private static final MutableCallSite PARANOID_CALL_SITE = new MutableCallSite(MethodType.methodType(boolean.class));
+
+    // the invokers must be static and final, so that the JIT compiler treats them, and the targets of their call sites,
+    // as constants.
+    private static final MethodHandle STANDARD_INVOKER = STANDARD_CALL_SITE.dynamicInvoker();
+    private static final MethodHandle PARANOID_INVOKER = PARANOID_CALL_SITE.dynamicInvoker();
+
+    private static volatile RequireLevel level;
+
+    static
+    {
+        setLevel(levelProperty());
+    }
+
+    // return the level that the system property names, ignoring case, or STANDARD, if it is absent or names no level;
+    // every requirement at a level depends on this class, so its initializer must not throw.
+    private static RequireLevel levelProperty()
+    {
+        final String name = System.getProperty(PROPERTY, STANDARD.name());
+
+        for (final RequireLevel level : values())
+        {
+            if (level.name().equalsIgnoreCase(name))
+            {
+                return level;
+            }
+        }
+
+        return STANDARD;
+    }
+
+    private static void setTarget(
+            final MutableCallSite mutableCallSite,
+            final boolean enabled)
+    {
+        mutableCallSite.setTarget(MethodHandles.constant(boolean.class, enabled));
+    }
+
+    /**
+     * Enable the given level and every level before it, and disable every level after it.
+     *
+     * @param  level                the given level
+     * 
+     * @throws NullPointerException if level is null
+     */
+    public static synchronized void setLevel(
+            final RequireLevel level)
+    {
+        requireNonNull(level, "level");
+
+        if (level != RequireLevel.level)
+        {
+            setTarget(STANDARD_CALL_SITE, level.compareTo(STANDARD) >= 0);
+            setTarget(PARANOID_CALL_SITE, level.compareTo(PARANOID) >= 0);
+
+            MutableCallSite.syncAll(new MutableCallSite[]{STANDARD_CALL_SITE, PARANOID_CALL_SITE});
+
+            RequireLevel.level = level;
+        }
+    }
+
+    /**
+     * Return the level: the last level enabled.
+     *
+     * @return the level
+     */
+    public static RequireLevel getLevel()
+    {
+        return level;
+    }
+
+    private static boolean invoke(
+            final MethodHandle methodHandle)
+    {
+        try
+        {
+            return (boolean) methodHandle.invokeExact();
+        }
+        catch (final Throwable throwable)
+        {
+            // the target is a constant, which does not throw.
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Return true if this level is enabled.
+     *
+     * @return true if this level is enabled
+     */
+    public boolean isEnabled()
+    {
+        // compare by identity rather than switch, so that the comparisons fold if this level is a constant.
+        return this == ALWAYS || (this == STANDARD ? invoke(STANDARD_INVOKER) : invoke(PARANOID_INVOKER));
+    }
+}
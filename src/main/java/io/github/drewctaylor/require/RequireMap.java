@@ -1,6 +1,13 @@
 package io.github.drewctaylor.require;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import static io.github.drewctaylor.require.Require.requireName;
@@ -17,11 +24,14 @@ import static io.github.drewctaylor.require.RequireBound.requireLessThanOrEqual;
 import static io.github.drewctaylor.require.RequireCollection.requireForAll;
 import static io.github.drewctaylor.require.RequireCollection.requireThereExists;
 import static io.github.drewctaylor.require.RequireNumberInteger.requireZeroOrPositive;
+import static io.github.drewctaylor.require.RequireNumberLong.requirePositive;
+import static java.util.AbstractMap.SimpleImmutableEntry;
+import static java.util.Map.Entry;
 
 /**
  * Require a map to be empty or non-empty, to have a size within bounds, to have at least one key meet a requirement, to
- * have all keys meet a requirement, to have at least one value meet a requirement, or to have all values meet a
- * requirement.
+ * have all keys meet a requirement, to have at least one value meet a requirement, to have all values meet a
+ * requirement, to have at least one entry meet a requirement, or to have all entries meet a requirement.
  */
 
 public final class RequireMap
@@ -30,6 +40,11 @@ public final class RequireMap
     {
     }
 
+    /**
+     * The parallelism threshold with which a {@link ConcurrentHashMap} is validated, if the caller does not specify one.
+     */
+    public static final long PARALLELISM_THRESHOLD = 10_000L;
+
     /**
      * Return the given map, if empty; otherwise, throw an IllegalArgumentException.
      *
@@ -376,9 +391,99 @@ public final class RequireMap
         return requireBoundMinimumInclusiveMaximumExclusive(map, Map::size, minimum, maximum, name, "size");
     }
 
+    private static <KEY, VALUE> boolean requireEntry(
+            final KEY key,
+            final VALUE value,
+            final BiFunction<KEY, VALUE, ?> require,
+            final Object requirement,
+            final Collection<Entry<KEY, RuntimeException>> collection,
+            final String method,
+            final String parameterName)
+    {
+        try
+        {
+            RequireApply.apply(method, parameterName, requirement, require, key, value);
+            return true;
+        }
+        catch (final RuntimeException runtimeException)
+        {
+            collection.add(new SimpleImmutableEntry<>(key, runtimeException));
+            return false;
+        }
+    }
+
+    private static <KEY> RequirementViolation requireForAllException(
+            final Object value,
+            final String parameterName,
+            final String fieldName,
+            final Collection<Entry<KEY, RuntimeException>> collection)
+    {
+        return RequirementViolation.ofKey(RequirementViolation.Kind.FOR_ALL, parameterName, fieldName, value, collection);
+    }
+
+    private static <KEY> RequirementViolation requireThereExistsException(
+            final Object value,
+            final String parameterName,
+            final String fieldName,
+            final Collection<Entry<KEY, RuntimeException>> collection)
+    {
+        return RequirementViolation.ofKey(RequirementViolation.Kind.THERE_EXISTS, parameterName, fieldName, value, collection);
+    }
+
+    private static <KEY, VALUE> void requireForAllConcurrent(
+            final ConcurrentHashMap<KEY, VALUE> map,
+            final long parallelismThreshold,
+            final BiFunction<KEY, VALUE, ?> require,
+            final Object requirement,
+            final String parameterName,
+            final String fieldName,
+            final String method)
+    {
+        final Queue<Entry<KEY, RuntimeException>> queue = new ConcurrentLinkedQueue<>();
+
+        map.forEach(parallelismThreshold, (key, value) -> requireEntry(key, value, require, requirement, queue, method, parameterName));
+
+        RequireMetrics.record(method, parameterName, !queue.isEmpty());
+
+        if (!queue.isEmpty())
+        {
+            throw RequireEvent.failure(method, parameterName, map, requireForAllException(map, parameterName, fieldName, queue));
+        }
+    }
+
+    private static <KEY, VALUE> void requireThereExistsConcurrent(
+            final ConcurrentHashMap<KEY, VALUE> map,
+            final long parallelismThreshold,
+            final BiFunction<KEY, VALUE, ?> require,
+            final Object requirement,
+            final String parameterName,
+            final String fieldName,
+            final String method)
+    {
+        final Queue<Entry<KEY, RuntimeException>> queue = new ConcurrentLinkedQueue<>();
+        final boolean failure = map.search(parallelismThreshold, (key, value) -> requireEntry(key, value, require, requirement, queue, method, parameterName) ? key : null) == null;
+
+        RequireMetrics.record(method, parameterName, failure);
+
+        if (failure)
+        {
+            throw RequireEvent.failure(method, parameterName, map, requireThereExistsException(map, parameterName, fieldName, queue));
+        }
+    }
+
     /**
      * Return the given map, if all keys meet the given requirement.
      *
+     * <p>
+     * If the map is a {@link ConcurrentHashMap}, it is validated as by
+     * {@link #requireForAllKey(ConcurrentHashMap, long, Function, String)} with a parallelism threshold of
+     * {@value #PARALLELISM_THRESHOLD}.
+     *
+     * <p>
+     * The exception message identifies each key that fails the requirement by its index in {@link Map#keySet()};
+     * if the map is a {@link ConcurrentHashMap}, it identifies each entry that fails the requirement by its key, in no
+     * particular order.
+     *
      * @param  map                      the given map
      * @param  require                  the given requirement
      * @param  name                     the name of the given map
@@ -402,12 +507,68 @@ public final class RequireMap
         requireNonNull(require, "require");
         requireName(name);
 
-        return requireForAll(map, Map::keySet, require, name, "key");
+        if (map instanceof ConcurrentHashMap)
+        {
+            requireForAllConcurrent((ConcurrentHashMap<KEY, VALUE>) map, PARALLELISM_THRESHOLD, (key, value) -> require.apply(key), require, name, "key", "RequireMap.requireForAllKey");
+            return map;
+        }
+
+        return requireForAll(map, Map::keySet, require, name, "key", "RequireMap.requireForAllKey");
+    }
+
+    /**
+     * Return the given map, if all keys meet the given requirement.
+     *
+     * <p>
+     * The map is validated with {@link ConcurrentHashMap#forEach(long, java.util.function.BiConsumer)}, in parallel
+     * if the map has at least the given parallelism threshold of entries. The traversal is weakly consistent: it
+     * reflects the state of the map at some point at or since its start, and may or may not reflect concurrent updates.
+     * The exception message identifies each entry that fails the requirement by its key, in no particular order.
+     *
+     * @param  map                      the given map
+     * @param  parallelismThreshold     the (estimated) number of entries needed to validate the map in parallel
+     * @param  require                  the given requirement
+     * @param  name                     the name of the given map
+     * @param  <KEY>                    the type of map key
+     * @param  <VALUE>                  the type of the map value
+     * @param  <MAP>                    the type of the map
+     * 
+     * @return                          the given map, if all keys meet the given requirement.
+     * 
+     * @throws NullPointerException     if map is null
+     * @throws IllegalArgumentException if parallelismThreshold is not positive
+     * @throws NullPointerException     if require is null
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <KEY, VALUE, MAP extends ConcurrentHashMap<KEY, VALUE>> MAP requireForAllKey(
+            final MAP map,
+            final long parallelismThreshold,
+            final Function<KEY, KEY> require,
+            final String name)
+    {
+        requireNonNull(map, "map");
+        requirePositive(parallelismThreshold, "parallelismThreshold");
+        requireNonNull(require, "require");
+        requireName(name);
+
+        requireForAllConcurrent(map, parallelismThreshold, (key, value) -> require.apply(key), require, name, "key", "RequireMap.requireForAllKey");
+        return map;
     }
 
     /**
      * Return the given map, if at least one key meets the given requirement.
      *
+     * <p>
+     * If the map is a {@link ConcurrentHashMap}, it is validated as by
+     * {@link #requireThereExistsKey(ConcurrentHashMap, long, Function, String)} with a parallelism threshold of
+     * {@value #PARALLELISM_THRESHOLD}.
+     *
+     * <p>
+     * The exception message identifies each key that fails the requirement by its index in {@link Map#keySet()};
+     * if the map is a {@link ConcurrentHashMap}, it identifies each entry that fails the requirement by its key, in no
+     * particular order.
+     *
      * @param  map                      the given map
      * @param  require                  the given requirement
      * @param  name                     the name of the given map
@@ -431,12 +592,69 @@ public final class RequireMap
         requireNonNull(require, "require");
         requireName(name);
 
-        return requireThereExists(map, Map::keySet, require, name, "key");
+        if (map instanceof ConcurrentHashMap)
+        {
+            requireThereExistsConcurrent((ConcurrentHashMap<KEY, VALUE>) map, PARALLELISM_THRESHOLD, (key, value) -> require.apply(key), require, name, "key", "RequireMap.requireThereExistsKey");
+            return map;
+        }
+
+        return requireThereExists(map, Map::keySet, require, name, "key", "RequireMap.requireThereExistsKey");
+    }
+
+    /**
+     * Return the given map, if at least one key meets the given requirement.
+     *
+     * <p>
+     * The map is validated with {@link ConcurrentHashMap#search(long, BiFunction)}, in parallel if the map has at
+     * least the given parallelism threshold of entries, and the search stops once an entry meets the requirement. The
+     * traversal is weakly consistent: it reflects the state of the map at some point at or since its start, and may or
+     * may not reflect concurrent updates. The exception message identifies each entry that fails the requirement by
+     * its key, in no particular order.
+     *
+     * @param  map                      the given map
+     * @param  parallelismThreshold     the (estimated) number of entries needed to validate the map in parallel
+     * @param  require                  the given requirement
+     * @param  name                     the name of the given map
+     * @param  <KEY>                    the type of map key
+     * @param  <VALUE>                  the type of the map value
+     * @param  <MAP>                    the type of the map
+     * 
+     * @return                          the given map, if at least one key meets the given requirement.
+     * 
+     * @throws NullPointerException     if map is null
+     * @throws IllegalArgumentException if parallelismThreshold is not positive
+     * @throws NullPointerException     if require is null
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <KEY, VALUE, MAP extends ConcurrentHashMap<KEY, VALUE>> MAP requireThereExistsKey(
+            final MAP map,
+            final long parallelismThreshold,
+            final Function<KEY, KEY> require,
+            final String name)
+    {
+        requireNonNull(map, "map");
+        requirePositive(parallelismThreshold, "parallelismThreshold");
+        requireNonNull(require, "require");
+        requireName(name);
+
+        requireThereExistsConcurrent(map, parallelismThreshold, (key, value) -> require.apply(key), require, name, "key", "RequireMap.requireThereExistsKey");
+        return map;
     }
 
     /**
      * Return the given map, if all values meet the given requirement.
      *
+     * <p>
+     * If the map is a {@link ConcurrentHashMap}, it is validated as by
+     * {@link #requireForAllValue(ConcurrentHashMap, long, Function, String)} with a parallelism threshold of
+     * {@value #PARALLELISM_THRESHOLD}.
+     *
+     * <p>
+     * The exception message identifies each value that fails the requirement by its index in {@link Map#values()};
+     * if the map is a {@link ConcurrentHashMap}, it identifies each entry that fails the requirement by its key, in no
+     * particular order.
+     *
      * @param  map                      the given map
      * @param  require                  the given requirement
      * @param  name                     the name of the given map
@@ -460,12 +678,68 @@ public final class RequireMap
         requireNonNull(require, "require");
         requireName(name);
 
-        return requireForAll(map, Map::values, require, name, "map");
+        if (map instanceof ConcurrentHashMap)
+        {
+            requireForAllConcurrent((ConcurrentHashMap<KEY, VALUE>) map, PARALLELISM_THRESHOLD, (key, value) -> require.apply(value), require, name, "value", "RequireMap.requireForAllValue");
+            return map;
+        }
+
+        return requireForAll(map, Map::values, require, name, "value", "RequireMap.requireForAllValue");
+    }
+
+    /**
+     * Return the given map, if all values meet the given requirement.
+     *
+     * <p>
+     * The map is validated with {@link ConcurrentHashMap#forEach(long, java.util.function.BiConsumer)}, in parallel
+     * if the map has at least the given parallelism threshold of entries. The traversal is weakly consistent: it
+     * reflects the state of the map at some point at or since its start, and may or may not reflect concurrent updates.
+     * The exception message identifies each entry that fails the requirement by its key, in no particular order.
+     *
+     * @param  map                      the given map
+     * @param  parallelismThreshold     the (estimated) number of entries needed to validate the map in parallel
+     * @param  require                  the given requirement
+     * @param  name                     the name of the given map
+     * @param  <KEY>                    the type of map key
+     * @param  <VALUE>                  the type of the map value
+     * @param  <MAP>                    the type of the map
+     * 
+     * @return                          the given map, if all values meet the given requirement.
+     * 
+     * @throws NullPointerException     if map is null
+     * @throws IllegalArgumentException if parallelismThreshold is not positive
+     * @throws NullPointerException     if require is null
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <KEY, VALUE, MAP extends ConcurrentHashMap<KEY, VALUE>> MAP requireForAllValue(
+            final MAP map,
+            final long parallelismThreshold,
+            final Function<VALUE, VALUE> require,
+            final String name)
+    {
+        requireNonNull(map, "map");
+        requirePositive(parallelismThreshold, "parallelismThreshold");
+        requireNonNull(require, "require");
+        requireName(name);
+
+        requireForAllConcurrent(map, parallelismThreshold, (key, value) -> require.apply(value), require, name, "value", "RequireMap.requireForAllValue");
+        return map;
     }
 
     /**
      * Return the given map, if at least one value meets the given requirement.
      *
+     * <p>
+     * If the map is a {@link ConcurrentHashMap}, it is validated as by
+     * {@link #requireThereExistsValue(ConcurrentHashMap, long, Function, String)} with a parallelism threshold of
+     * {@value #PARALLELISM_THRESHOLD}.
+     *
+     * <p>
+     * The exception message identifies each value that fails the requirement by its index in {@link Map#values()};
+     * if the map is a {@link ConcurrentHashMap}, it identifies each entry that fails the requirement by its key, in no
+     * particular order.
+     *
      * @param  map                      the given map
      * @param  require                  the given requirement
      * @param  name                     the name of the given map
@@ -489,6 +763,380 @@ public final class RequireMap
         requireNonNull(require, "require");
         requireName(name);
 
-        return requireThereExists(map, Map::values, require, name, "map");
+        if (map instanceof ConcurrentHashMap)
+        {
+            requireThereExistsConcurrent((ConcurrentHashMap<KEY, VALUE>) map, PARALLELISM_THRESHOLD, (key, value) -> require.apply(value), require, name, "value", "RequireMap.requireThereExistsValue");
+            return map;
+        }
+
+        return requireThereExists(map, Map::values, require, name, "value", "RequireMap.requireThereExistsValue");
+    }
+
+    /**
+     * Return the given map, if at least one value meets the given requirement.
+     *
+     * <p>
+     * The map is validated with {@link ConcurrentHashMap#search(long, BiFunction)}, in parallel if the map has at
+     * least the given parallelism threshold of entries, and the search stops once an entry meets the requirement. The
+     * traversal is weakly consistent: it reflects the state of the map at some point at or since its start, and may or
+     * may not reflect concurrent updates. The exception message identifies each entry that fails the requirement by
+     * its key, in no particular order.
+     *
+     * @param  map                      the given map
+     * @param  parallelismThreshold     the (estimated) number of entries needed to validate the map in parallel
+     * @param  require                  the given requirement
+     * @param  name                     the name of the given map
+     * @param  <KEY>                    the type of map key
+     * @param  <VALUE>                  the type of the map value
+     * @param  <MAP>                    the type of the map
+     * 
+     * @return                          the given map, if at least one value meets the given requirement.
+     * 
+     * @throws NullPointerException     if map is null
+     * @throws IllegalArgumentException if parallelismThreshold is not positive
+     * @throws NullPointerException     if require is null
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <KEY, VALUE, MAP extends ConcurrentHashMap<KEY, VALUE>> MAP requireThereExistsValue(
+            final MAP map,
+            final long parallelismThreshold,
+            final Function<VALUE, VALUE> require,
+            final String name)
+    {
+        requireNonNull(map, "map");
+        requirePositive(parallelismThreshold, "parallelismThreshold");
+        requireNonNull(require, "require");
+        requireName(name);
+
+        requireThereExistsConcurrent(map, parallelismThreshold, (key, value) -> require.apply(value), require, name, "value", "RequireMap.requireThereExistsValue");
+        return map;
+    }
+
+    /**
+     * Return the given map, if all entries meet the given requirement.
+     *
+     * <p>
+     * The map is traversed once, with {@link Map#forEach(java.util.function.BiConsumer)}; the exception message identifies
+     * each entry that fails the requirement by its key. If the map is a {@link ConcurrentHashMap}, it is validated as by
+     * {@link #requireForAllEntry(ConcurrentHashMap, long, BiFunction, String)} with a parallelism threshold of
+     * {@value #PARALLELISM_THRESHOLD}.
+     *
+     * @param  map                      the given map
+     * @param  require                  the given requirement, which accepts the key and the value of an entry
+     * @param  name                     the name of the given map
+     * @param  <KEY>                    the type of map key
+     * @param  <VALUE>                  the type of the map value
+     * @param  <MAP>                    the type of the map
+     * 
+     * @return                          the given map, if all entries meet the given requirement.
+     * 
+     * @throws NullPointerException     if map is null
+     * @throws NullPointerException     if require is null
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <KEY, VALUE, MAP extends Map<KEY, VALUE>> MAP requireForAllEntry(
+            final MAP map,
+            final BiFunction<KEY, VALUE, VALUE> require,
+            final String name)
+    {
+        requireNonNull(map, "map");
+        requireNonNull(require, "require");
+        requireName(name);
+
+        if (map instanceof ConcurrentHashMap)
+        {
+            requireForAllConcurrent((ConcurrentHashMap<KEY, VALUE>) map, PARALLELISM_THRESHOLD, require, require, name, "entry", "RequireMap.requireForAllEntry");
+            return map;
+        }
+
+        final boolean cacheable = RequireIdentityCache.isCacheable(map);
+
+        if (cacheable && RequireIdentityCache.contains(map, "RequireMap.requireForAllEntry", require, require))
+        {
+            RequireMetrics.record("RequireMap.requireForAllEntry", name, false);
+            return map;
+        }
+
+        final List<Entry<KEY, RuntimeException>> list = new ArrayList<>();
+
+        map.forEach((key, value) -> requireEntry(key, value, require, require, list, "RequireMap.requireForAllEntry", name));
+
+        RequireMetrics.record("RequireMap.requireForAllEntry", name, !list.isEmpty());
+
+        if (!list.isEmpty())
+        {
+            throw RequireEvent.failure("RequireMap.requireForAllEntry", name, map, requireForAllException(map, name, "entry", list));
+        }
+
+        if (cacheable)
+        {
+            RequireIdentityCache.add(map, "RequireMap.requireForAllEntry", require, require);
+        }
+
+        return map;
+    }
+
+    /**
+     * Return the given map, if all entries meet the given requirement.
+     *
+     * <p>
+     * The map is validated with {@link ConcurrentHashMap#forEach(long, java.util.function.BiConsumer)}, in parallel
+     * if the map has at least the given parallelism threshold of entries. The traversal is weakly consistent: it
+     * reflects the state of the map at some point at or since its start, and may or may not reflect concurrent updates.
+     * The exception message identifies each entry that fails the requirement by its key, in no particular order.
+     *
+     * @param  map                      the given map
+     * @param  parallelismThreshold     the (estimated) number of entries needed to validate the map in parallel
+     * @param  require                  the given requirement, which accepts the key and the value of an entry
+     * @param  name                     the name of the given map
+     * @param  <KEY>                    the type of map key
+     * @param  <VALUE>                  the type of the map value
+     * @param  <MAP>                    the type of the map
+     * 
+     * @return                          the given map, if all entries meet the given requirement.
+     * 
+     * @throws NullPointerException     if map is null
+     * @throws IllegalArgumentException if parallelismThreshold is not positive
+     * @throws NullPointerException     if require is null
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <KEY, VALUE, MAP extends ConcurrentHashMap<KEY, VALUE>> MAP requireForAllEntry(
+            final MAP map,
+            final long parallelismThreshold,
+            final BiFunction<KEY, VALUE, VALUE> require,
+            final String name)
+    {
+        requireNonNull(map, "map");
+        requirePositive(parallelismThreshold, "parallelismThreshold");
+        requireNonNull(require, "require");
+        requireName(name);
+
+        requireForAllConcurrent(map, parallelismThreshold, require, require, name, "entry", "RequireMap.requireForAllEntry");
+        return map;
+    }
+
+    /**
+     * Return the given map, if at least one entry meets the given requirement.
+     *
+     * <p>
+     * The map is traversed once, and the traversal stops at the first entry that meets the requirement; the exception
+     * message identifies each entry that fails the requirement by its key. If the map is a {@link ConcurrentHashMap}, it is
+     * validated as by {@link #requireThereExistsEntry(ConcurrentHashMap, long, BiFunction, String)} with a parallelism
+     * threshold of {@value #PARALLELISM_THRESHOLD}.
+     *
+     * @param  map                      the given map
+     * @param  require                  the given requirement, which accepts the key and the value of an entry
+     * @param  name                     the name of the given map
+     * @param  <KEY>                    the type of map key
+     * @param  <VALUE>                  the type of the map value
+     * @param  <MAP>                    the type of the map
+     * 
+     * @return                          the given map, if at least one entry meets the given requirement.
+     * 
+     * @throws NullPointerException     if map is null
+     * @throws NullPointerException     if require is null
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <KEY, VALUE, MAP extends Map<KEY, VALUE>> MAP requireThereExistsEntry(
+            final MAP map,
+            final BiFunction<KEY, VALUE, VALUE> require,
+            final String name)
+    {
+        requireNonNull(map, "map");
+        requireNonNull(require, "require");
+        requireName(name);
+
+        if (map instanceof ConcurrentHashMap)
+        {
+            requireThereExistsConcurrent((ConcurrentHashMap<KEY, VALUE>) map, PARALLELISM_THRESHOLD, require, require, name, "entry", "RequireMap.requireThereExistsEntry");
+            return map;
+        }
+
+        final List<Entry<KEY, RuntimeException>> list = new ArrayList<>();
+
+        for (final Entry<KEY, VALUE> entry : map.entrySet())
+        {
+            if (requireEntry(entry.getKey(), entry.getValue(), require, require, list, "RequireMap.requireThereExistsEntry", name))
+            {
+                RequireMetrics.record("RequireMap.requireThereExistsEntry", name, false);
+                return map;
+            }
+        }
+
+        RequireMetrics.record("RequireMap.requireThereExistsEntry", name, true);
+
+        throw RequireEvent.failure("RequireMap.requireThereExistsEntry", name, map, requireThereExistsException(map, name, "entry", list));
+    }
+
+    /**
+     * Return the given map, if at least one entry meets the given requirement.
+     *
+     * <p>
+     * The map is validated with {@link ConcurrentHashMap#search(long, BiFunction)}, in parallel if the map has at
+     * least the given parallelism threshold of entries, and the search stops once an entry meets the requirement. The
+     * traversal is weakly consistent: it reflects the state of the map at some point at or since its start, and may or
+     * may not reflect concurrent updates. The exception message identifies each entry that fails the requirement by
+     * its key, in no particular order.
+     *
+     * @param  map                      the given map
+     * @param  parallelismThreshold     the (estimated) number of entries needed to validate the map in parallel
+     * @param  require                  the given requirement, which accepts the key and the value of an entry
+     * @param  name                     the name of the given map
+     * @param  <KEY>                    the type of map key
+     * @param  <VALUE>                  the type of the map value
+     * @param  <MAP>                    the type of the map
+     * 
+     * @return                          the given map, if at least one entry meets the given requirement.
+     * 
+     * @throws NullPointerException     if map is null
+     * @throws IllegalArgumentException if parallelismThreshold is not positive
+     * @throws NullPointerException     if require is null
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <KEY, VALUE, MAP extends ConcurrentHashMap<KEY, VALUE>> MAP requireThereExistsEntry(
+            final MAP map,
+            final long parallelismThreshold,
+            final BiFunction<KEY, VALUE, VALUE> require,
+            final String name)
+    {
+        requireNonNull(map, "map");
+        requirePositive(parallelismThreshold, "parallelismThreshold");
+        requireNonNull(require, "require");
+        requireName(name);
+
+        requireThereExistsConcurrent(map, parallelismThreshold, require, require, name, "entry", "RequireMap.requireThereExistsEntry");
+        return map;
+    }
+
+    /**
+     * Return the given map, if all keys of the given sample of the keys of the map meet the given requirement.
+     *
+     * <p>
+     * Only the keys of the sample are validated; the exception message estimates the failure rate of the map, with a
+     * 95% confidence interval, and identifies each key of the sample that fails the requirement by its index in the
+     * iteration order of the map.
+     *
+     * @param  map                      the given map
+     * @param  sample                   the given sample
+     * @param  require                  the given requirement
+     * @param  name                     the name of the given map
+     * @param  <KEY>                    the type of map key
+     * @param  <VALUE>                  the type of the map value
+     * @param  <MAP>                    the type of the map
+     * 
+     * @return                          the given map, if all keys of the given sample meet the given requirement
+     * 
+     * @throws NullPointerException     if map is null
+     * @throws NullPointerException     if sample is null
+     * @throws NullPointerException     if require is null
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <KEY, VALUE, MAP extends Map<KEY, VALUE>> MAP requireForAllKeySample(
+            final MAP map,
+            final RequireSample sample,
+            final Function<KEY, KEY> require,
+            final String name)
+    {
+        requireNonNull(map, "map");
+        requireNonNull(sample, "sample");
+        requireNonNull(require, "require");
+        requireName(name);
+
+        return RequireCollection.requireForAllSample(map, map.keySet(), sample, require, name, "key", "RequireMap.requireForAllKeySample");
+    }
+
+    /**
+     * Return the given map, if all values of the given sample of the values of the map meet the given requirement.
+     *
+     * <p>
+     * Only the values of the sample are validated; the exception message estimates the failure rate of the map, with a
+     * 95% confidence interval, and identifies each value of the sample that fails the requirement by its index in the
+     * iteration order of the map.
+     *
+     * @param  map                      the given map
+     * @param  sample                   the given sample
+     * @param  require                  the given requirement
+     * @param  name                     the name of the given map
+     * @param  <KEY>                    the type of map key
+     * @param  <VALUE>                  the type of the map value
+     * @param  <MAP>                    the type of the map
+     * 
+     * @return                          the given map, if all values of the given sample meet the given requirement
+     * 
+     * @throws NullPointerException     if map is null
+     * @throws NullPointerException     if sample is null
+     * @throws NullPointerException     if require is null
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <KEY, VALUE, MAP extends Map<KEY, VALUE>> MAP requireForAllValueSample(
+            final MAP map,
+            final RequireSample sample,
+            final Function<VALUE, VALUE> require,
+            final String name)
+    {
+        requireNonNull(map, "map");
+        requireNonNull(sample, "sample");
+        requireNonNull(require, "require");
+        requireName(name);
+
+        return RequireCollection.requireForAllSample(map, map.values(), sample, require, name, "value", "RequireMap.requireForAllValueSample");
+    }
+
+    /**
+     * Return the given map, if all entries of the given sample of the entries of the map meet the given requirement.
+     *
+     * <p>
+     * Only the entries of the sample are validated; the exception message estimates the failure rate of the map, with a
+     * 95% confidence interval, and identifies each entry of the sample that fails the requirement by its key.
+     *
+     * @param  map                      the given map
+     * @param  sample                   the given sample
+     * @param  require                  the given requirement, which accepts the key and the value of an entry
+     * @param  name                     the name of the given map
+     * @param  <KEY>                    the type of map key
+     * @param  <VALUE>                  the type of the map value
+     * @param  <MAP>                    the type of the map
+     * 
+     * @return                          the given map, if all entries of the given sample meet the given requirement
+     * 
+     * @throws NullPointerException     if map is null
+     * @throws NullPointerException     if sample is null
+     * @throws NullPointerException     if require is null
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <KEY, VALUE, MAP extends Map<KEY, VALUE>> MAP requireForAllEntrySample(
+            final MAP map,
+            final RequireSample sample,
+            final BiFunction<KEY, VALUE, VALUE> require,
+            final String name)
+    {
+        requireNonNull(map, "map");
+        requireNonNull(sample, "sample");
+        requireNonNull(require, "require");
+        requireName(name);
+
+        final List<Entry<Integer, Entry<KEY, VALUE>>> sampleList = sample.sample(map.entrySet());
+        final List<Entry<KEY, RuntimeException>> list = new ArrayList<>();
+
+        sampleList.forEach(entry -> requireEntry(entry.getValue().getKey(), entry.getValue().getValue(), require, require, list, "RequireMap.requireForAllEntrySample", name));
+
+        RequireMetrics.record("RequireMap.requireForAllEntrySample", name, !list.isEmpty());
+
+        if (!list.isEmpty())
+        {
+            final RequireSample.Estimate estimate = new RequireSample.Estimate(map.size(), sampleList.size(), list.size());
+
+            throw RequireEvent.failure("RequireMap.requireForAllEntrySample", name, map, RequirementViolation.ofKey(RequirementViolation.Kind.FOR_ALL_SAMPLE, name, "entry", map, list, estimate));
+        }
+
+        return map;
     }
 }
@@ -0,0 +1,155 @@
+package io.github.drewctaylor.require;
+
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * A failure message template, parsed once, that renders the same message that {@link String#format(String, Object...)}
+ * renders for the same format and arguments.
+ *
+ * <p>
+ * A template supports only the conversions that the failure messages use: {@code %s}, {@code %n}, and {@code %%}. It
+ * renders each argument with {@link String#valueOf(Object)}, unless the argument is {@link Formattable}, in which case it
+ * defers to {@link String#format(String, Object...)}, as {@code %s} would.
+ */
+final class RequireMessage
+{
+    // the messages for a value out of bounds.
+    static final RequireMessage LESS_THAN = of("%s must be less than '%s'; it is '%s'.");
+    static final RequireMessage LESS_THAN_OR_EQUAL = of("%s must be less than or equal to '%s'; it is '%s'.");
+    static final RequireMessage EQUAL = of("%s must be equal to '%s'; it is '%s'.");
+    static final RequireMessage GREATER_THAN_OR_EQUAL = of("%s must be greater than or equal to '%s'; it is '%s'.");
+    static final RequireMessage GREATER_THAN = of("%s must be greater than '%s'; it is '%s'.");
+    static final RequireMessage GREATER_THAN_OR_EQUAL_AND_LESS_THAN_OR_EQUAL = of("%s must be greater than or equal to '%s' and less than or equal to '%s'; it is '%s'.");
+    static final RequireMessage GREATER_THAN_AND_LESS_THAN = of("%s must be greater than '%s' and less than '%s'; it is '%s'.");
+    static final RequireMessage GREATER_THAN_AND_LESS_THAN_OR_EQUAL = of("%s must be greater than '%s' and less than or equal to '%s'; it is '%s'.");
+    static final RequireMessage GREATER_THAN_OR_EQUAL_AND_LESS_THAN = of("%s must be greater than or equal to '%s' and less than '%s'; it is '%s'.");
+
+    // the messages for a field of a value out of bounds.
+    static final RequireMessage FIELD_LESS_THAN = of("%s %s must be less than '%s'; it is '%s'.");
+    static final RequireMessage FIELD_LESS_THAN_OR_EQUAL = of("%s %s must be less than or equal to '%s'; it is '%s'.");
+    static final RequireMessage FIELD_EQUAL = of("%s %s must be equal to '%s'; it is '%s'.");
+    static final RequireMessage FIELD_GREATER_THAN_OR_EQUAL = of("%s %s must be greater than or equal to '%s'; it is '%s'.");
+    static final RequireMessage FIELD_GREATER_THAN = of("%s %s must be greater than '%s'; it is '%s'.");
+    static final RequireMessage FIELD_GREATER_THAN_OR_EQUAL_AND_LESS_THAN_OR_EQUAL = of("%s %s must be greater than or equal to '%s' and less than or equal to '%s'; it is '%s'.");
+    static final RequireMessage FIELD_GREATER_THAN_AND_LESS_THAN = of("%s %s must be greater than '%s' and less than '%s'; it is '%s'.");
+    static final RequireMessage FIELD_GREATER_THAN_AND_LESS_THAN_OR_EQUAL = of("%s %s must be greater than '%s' and less than or equal to '%s'; it is '%s'.");
+    static final RequireMessage FIELD_GREATER_THAN_OR_EQUAL_AND_LESS_THAN = of("%s %s must be greater than or equal to '%s' and less than '%s'; it is '%s'.");
+
+    // the other messages.
+    static final RequireMessage NULL = of("%s must be null; it is '%s'.");
+    static final RequireMessage TYPE = of("%s must be a %s; it is '%s'.");
+    static final RequireMessage BLANK = of("%s must be blank; it is '%s'.");
+    static final RequireMessage EMPTY = of("%s must be empty; it was '%s'.");
+    static final RequireMessage NON_EMPTY = of("%s must be non-empty.");
+    static final RequireMessage POSITIVE = of("%s must be positive; it is '%s'.");
+    static final RequireMessage ZERO_OR_POSITIVE = of("%s must be zero or positive; it is '%s'.");
+    static final RequireMessage ZERO = of("%s must be zero; it is '%s'.");
+    static final RequireMessage ZERO_OR_NEGATIVE = of("%s must be zero or negative; it is '%s'.");
+    static final RequireMessage NEGATIVE = of("%s must be negative; it is '%s'.");
+    static final RequireMessage MATCH = of("%s must match '%s'; it is '%s'.");
+    static final RequireMessage ELEMENT = of("%s: %s");
+    static final RequireMessage ELEMENT_MORE = of("... and %s more");
+    static final RequireMessage FOR_ALL = of("Every %s of %s must meet the requirement:%n%s");
+    static final RequireMessage THERE_EXISTS = of("At least one %s of %s must exist that meets the requirement:%n%s");
+    static final RequireMessage FOR_ALL_SAMPLE = of("Every %s of %s must meet the requirement; %s:%n%s");
+
+    // the literals between the arguments; there is one more literal than there are arguments.
+    private final String[] literalArray;
+    private final int literalLength;
+
+    private RequireMessage(
+            final String[] literalArray)
+    {
+        int literalLength = 0;
+
+        for (final String literal : literalArray)
+        {
+            literalLength = literalLength + literal.length();
+        }
+
+        this.literalArray = literalArray;
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * Return a template for the given format.
+     *
+     * @throws IllegalArgumentException if the given format contains a conversion other than %s, %n, or %%
+     */
+    static RequireMessage of(
+            final String format)
+    {
+        final List<String> literalList = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+
+        for (int index = 0; index < format.length(); index++)
+        {
+            final char character = format.charAt(index);
+
+            if (character != '%')
+            {
+                literal.append(character);
+            }
+            else if (index + 1 < format.length() && format.charAt(index + 1) == 's')
+            {
+                literalList.add(literal.toString());
+                literal.setLength(0);
+                index++;
+            }
+            else if (index + 1 < format.length() && format.charAt(index + 1) == 'n')
+            {
+                literal.append(System.lineSeparator());
+                index++;
+            }
+            else if (index + 1 < format.length() && format.charAt(index + 1) == '%')
+            {
+                literal.append('%');
+                index++;
+            }
+            else
+            {
+                throw new IllegalArgumentException(format("format must contain only the conversions %%s, %%n, and %%%%; it is '%s'.", format));
+            }
+        }
+
+        literalList.add(literal.toString());
+
+        return new RequireMessage(literalList.toArray(new String[0]));
+    }
+
+    /**
+     * Return the message for the given arguments.
+     *
+     * @throws IllegalArgumentException if the number of arguments is not the number of %s conversions in the template
+     */
+    String render(
+            final Object... argumentArray)
+    {
+        if (argumentArray.length != literalArray.length - 1)
+        {
+            throw new IllegalArgumentException(format("argumentArray length must be '%s'; it is '%s'.", literalArray.length - 1, argumentArray.length));
+        }
+
+        final String[] stringArray = new String[argumentArray.length];
+        int length = literalLength;
+
+        for (int index = 0; index < argumentArray.length; index++)
+        {
+            stringArray[index] = argumentArray[index] instanceof Formattable ? format("%s", argumentArray[index]) : String.valueOf(argumentArray[index]);
+            length = length + stringArray[index].length();
+        }
+
+        final StringBuilder stringBuilder = new StringBuilder(length).append(literalArray[0]);
+
+        for (int index = 0; index < stringArray.length; index++)
+        {
+            stringBuilder.append(stringArray[index]).append(literalArray[index + 1]);
+        }
+
+        return stringBuilder.toString();
+    }
+}
@@ -0,0 +1,221 @@
+package io.github.drewctaylor.require;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static io.github.drewctaylor.require.Require.requireName;
+import static io.github.drewctaylor.require.Require.requireNonNull;
+
+/**
+ * Count the invocations and the failures of each requirement method for each name; the metrics are disabled until
+ * {@link #enable()}, which also registers them with the platform MBean server as {@value #OBJECT_NAME}.
+ *
+ * <p>
+ * The methods counted are the number requirements, such as {@code RequireNumberInteger.requirePositive}; the collection
+ * and map requirements, such as {@code RequireCollection.requireForAll} and {@code RequireMap.requireForAllEntry}; the
+ * pattern and format requirements, such as {@code RequireString.requireMatch} and {@code RequireString.requireUuid};
+ * and {@code RequireEnum.requireEnum}. While the metrics are disabled, a requirement reads one volatile field and counts
+ * nothing.
+ */
+public final class RequireMetrics
+{
+    private RequireMetrics()
+    {
+    }
+
+    /**
+     * The name with which the metrics are registered with the platform MBean server.
+     */
+    public static final String OBJECT_NAME = "io.github.drewctaylor.require:type=RequireMetrics";
+
+    private static final class Counter
+    {
+        private final LongAdder invocationCount = new LongAdder();
+        private final LongAdder failureCount = new LongAdder();
+    }
+
+    private static final class RequireMetricsMXBeanImplementation implements RequireMetricsMXBean
+    {
+        @Override
+        public boolean isEnabled()
+        {
+            return RequireMetrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(
+                final boolean enabled)
+        {
+            RequireMetrics.enabled = enabled;
+        }
+
+        @Override
+        public Map<String, Long> getInvocationCount()
+        {
+            return count(counter -> counter.invocationCount.sum());
+        }
+
+        @Override
+        public Map<String, Long> getFailureCount()
+        {
+            return count(counter -> counter.failureCount.sum());
+        }
+
+        @Override
+        public void reset()
+        {
+            RequireMetrics.reset();
+        }
+    }
+
+    private static volatile boolean enabled = false;
+    private static volatile boolean registered = false;
+
+    // the counters, by method and then by name, so that counting an invocation does not allocate a key.
+    private static final Map<String, Map<String, Counter>> counterMap = new ConcurrentHashMap<>();
+
+    static void record(
+            final String method,
+            final String name,
+            final boolean failure)
+    {
+        if (enabled)
+        {
+            final Counter counter = counterMap
+                    .computeIfAbsent(method, key -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(name, key -> new Counter());
+
+            counter.invocationCount.increment();
+
+            if (failure)
+            {
+                counter.failureCount.increment();
+            }
+        }
+    }
+
+    private static Map<String, Long> count(
+            final Function<Counter, Long> count)
+    {
+        final Map<String, Long> map = new TreeMap<>();
+
+        counterMap.forEach((method, counterMapForMethod) -> counterMapForMethod.forEach((name, counter) -> map.put(method + "(" + name + ")", count.apply(counter))));
+
+        return map;
+    }
+
+    private static Counter counter(
+            final String method,
+            final String name)
+    {
+        requireNonNull(method, "method");
+        requireName(name);
+
+        return counterMap.getOrDefault(method, Map.of()).get(name);
+    }
+
+    /**
+     * Enable the metrics, and register them with the platform MBean server, if they are not registered.
+     *
+     * @throws IllegalStateException if the metrics cannot be registered
+     */
+    public static synchronized void enable()
+    {
+        if (!registered)
+        {
+            try
+            {
+                final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+                final ObjectName objectName = new ObjectName(OBJECT_NAME);
+
+                if (!mBeanServer.isRegistered(objectName))
+                {
+                    mBeanServer.registerMBean(new RequireMetricsMXBeanImplementation(), objectName);
+                }
+
+                registered = true;
+            }
+            catch (final JMException jmException)
+            {
+                throw new IllegalStateException(jmException);
+            }
+        }
+
+        enabled = true;
+    }
+
+    /**
+     * Disable the metrics; the counts remain.
+     */
+    public static void disable()
+    {
+        enabled = false;
+    }
+
+    /**
+     * Return true if the metrics are enabled.
+     *
+     * @return true if the metrics are enabled
+     */
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Remove every count.
+     */
+    public static void reset()
+    {
+        counterMap.clear();
+    }
+
+    /**
+     * Return the number of invocations of the given method for the given name.
+     *
+     * @param  method                   the given method, such as {@code RequireCollection.requireForAll}
+     * @param  name                     the given name
+     * 
+     * @return                          the number of invocations of the given method for the given name
+     * 
+     * @throws NullPointerException     if method is null
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static long invocationCount(
+            final String method,
+            final String name)
+    {
+        final Counter counter = counter(method, name);
+
+        return counter == null ? 0 : counter.invocationCount.sum();
+    }
+
+    /**
+     * Return the number of failures of the given method for the given name.
+     *
+     * @param  method                   the given method, such as {@code RequireCollection.requireForAll}
+     * @param  name                     the given name
+     * 
+     * @return                          the number of failures of the given method for the given name
+     * 
+     * @throws NullPointerException     if method is null
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static long failureCount(
+            final String method,
+            final String name)
+    {
+        final Counter counter = counter(method, name);
+
+        return counter == null ? 0 : counter.failureCount.sum();
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.drewctaylor.require;
+
+import java.util.Map;
+
+/**
+ * The management interface of {@link RequireMetrics}, registered with the platform MBean server as
+ * {@value RequireMetrics#OBJECT_NAME}.
+ */
+public interface RequireMetricsMXBean
+{
+    /**
+     * Return true if the metrics are enabled.
+     *
+     * @return true if the metrics are enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * Enable or disable the metrics.
+     *
+     * @param enabled true to enable the metrics; false to disable them
+     */
+    void setEnabled(
+            boolean enabled);
+
+    /**
+     * Return the number of invocations of each method for each name, by {@code method(name)}.
+     *
+     * @return the number of invocations of each method for each name, by {@code method(name)}
+     */
+    Map<String, Long> getInvocationCount();
+
+    /**
+     * Return the number of failures of each method for each name, by {@code method(name)}.
+     *
+     * @return the number of failures of each method for each name, by {@code method(name)}
+     */
+    Map<String, Long> getFailureCount();
+
+    /**
+     * Remove every count.
+     */
+    void reset();
+}
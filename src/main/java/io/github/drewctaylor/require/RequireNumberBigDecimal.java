@@ -1,9 +1,20 @@
 package io.github.drewctaylor.require;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+
+import static io.github.drewctaylor.require.Require.requireName;
+import static io.github.drewctaylor.require.Require.requireNonNull;
+import static io.github.drewctaylor.require.RequireNumberHelper.compareTo;
+import static io.github.drewctaylor.require.RequireNumberHelper.digitCountMaximum;
+import static io.github.drewctaylor.require.RequireNumberHelper.digitCountMinimum;
+import static io.github.drewctaylor.require.RequireNumberHelper.parseBigDecimal;
+import static io.github.drewctaylor.require.RequireNumberHelper.parseBigDecimalInRange;
+import static io.github.drewctaylor.require.RequireNumberHelper.requireRange;
 
 /**
- * Require that a BigDecimal is positive, zero, or negative; require that a string represent a BigDecimal.
+ * Require that a BigDecimal is positive, zero, or negative, within long bounds, or has a scale or a precision of at most
+ * a maximum; require that a string, or a range of ASCII bytes, represent a BigDecimal, optionally within a range.
  */
 public final class RequireNumberBigDecimal
 {
@@ -132,4 +143,419 @@ public final class RequireNumberBigDecimal
     {
         return requireNumberHelper.requireNumber(value, name);
     }
+
+    /**
+     * Return the bytes of the given array from the given index, inclusive, to the given index, exclusive, as a
+     * BigDecimal, if they represent a BigDecimal as ASCII characters; otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The bytes are parsed in place, without an intermediate string.
+     *
+     * @param  value                    the given array
+     * @param  from                     the index of the first byte, inclusive
+     * @param  to                       the index of the last byte, exclusive
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the bytes of the given array as a BigDecimal, if they represent a BigDecimal
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if from is negative or greater than to
+     * @throws IllegalArgumentException if to is greater than the length of value
+     * @throws IllegalArgumentException if the bytes do not represent a BigDecimal
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static BigDecimal requireBigDecimal(
+            final byte[] value,
+            final int from,
+            final int to,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        requireName(name);
+
+        final AsciiCharSequence asciiCharSequence = new AsciiCharSequence(value);
+        requireRange(asciiCharSequence, from, to);
+
+        return parseBigDecimal(asciiCharSequence, from, to, name);
+    }
+
+    /**
+     * Return the bytes of the given buffer from the given index, inclusive, to the given index, exclusive, as a
+     * BigDecimal, if they represent a BigDecimal as ASCII characters; otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The bytes are parsed in place, without an intermediate string, at absolute indexes, so the position of the buffer does not change.
+     *
+     * @param  value                    the given buffer
+     * @param  from                     the index of the first byte, inclusive
+     * @param  to                       the index of the last byte, exclusive
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the bytes of the given buffer as a BigDecimal, if they represent a BigDecimal
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if from is negative or greater than to
+     * @throws IllegalArgumentException if to is greater than the limit of value
+     * @throws IllegalArgumentException if the bytes do not represent a BigDecimal
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static BigDecimal requireBigDecimal(
+            final ByteBuffer value,
+            final int from,
+            final int to,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        requireName(name);
+
+        final AsciiCharSequence asciiCharSequence = new AsciiCharSequence(value);
+        requireRange(asciiCharSequence, from, to);
+
+        return parseBigDecimal(asciiCharSequence, from, to, name);
+    }
+
+    /**
+     * Return the given value as a BigDecimal, if it represents a BigDecimal with at most the given number of digits, an
+     * exponent with at most the given magnitude, and a scale with at most the given magnitude; otherwise, throw an
+     * IllegalArgumentException.
+     *
+     * <p>
+     * The value is scanned, in linear time and without allocation, before the BigDecimal is constructed, so an untrusted
+     * value such as a string of a million digits or {@code 1e999999999} is rejected at a cost proportional to its length.
+     *
+     * @param  value                    the given value
+     * @param  maximumDigitCount        the maximum number of digits in the significand
+     * @param  maximumScale             the maximum magnitude of the scale
+     * @param  maximumExponent          the maximum magnitude of the exponent
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the given value as a BigDecimal, if it represents a BigDecimal within the given
+     *                                  limits
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if value does not represent a BigDecimal
+     * @throws IllegalArgumentException if value has more than the given number of digits
+     * @throws IllegalArgumentException if the magnitude of the exponent of value is greater than the given maximum
+     * @throws IllegalArgumentException if the magnitude of the scale of value is greater than the given maximum
+     * @throws IllegalArgumentException if maximumDigitCount is not positive
+     * @throws IllegalArgumentException if maximumScale is not zero or positive
+     * @throws IllegalArgumentException if maximumExponent is not zero or positive
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static BigDecimal requireBigDecimal(
+            final String value,
+            final int maximumDigitCount,
+            final int maximumScale,
+            final int maximumExponent,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        RequireNumberInteger.requirePositive(maximumDigitCount, "maximumDigitCount");
+        RequireNumberInteger.requireZeroOrPositive(maximumScale, "maximumScale");
+        RequireNumberInteger.requireZeroOrPositive(maximumExponent, "maximumExponent");
+        requireName(name);
+
+        return parseBigDecimal(value, maximumDigitCount, maximumScale, maximumExponent, name);
+    }
+
+    /**
+     * Return the given value as a BigDecimal, if it represents a BigDecimal greater than or equal to the given minimum and
+     * less than or equal to the given maximum; otherwise, throw an IllegalArgumentException.
+     *
+     * @param  value                    the given value
+     * @param  minimum                  the given minimum, inclusive
+     * @param  maximum                  the given maximum, inclusive
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the given value as a BigDecimal, if it represents a BigDecimal within the given
+     *                                  range
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws NullPointerException     if minimum is null
+     * @throws NullPointerException     if maximum is null
+     * @throws IllegalArgumentException if value does not represent a BigDecimal
+     * @throws IllegalArgumentException if value is less than minimum or greater than maximum
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static BigDecimal requireBigDecimalInRange(
+            final CharSequence value,
+            final BigDecimal minimum,
+            final BigDecimal maximum,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        requireNonNull(minimum, "minimum");
+        requireNonNull(maximum, "maximum");
+        requireName(name);
+
+        return parseBigDecimalInRange(value, minimum, maximum, name);
+    }
+
+    private static RequirementViolation requireScaleException(
+            final Object scale,
+            final int maximumScale,
+            final String name)
+    {
+        return RequirementViolation.ofField(RequirementViolation.Kind.LESS_THAN_OR_EQUAL, name, "scale", scale, maximumScale);
+    }
+
+    private static RequirementViolation requirePrecisionException(
+            final Object precision,
+            final int maximumPrecision,
+            final String name)
+    {
+        return RequirementViolation.ofField(RequirementViolation.Kind.LESS_THAN_OR_EQUAL, name, "precision", precision, maximumPrecision);
+    }
+
+    /**
+     * Return the given value, if its scale is at most the given maximum; otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The scale is that of the given value as it is, so the scale of 1.500 is 3, though it is equal to 1.5.
+     *
+     * @param  value                    the given value
+     * @param  maximumScale             the given maximum scale
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the given value, if its scale is at most the given maximum
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if the scale of value is greater than maximumScale
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static BigDecimal requireScaleAtMost(
+            final BigDecimal value,
+            final int maximumScale,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        requireName(name);
+
+        if (value.scale() > maximumScale)
+        {
+            throw requireScaleException(value.scale(), maximumScale, name);
+        }
+
+        return value;
+    }
+
+    /**
+     * Return the given value, if its precision is at most the given maximum; otherwise, throw an IllegalArgumentException.
+     *
+     * @param  value                    the given value
+     * @param  maximumPrecision         the given maximum precision
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the given value, if its precision is at most the given maximum
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if the precision of value is greater than maximumPrecision
+     * @throws IllegalArgumentException if maximumPrecision is not positive
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static BigDecimal requirePrecisionAtMost(
+            final BigDecimal value,
+            final int maximumPrecision,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        RequireNumberInteger.requirePositive(maximumPrecision, "maximumPrecision");
+        requireName(name);
+
+        final int bitLength = value.unscaledValue().bitLength();
+
+        if (bitLength < Long.SIZE ? value.precision() > maximumPrecision : !isPrecisionAtMostInflated(value, bitLength, maximumPrecision))
+        {
+            // the violation computes the precision only if its value or its message is requested.
+            throw RequirementViolation.ofFieldSupplier(RequirementViolation.Kind.LESS_THAN_OR_EQUAL, name, "precision", value::precision, maximumPrecision);
+        }
+
+        return value;
+    }
+
+    // return true if the precision of the given value, whose unscaled value has the given bit length of at least 64, is at
+    // most the given maximum. Such an unscaled value is at least 2^63, so it has at least 19 digits, and its bit length
+    // bounds its number of digits; only if the bounds straddle the maximum is BigDecimal.precision, which may compute a
+    // large power of ten, required.
+    private static boolean isPrecisionAtMostInflated(
+            final BigDecimal value,
+            final int bitLength,
+            final int maximumPrecision)
+    {
+        if (maximumPrecision < 19 || digitCountMinimum(bitLength) > maximumPrecision)
+        {
+            return false;
+        }
+
+        if (digitCountMaximum(bitLength) <= maximumPrecision)
+        {
+            return true;
+        }
+
+        return value.precision() <= maximumPrecision;
+    }
+
+    /**
+     * Return the given value, if its precision and its scale are at most the given maximums; otherwise, throw an
+     * IllegalArgumentException.
+     *
+     * <p>
+     * For example, an amount of money of at most 18 digits, at most two of which follow the decimal point, has a
+     * precision of at most 18 and a scale of at most 2.
+     *
+     * @param  value                    the given value
+     * @param  maximumPrecision         the given maximum precision
+     * @param  maximumScale             the given maximum scale
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the given value, if its precision and its scale are at most the given maximums
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if the scale of value is greater than maximumScale
+     * @throws IllegalArgumentException if the precision of value is greater than maximumPrecision
+     * @throws IllegalArgumentException if maximumPrecision is not positive
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static BigDecimal requireMonetary(
+            final BigDecimal value,
+            final int maximumPrecision,
+            final int maximumScale,
+            final String name)
+    {
+        return requirePrecisionAtMost(requireScaleAtMost(value, maximumScale, name), maximumPrecision, name);
+    }
+
+    /**
+     * Return the given value, if it represents a plain decimal number, such as {@code -1234.50}, with a precision and a
+     * scale of at most the given maximums; otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The precision and the scale are those of the BigDecimal that the given value represents, but the given value is
+     * scanned in place, without constructing a BigDecimal; a plain decimal number is an optional sign, one or more ASCII
+     * digits, and, optionally, a decimal point and one or more ASCII digits.
+     *
+     * @param  value                    the given value
+     * @param  maximumPrecision         the given maximum precision
+     * @param  maximumScale             the given maximum scale
+     * @param  name                     the name of the given value
+     * @param  <CHARSEQUENCE>           the type of the given value
+     * 
+     * @return                          the given value, if it represents a plain decimal number with a precision and a
+     *                                  scale of at most the given maximums
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if value does not represent a plain decimal number
+     * @throws IllegalArgumentException if the scale of value is greater than maximumScale
+     * @throws IllegalArgumentException if the precision of value is greater than maximumPrecision
+     * @throws IllegalArgumentException if maximumPrecision is not positive
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static <CHARSEQUENCE extends CharSequence> CHARSEQUENCE requireMonetary(
+            final CHARSEQUENCE value,
+            final int maximumPrecision,
+            final int maximumScale,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        RequireNumberInteger.requirePositive(maximumPrecision, "maximumPrecision");
+        requireName(name);
+
+        final int length = value.length();
+        int index = length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+') ? 1 : 0;
+        int precision = 0;
+        int scale = 0;
+        final int indexOfInteger = index;
+
+        for (; index < length && value.charAt(index) >= '0' && value.charAt(index) <= '9'; index++)
+        {
+            precision += precision != 0 || value.charAt(index) != '0' ? 1 : 0;
+        }
+
+        if (index == indexOfInteger)
+        {
+            throw RequirementViolation.ofType(name, value, BigDecimal.class, null);
+        }
+
+        if (index < length && value.charAt(index) == '.')
+        {
+            final int indexOfFraction = ++index;
+
+            for (; index < length && value.charAt(index) >= '0' && value.charAt(index) <= '9'; index++)
+            {
+                precision += precision != 0 || value.charAt(index) != '0' ? 1 : 0;
+                scale++;
+            }
+
+            if (index == indexOfFraction)
+            {
+                throw RequirementViolation.ofType(name, value, BigDecimal.class, null);
+            }
+        }
+
+        if (index != length)
+        {
+            throw RequirementViolation.ofType(name, value, BigDecimal.class, null);
+        }
+
+        if (scale > maximumScale)
+        {
+            throw requireScaleException(scale, maximumScale, name);
+        }
+
+        // as for a BigDecimal, the precision counts the digits from the first nonzero digit, and the precision of zero is
+        // one.
+        precision = Math.max(precision, 1);
+
+        if (precision > maximumPrecision)
+        {
+            throw requirePrecisionException(precision, maximumPrecision, name);
+        }
+
+        return value;
+    }
+
+    /**
+     * Return the given value, if greater than or equal to the given minimum and less than or equal to the given maximum;
+     * otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The value is compared to the bounds without constructing a BigDecimal for either, except when it is near a bound.
+     *
+     * @param  value                    the given value
+     * @param  minimum                  the given minimum, inclusive
+     * @param  maximum                  the given maximum, inclusive
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the given value, if greater than or equal to the given minimum and less than or
+     *                                  equal to the given maximum
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if value is less than minimum or greater than maximum
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static BigDecimal requireBoundInclusive(
+            final BigDecimal value,
+            final long minimum,
+            final long maximum,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        requireName(name);
+
+        if (compareTo(value, minimum) < 0 || compareTo(value, maximum) > 0)
+        {
+            throw RequirementViolation.of(RequirementViolation.Kind.BOUND_INCLUSIVE, name, value, minimum, maximum);
+        }
+
+        return value;
+    }
 }
@@ -2,8 +2,14 @@ package io.github.drewctaylor.require;
 
 import java.math.BigInteger;
 
+import static io.github.drewctaylor.require.Require.requireName;
+import static io.github.drewctaylor.require.Require.requireNonNull;
+import static io.github.drewctaylor.require.RequireNumberHelper.compareTo;
+import static io.github.drewctaylor.require.RequireNumberHelper.parseBigInteger;
+
 /**
- * Require that a BigInteger is positive, zero, or negative; require that a string represent a BigInteger.
+ * Require that a BigInteger is positive, zero, or negative, or within long bounds; require that a string represent a
+ * BigInteger.
  */
 public final class RequireNumberBigInteger
 {
@@ -132,4 +138,75 @@ public final class RequireNumberBigInteger
     {
         return requireNumberHelper.requireNumber(value, name);
     }
+
+    /**
+     * Return the given value as a BigInteger, if it represents a BigInteger with at most the given number of digits;
+     * otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The value is scanned, in linear time and without allocation, before the BigInteger is constructed, so an untrusted
+     * value with too many digits is rejected at a cost proportional to its length.
+     *
+     * @param  value                    the given value
+     * @param  maximumDigitCount        the maximum number of digits
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the given value as a BigInteger, if it represents a BigInteger with at most the
+     *                                  given number of digits
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if value does not represent a BigInteger
+     * @throws IllegalArgumentException if value has more than the given number of digits
+     * @throws IllegalArgumentException if maximumDigitCount is not positive
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static BigInteger requireBigInteger(
+            final String value,
+            final int maximumDigitCount,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        RequireNumberInteger.requirePositive(maximumDigitCount, "maximumDigitCount");
+        requireName(name);
+
+        return parseBigInteger(value, maximumDigitCount, name);
+    }
+
+    /**
+     * Return the given value, if greater than or equal to the given minimum and less than or equal to the given maximum;
+     * otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The value is compared to the bounds without constructing a BigInteger for either, except when it is near a bound.
+     *
+     * @param  value                    the given value
+     * @param  minimum                  the given minimum, inclusive
+     * @param  maximum                  the given maximum, inclusive
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the given value, if greater than or equal to the given minimum and less than or
+     *                                  equal to the given maximum
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if value is less than minimum or greater than maximum
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static BigInteger requireBoundInclusive(
+            final BigInteger value,
+            final long minimum,
+            final long maximum,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        requireName(name);
+
+        if (compareTo(value, minimum) < 0 || compareTo(value, maximum) > 0)
+        {
+            throw RequirementViolation.of(RequirementViolation.Kind.BOUND_INCLUSIVE, name, value, minimum, maximum);
+        }
+
+        return value;
+    }
 }
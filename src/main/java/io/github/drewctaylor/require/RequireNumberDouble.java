@@ -1,7 +1,20 @@
 package io.github.drewctaylor.require;
 
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static io.github.drewctaylor.require.Require.requireName;
+import static io.github.drewctaylor.require.Require.requireNonNull;
+import static io.github.drewctaylor.require.RequireNumberHelper.parseDouble;
+import static io.github.drewctaylor.require.RequireNumberHelper.parseDoubleInRange;
+import static io.github.drewctaylor.require.RequireNumberHelper.requireForAllElement;
+import static io.github.drewctaylor.require.RequireNumberHelper.requireRange;
+import static java.util.Arrays.asList;
+
 /**
- * Require that a Double is positive, zero, or negative; require that a string represent a Double.
+ * Require that a Double is positive, zero, or negative; require that a string, a range of a character sequence, or a
+ * range of ASCII bytes represent a Double, optionally within a range; require that every string of a list or an array
+ * represent a Double.
  */
 public final class RequireNumberDouble
 {
@@ -9,7 +22,7 @@ public final class RequireNumberDouble
     {
     }
 
-    private static final RequireNumberHelper<Double> requireNumberHelper = new RequireNumberHelper<>(0.0d, Double::parseDouble, Double.class);
+    private static final RequireNumberHelper<Double> requireNumberHelper = new RequireNumberHelper<>(0.0d, value -> FloatingPointParser.parseDouble(value, 0, value.length()), Double.class);
 
     /**
      * Return the given value, if positive; otherwise, throw an IllegalArgumentException.
@@ -130,4 +143,204 @@ public final class RequireNumberDouble
     {
         return requireNumberHelper.requireNumber(value, name);
     }
+
+    /**
+     * Return the characters of the given value from the given index, inclusive, to the given index, exclusive, as a
+     * double, if they represent a Double; otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The characters are parsed in place, without a substring, unless they are not a plain decimal number.
+     *
+     * @param  value                    the given value
+     * @param  from                     the index of the first character, inclusive
+     * @param  to                       the index of the last character, exclusive
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the characters of the given value as a double, if they represent a Double
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if from is negative or greater than to
+     * @throws IllegalArgumentException if to is greater than the length of value
+     * @throws IllegalArgumentException if the characters do not represent a Double
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static double requireDouble(
+            final CharSequence value,
+            final int from,
+            final int to,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        requireName(name);
+        requireRange(value, from, to);
+
+        return parseDouble(value, from, to, name);
+    }
+
+    /**
+     * Return the bytes of the given array from the given index, inclusive, to the given index, exclusive, as a
+     * double, if they represent a Double as ASCII characters; otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The bytes are parsed in place, without an intermediate string, unless they are not a plain decimal number.
+     *
+     * @param  value                    the given array
+     * @param  from                     the index of the first byte, inclusive
+     * @param  to                       the index of the last byte, exclusive
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the bytes of the given array as a double, if they represent a Double
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if from is negative or greater than to
+     * @throws IllegalArgumentException if to is greater than the length of value
+     * @throws IllegalArgumentException if the bytes do not represent a Double
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static double requireDouble(
+            final byte[] value,
+            final int from,
+            final int to,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        requireName(name);
+
+        final AsciiCharSequence asciiCharSequence = new AsciiCharSequence(value);
+        requireRange(asciiCharSequence, from, to);
+
+        return parseDouble(asciiCharSequence, from, to, name);
+    }
+
+    /**
+     * Return the bytes of the given buffer from the given index, inclusive, to the given index, exclusive, as a
+     * double, if they represent a Double as ASCII characters; otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The bytes are parsed in place, without an intermediate string, unless they are not a plain decimal number, at
+     * absolute indexes, so the position of the buffer does not change.
+     *
+     * @param  value                    the given buffer
+     * @param  from                     the index of the first byte, inclusive
+     * @param  to                       the index of the last byte, exclusive
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the bytes of the given buffer as a double, if they represent a Double
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if from is negative or greater than to
+     * @throws IllegalArgumentException if to is greater than the limit of value
+     * @throws IllegalArgumentException if the bytes do not represent a Double
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static double requireDouble(
+            final ByteBuffer value,
+            final int from,
+            final int to,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        requireName(name);
+
+        final AsciiCharSequence asciiCharSequence = new AsciiCharSequence(value);
+        requireRange(asciiCharSequence, from, to);
+
+        return parseDouble(asciiCharSequence, from, to, name);
+    }
+
+    /**
+     * Return the given value as a double, if it represents a Double greater than or equal to the given
+     * minimum and less than or equal to the given maximum; otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The value is parsed and compared in one pass, without boxing.
+     *
+     * @param  value                    the given value
+     * @param  minimum                  the given minimum, inclusive
+     * @param  maximum                  the given maximum, inclusive
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the given value as a double, if it represents a Double within the given
+     *                                  range
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if value does not represent a Double
+     * @throws IllegalArgumentException if value is less than minimum or greater than maximum
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static double requireDoubleInRange(
+            final CharSequence value,
+            final double minimum,
+            final double maximum,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        requireName(name);
+
+        return parseDoubleInRange(value, minimum, maximum, name);
+    }
+
+    /**
+     * Return the elements of the given list as a double array, if every element represents a Double; otherwise, throw
+     * an IllegalArgumentException that reports every element that does not.
+     *
+     * <p>
+     * Each element is parsed once, directly into the array, without boxing.
+     *
+     * @param  list                     the given list
+     * @param  name                     the name of the given list
+     * 
+     * @return                          the elements of the given list as a double array, if every element represents
+     *                                  a Double
+     * 
+     * @throws NullPointerException     if list is null
+     * @throws IllegalArgumentException if an element of list is null or does not represent a Double
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static double[] requireDoubleArray(
+            final List<String> list,
+            final String name)
+    {
+        requireNonNull(list, "list");
+        requireName(name);
+
+        final double[] array = new double[list.size()];
+
+        requireForAllElement(list, name, (string, index) -> array[index] = parseDouble(string, "element"));
+
+        return array;
+    }
+
+    /**
+     * Return the elements of the given array as a double array, if every element represents a Double; otherwise,
+     * throw an IllegalArgumentException that reports every element that does not.
+     *
+     * <p>
+     * Each element is parsed once, directly into the array, without boxing.
+     *
+     * @param  array                    the given array
+     * @param  name                     the name of the given array
+     * 
+     * @return                          the elements of the given array as a double array, if every element represents
+     *                                  a Double
+     * 
+     * @throws NullPointerException     if array is null
+     * @throws IllegalArgumentException if an element of array is null or does not represent a Double
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static double[] requireDoubleArray(
+            final String[] array,
+            final String name)
+    {
+        requireNonNull(array, "array");
+        requireName(name);
+
+        return requireDoubleArray(asList(array), name);
+    }
 }
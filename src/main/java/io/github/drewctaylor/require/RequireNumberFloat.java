@@ -1,7 +1,15 @@
 package io.github.drewctaylor.require;
 
+import java.nio.ByteBuffer;
+
+import static io.github.drewctaylor.require.Require.requireName;
+import static io.github.drewctaylor.require.Require.requireNonNull;
+import static io.github.drewctaylor.require.RequireNumberHelper.parseFloat;
+import static io.github.drewctaylor.require.RequireNumberHelper.requireRange;
+
 /**
- * Require that a Float is positive, zero, or negative; require that a string represent a Float.
+ * Require that a Float is positive, zero, or negative; require that a string, a range of a character sequence, or a
+ * range of ASCII bytes represent a Float.
  */
 public final class RequireNumberFloat
 {
@@ -9,7 +17,7 @@ public final class RequireNumberFloat
     {
     }
 
-    private static final RequireNumberHelper<Float> requireNumberHelper = new RequireNumberHelper<>(0.0f, Float::parseFloat, Float.class);
+    private static final RequireNumberHelper<Float> requireNumberHelper = new RequireNumberHelper<>(0.0f, value -> FloatingPointParser.parseFloat(value, 0, value.length()), Float.class);
 
     /**
      * Return the given value, if positive; otherwise, throw an IllegalArgumentException.
@@ -130,4 +138,111 @@ public final class RequireNumberFloat
     {
         return requireNumberHelper.requireNumber(value, name);
     }
+
+    /**
+     * Return the characters of the given value from the given index, inclusive, to the given index, exclusive, as a
+     * float, if they represent a Float; otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The characters are parsed in place, without a substring, unless they are not a plain decimal number.
+     *
+     * @param  value                    the given value
+     * @param  from                     the index of the first character, inclusive
+     * @param  to                       the index of the last character, exclusive
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the characters of the given value as a float, if they represent a Float
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if from is negative or greater than to
+     * @throws IllegalArgumentException if to is greater than the length of value
+     * @throws IllegalArgumentException if the characters do not represent a Float
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static float requireFloat(
+            final CharSequence value,
+            final int from,
+            final int to,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        requireName(name);
+        requireRange(value, from, to);
+
+        return parseFloat(value, from, to, name);
+    }
+
+    /**
+     * Return the bytes of the given array from the given index, inclusive, to the given index, exclusive, as a
+     * float, if they represent a Float as ASCII characters; otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The bytes are parsed in place, without an intermediate string, unless they are not a plain decimal number.
+     *
+     * @param  value                    the given array
+     * @param  from                     the index of the first byte, inclusive
+     * @param  to                       the index of the last byte, exclusive
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the bytes of the given array as a float, if they represent a Float
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if from is negative or greater than to
+     * @throws IllegalArgumentException if to is greater than the length of value
+     * @throws IllegalArgumentException if the bytes do not represent a Float
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static float requireFloat(
+            final byte[] value,
+            final int from,
+            final int to,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        requireName(name);
+
+        final AsciiCharSequence asciiCharSequence = new AsciiCharSequence(value);
+        requireRange(asciiCharSequence, from, to);
+
+        return parseFloat(asciiCharSequence, from, to, name);
+    }
+
+    /**
+     * Return the bytes of the given buffer from the given index, inclusive, to the given index, exclusive, as a
+     * float, if they represent a Float as ASCII characters; otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The bytes are parsed in place, without an intermediate string, unless they are not a plain decimal number, at
+     * absolute indexes, so the position of the buffer does not change.
+     *
+     * @param  value                    the given buffer
+     * @param  from                     the index of the first byte, inclusive
+     * @param  to                       the index of the last byte, exclusive
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the bytes of the given buffer as a float, if they represent a Float
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if from is negative or greater than to
+     * @throws IllegalArgumentException if to is greater than the limit of value
+     * @throws IllegalArgumentException if the bytes do not represent a Float
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static float requireFloat(
+            final ByteBuffer value,
+            final int from,
+            final int to,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        requireName(name);
+
+        final AsciiCharSequence asciiCharSequence = new AsciiCharSequence(value);
+        requireRange(asciiCharSequence, from, to);
+
+        return parseFloat(asciiCharSequence, from, to, name);
+    }
 }
@@ -1,17 +1,36 @@
 package io.github.drewctaylor.require;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
 import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
 
 import static io.github.drewctaylor.require.Require.require;
 import static io.github.drewctaylor.require.Require.requireName;
 import static io.github.drewctaylor.require.Require.requireNonNull;
-import static java.lang.String.format;
+import static io.github.drewctaylor.require.RequireCollection.requireForAllException;
 
 final class RequireNumberHelper<TYPE extends Comparable<TYPE>>
 {
+    // log10(2) = 0.30...
+    private static final double LOG_10_2 = Math.log10(2);
+
+    // the length of the longest shortest representation of a double, such as -2.2250738585072014E-308.
+    private static final int DOUBLE_LENGTH_MAXIMUM = 24;
+
     private final TYPE zero;
     private final Function<String, TYPE> parse;
     private final Class<TYPE> type;
+    private final String methodRequirePositive;
+    private final String methodRequireZeroOrPositive;
+    private final String methodRequireZero;
+    private final String methodRequireZeroOrNegative;
+    private final String methodRequireNegative;
+    private final String methodRequireNumber;
 
     RequireNumberHelper(
             final TYPE zero,
@@ -21,6 +40,12 @@ final class RequireNumberHelper<TYPE extends Comparable<TYPE>>
         this.zero = zero;
         this.parse = parse;
         this.type = type;
+        this.methodRequirePositive = "RequireNumber" + type.getSimpleName() + ".requirePositive";
+        this.methodRequireZeroOrPositive = "RequireNumber" + type.getSimpleName() + ".requireZeroOrPositive";
+        this.methodRequireZero = "RequireNumber" + type.getSimpleName() + ".requireZero";
+        this.methodRequireZeroOrNegative = "RequireNumber" + type.getSimpleName() + ".requireZeroOrNegative";
+        this.methodRequireNegative = "RequireNumber" + type.getSimpleName() + ".requireNegative";
+        this.methodRequireNumber = "RequireNumber" + type.getSimpleName() + ".require" + type.getSimpleName();
     }
 
     TYPE requirePositive(
@@ -30,7 +55,11 @@ final class RequireNumberHelper<TYPE extends Comparable<TYPE>>
         requireNonNull(value, name);
         requireName(name);
 
-        return require(value.compareTo(zero) > 0, value, format("%s must be positive; it is '%s'.", name, value));
+        final boolean expression = value.compareTo(zero) > 0;
+
+        RequireMetrics.record(methodRequirePositive, name, !expression);
+
+        return require(expression, value, RequirementViolation.Kind.POSITIVE, name);
     }
 
     TYPE requireZeroOrPositive(
@@ -40,7 +69,11 @@ final class RequireNumberHelper<TYPE extends Comparable<TYPE>>
         requireNonNull(value, name);
         requireName(name);
 
-        return require(value.compareTo(zero) >= 0, value, format("%s must be zero or positive; it is '%s'.", name, value));
+        final boolean expression = value.compareTo(zero) >= 0;
+
+        RequireMetrics.record(methodRequireZeroOrPositive, name, !expression);
+
+        return require(expression, value, RequirementViolation.Kind.ZERO_OR_POSITIVE, name);
     }
 
     TYPE requireZero(
@@ -50,7 +83,11 @@ final class RequireNumberHelper<TYPE extends Comparable<TYPE>>
         requireNonNull(value, name);
         requireName(name);
 
-        return require(value.compareTo(zero) == 0, value, format("%s must be zero; it is '%s'.", name, value));
+        final boolean expression = value.compareTo(zero) == 0;
+
+        RequireMetrics.record(methodRequireZero, name, !expression);
+
+        return require(expression, value, RequirementViolation.Kind.ZERO, name);
     }
 
     TYPE requireZeroOrNegative(
@@ -60,7 +97,11 @@ final class RequireNumberHelper<TYPE extends Comparable<TYPE>>
         requireNonNull(value, name);
         requireName(name);
 
-        return require(value.compareTo(zero) <= 0, value, format("%s must be zero or negative; it is '%s'.", name, value));
+        final boolean expression = value.compareTo(zero) <= 0;
+
+        RequireMetrics.record(methodRequireZeroOrNegative, name, !expression);
+
+        return require(expression, value, RequirementViolation.Kind.ZERO_OR_NEGATIVE, name);
     }
 
     TYPE requireNegative(
@@ -70,7 +111,11 @@ final class RequireNumberHelper<TYPE extends Comparable<TYPE>>
         requireNonNull(value, name);
         requireName(name);
 
-        return require(value.compareTo(zero) < 0, value, format("%s must be negative; it is '%s'.", name, value));
+        final boolean expression = value.compareTo(zero) < 0;
+
+        RequireMetrics.record(methodRequireNegative, name, !expression);
+
+        return require(expression, value, RequirementViolation.Kind.NEGATIVE, name);
     }
 
     TYPE requireNumber(
@@ -82,11 +127,639 @@ final class RequireNumberHelper<TYPE extends Comparable<TYPE>>
 
         try
         {
-            return parse.apply(value);
+            final TYPE number = parse.apply(value);
+            RequireMetrics.record(methodRequireNumber, name, false);
+            return number;
         }
         catch (final RuntimeException runtimeException)
         {
-            throw new IllegalArgumentException(format("%s must be a %s; it is '%s'.", name, type.getCanonicalName(), value), runtimeException);
+            RequireMetrics.record(methodRequireNumber, name, true);
+            throw RequirementViolation.ofType(name, value, type, runtimeException);
+        }
+    }
+
+    static void requireRange(
+            final CharSequence value,
+            final int from,
+            final int to)
+    {
+        if (from < 0 || from > to)
+        {
+            throw RequirementViolation.of(RequirementViolation.Kind.BOUND_INCLUSIVE, "from", from, 0, to);
+        }
+
+        if (to > value.length())
+        {
+            throw RequirementViolation.of(RequirementViolation.Kind.LESS_THAN_OR_EQUAL, "to", to, value.length());
+        }
+    }
+
+    static RequirementViolation requireNumberException(
+            final CharSequence value,
+            final int from,
+            final int to,
+            final String name,
+            final Class<?> type)
+    {
+        return RequirementViolation.ofType(name, value.subSequence(from, to), type, null);
+    }
+
+    private static int asciiDigit(
+            final char character)
+    {
+        return character >= '0' && character <= '9' ? character - '0' : -1;
+    }
+
+    private static int digit(
+            final char character)
+    {
+        if (character >= '0' && character <= '9')
+        {
+            return character - '0';
+        }
+
+        return character < 128 ? -1 : Character.digit(character, 10);
+    }
+
+    // parse the characters from the given index, inclusive, to the given index, exclusive, as a number between the given
+    // minimum and the given maximum, accepting the same text as Long.parseLong; as in Long.parseLong, the value accumulates
+    // as a negative number, which has the greater range, and each step checks for overflow before it can occur.
+    static long parseLong(
+            final CharSequence value,
+            final int from,
+            final int to,
+            final long minimum,
+            final long maximum,
+            final String name,
+            final Class<?> type)
+    {
+        int index = from;
+        boolean negative = false;
+
+        if (index < to)
+        {
+            final char character = value.charAt(index);
+
+            if (character == '-')
+            {
+                negative = true;
+                index++;
+            }
+            else if (character == '+')
+            {
+                index++;
+            }
+        }
+
+        if (index == to)
+        {
+            throw requireNumberException(value, from, to, name, type);
+        }
+
+        final long limit = negative ? minimum : -maximum;
+        final long limitForMultiplication = limit / 10;
+        long result = 0;
+
+        for (; index < to; index++)
+        {
+            final int digit = digit(value.charAt(index));
+
+            if (digit < 0 || result < limitForMultiplication)
+            {
+                throw requireNumberException(value, from, to, name, type);
+            }
+
+            result *= 10;
+
+            if (result < limit + digit)
+            {
+                throw requireNumberException(value, from, to, name, type);
+            }
+
+            result -= digit;
+        }
+
+        return negative ? result : -result;
+    }
+
+    static RequirementViolation requireNumberInRangeException(
+            final CharSequence value,
+            final int from,
+            final int to,
+            final Object minimum,
+            final Object maximum,
+            final String name)
+    {
+        return RequirementViolation.of(RequirementViolation.Kind.BOUND_INCLUSIVE, name, value.subSequence(from, to), minimum, maximum);
+    }
+
+    // parse the characters from the given index, inclusive, to the given index, exclusive, as a number between the given
+    // minimum and the given maximum; the value accumulates as a negative number up to the bound on the side of its sign,
+    // past which each further digit only moves it further out of range, so the remaining characters need only be digits.
+    static long parseLongInRange(
+            final CharSequence value,
+            final int from,
+            final int to,
+            final long minimum,
+            final long maximum,
+            final String name,
+            final Class<?> type)
+    {
+        int index = from;
+        boolean negative = false;
+
+        if (index < to)
+        {
+            final char character = value.charAt(index);
+
+            if (character == '-')
+            {
+                negative = true;
+                index++;
+            }
+            else if (character == '+')
+            {
+                index++;
+            }
+        }
+
+        if (index == to)
+        {
+            throw requireNumberException(value, from, to, name, type);
+        }
+
+        final long limit = negative ? Math.min(minimum, 0) : -Math.max(maximum, 0);
+        final long limitForMultiplication = limit / 10;
+        long result = 0;
+
+        for (; index < to; index++)
+        {
+            final int digit = digit(value.charAt(index));
+
+            if (digit < 0)
+            {
+                throw requireNumberException(value, from, to, name, type);
+            }
+
+            if (result < limitForMultiplication || result * 10 < limit + digit)
+            {
+                for (index++; index < to; index++)
+                {
+                    if (digit(value.charAt(index)) < 0)
+                    {
+                        throw requireNumberException(value, from, to, name, type);
+                    }
+                }
+
+                throw requireNumberInRangeException(value, from, to, minimum, maximum, name);
+            }
+
+            result = result * 10 - digit;
+        }
+
+        result = negative ? result : -result;
+
+        if (result < minimum || result > maximum)
+        {
+            throw requireNumberInRangeException(value, from, to, minimum, maximum, name);
+        }
+
+        return result;
+    }
+
+    // parse the given characters as a number between the given minimum and the given maximum; if there are more
+    // characters than the shortest representation of a double needs, and they are a number whose most significant digit
+    // is more significant than that of both finite bounds, with a margin for rounding, the number is out of range, so
+    // throw without parsing it.
+    static double parseDoubleInRange(
+            final CharSequence value,
+            final double minimum,
+            final double maximum,
+            final String name)
+    {
+        if (value.length() > DOUBLE_LENGTH_MAXIMUM)
+        {
+            final double bound = Math.max(Math.abs(minimum), Math.abs(maximum));
+
+            // the bound is less than 2^(getExponent(bound) + 1), so a number at least ten times that is out of range,
+            // even after it rounds to a double.
+            if (bound < Double.POSITIVE_INFINITY && exponentOfMostSignificantDigit(value) > (long) Math.ceil((Math.getExponent(bound) + 1) * LOG_10_2))
+            {
+                throw requireNumberInRangeException(value, 0, value.length(), minimum, maximum, name);
+            }
+        }
+
+        final double result = parseDouble(value, name);
+
+        if (!(result >= minimum && result <= maximum))
+        {
+            throw requireNumberInRangeException(value, 0, value.length(), minimum, maximum, name);
+        }
+
+        return result;
+    }
+
+    // return the exponent of the most significant digit of the given characters, if they are a non-zero number in the
+    // syntax of new BigDecimal(String), with ASCII digits and a scale in the range of an int; otherwise, return
+    // Long.MIN_VALUE. Such characters are also a number in the syntax of Double.parseDouble. The characters are scanned,
+    // not parsed, so that a number with many digits costs no allocation.
+    private static long exponentOfMostSignificantDigit(
+            final CharSequence value)
+    {
+        final int length = value.length();
+        int index = 0;
+
+        if (index < length && (value.charAt(index) == '-' || value.charAt(index) == '+'))
+        {
+            index++;
+        }
+
+        // the number of digits before the decimal point, after the leading zeros.
+        long integerDigitCount = 0;
+        // the number of digits after the decimal point, and the number of zeros that lead them.
+        long fractionDigitCount = 0;
+        long fractionZeroCount = 0;
+        boolean digit = false;
+
+        for (; index < length && asciiDigit(value.charAt(index)) >= 0; index++)
+        {
+            digit = true;
+            integerDigitCount = integerDigitCount == 0 && asciiDigit(value.charAt(index)) == 0 ? 0 : integerDigitCount + 1;
+        }
+
+        if (index < length && value.charAt(index) == '.')
+        {
+            for (index++; index < length && asciiDigit(value.charAt(index)) >= 0; index++)
+            {
+                digit = true;
+                fractionZeroCount = fractionZeroCount == fractionDigitCount && asciiDigit(value.charAt(index)) == 0 ? fractionZeroCount + 1 : fractionZeroCount;
+                fractionDigitCount++;
+            }
+        }
+
+        long exponent = 0;
+
+        if (index < length && (value.charAt(index) == 'e' || value.charAt(index) == 'E'))
+        {
+            index++;
+
+            final boolean negative = index < length && value.charAt(index) == '-';
+
+            if (index < length && (value.charAt(index) == '-' || value.charAt(index) == '+'))
+            {
+                index++;
+            }
+
+            if (index == length)
+            {
+                return Long.MIN_VALUE;
+            }
+
+            for (; index < length && asciiDigit(value.charAt(index)) >= 0 && exponent <= Integer.MAX_VALUE; index++)
+            {
+                exponent = exponent * 10 + asciiDigit(value.charAt(index));
+            }
+
+            exponent = negative ? -exponent : exponent;
+        }
+
+        final long scale = fractionDigitCount - exponent;
+
+        if (!digit || index != length || scale < Integer.MIN_VALUE || scale > Integer.MAX_VALUE || integerDigitCount == 0 && fractionZeroCount == fractionDigitCount)
+        {
+            return Long.MIN_VALUE;
+        }
+
+        return (integerDigitCount > 0 ? integerDigitCount - 1 : -fractionZeroCount - 1) + exponent;
+    }
+
+    // parse the given characters as a number between the given minimum and the given maximum; if the characters are a
+    // number whose most significant digit is more significant than that of both bounds, the number is out of range, so
+    // throw without parsing it.
+    static BigDecimal parseBigDecimalInRange(
+            final CharSequence value,
+            final BigDecimal minimum,
+            final BigDecimal maximum,
+            final String name)
+    {
+        final BigDecimal bound = minimum.abs().max(maximum.abs());
+        final long exponent = exponentOfMostSignificantDigit(value);
+
+        if (exponent != Long.MIN_VALUE && (bound.signum() == 0 || exponent > (long) bound.precision() - bound.scale() - 1))
+        {
+            throw requireNumberInRangeException(value, 0, value.length(), minimum, maximum, name);
+        }
+
+        final BigDecimal result;
+
+        try
+        {
+            result = new BigDecimal(value.toString());
+        }
+        catch (final NumberFormatException numberFormatException)
+        {
+            throw RequirementViolation.ofType(name, value, BigDecimal.class, numberFormatException);
+        }
+
+        if (result.compareTo(minimum) < 0 || result.compareTo(maximum) > 0)
+        {
+            throw requireNumberInRangeException(value, 0, value.length(), minimum, maximum, name);
+        }
+
+        return result;
+    }
+
+    static double parseDouble(
+            final CharSequence value,
+            final String name)
+    {
+        return parseDouble(value, 0, value.length(), name);
+    }
+
+    static double parseDouble(
+            final CharSequence value,
+            final int from,
+            final int to,
+            final String name)
+    {
+        try
+        {
+            return FloatingPointParser.parseDouble(value, from, to);
+        }
+        catch (final NumberFormatException numberFormatException)
+        {
+            throw RequirementViolation.ofType(name, value.subSequence(from, to), Double.class, numberFormatException);
+        }
+    }
+
+    static float parseFloat(
+            final CharSequence value,
+            final int from,
+            final int to,
+            final String name)
+    {
+        try
+        {
+            return FloatingPointParser.parseFloat(value, from, to);
+        }
+        catch (final NumberFormatException numberFormatException)
+        {
+            throw RequirementViolation.ofType(name, value.subSequence(from, to), Float.class, numberFormatException);
+        }
+    }
+
+    // apply the given parse to each element of the given list and its index, and, if the parse fails for any element,
+    // throw an IllegalArgumentException that reports every failing index, as RequireCollection.requireForAll does.
+    static void requireForAllElement(
+            final List<String> list,
+            final String name,
+            final ObjIntConsumer<String> parse)
+    {
+        List<Entry<Integer, RuntimeException>> failureList = null;
+        int index = 0;
+
+        for (final String string : list)
+        {
+            try
+            {
+                parse.accept(requireNonNull(string, "element"), index);
+            }
+            catch (final RuntimeException runtimeException)
+            {
+                failureList = failureList == null ? new ArrayList<>() : failureList;
+                failureList.add(new SimpleImmutableEntry<>(index, runtimeException));
+            }
+
+            index++;
+        }
+
+        if (failureList != null)
+        {
+            throw requireForAllException(list, name, "element", failureList);
+        }
+    }
+
+    static BigDecimal parseBigDecimal(
+            final AsciiCharSequence value,
+            final int from,
+            final int to,
+            final String name)
+    {
+        try
+        {
+            return new BigDecimal(value.toCharArray(from, to));
+        }
+        catch (final NumberFormatException numberFormatException)
+        {
+            throw RequirementViolation.ofType(name, value.subSequence(from, to), BigDecimal.class, numberFormatException);
+        }
+    }
+
+    private static int requireDigitCount(
+            final int digitCount,
+            final int maximumDigitCount,
+            final String name)
+    {
+        if (digitCount > maximumDigitCount)
+        {
+            throw RequirementViolation.ofField(RequirementViolation.Kind.LESS_THAN_OR_EQUAL, name, "digit count", digitCount, maximumDigitCount);
+        }
+
+        return digitCount;
+    }
+
+    // scan the given value, in linear time and without allocation, to ensure that it is a BigInteger with at most the given
+    // number of digits, before constructing the BigInteger.
+    static BigInteger parseBigInteger(
+            final String value,
+            final int maximumDigitCount,
+            final String name)
+    {
+        final int length = value.length();
+        final int from = length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+') ? 1 : 0;
+
+        if (from == length)
+        {
+            throw requireNumberException(value, 0, length, name, BigInteger.class);
+        }
+
+        requireDigitCount(length - from, maximumDigitCount, name);
+
+        for (int index = from; index < length; index++)
+        {
+            if (digit(value.charAt(index)) < 0)
+            {
+                throw requireNumberException(value, 0, length, name, BigInteger.class);
+            }
+        }
+
+        return new BigInteger(value);
+    }
+
+    // scan the given value, in linear time and without allocation, to ensure that it is a BigDecimal with at most the given
+    // number of digits, an exponent of at most the given magnitude, and a scale of at most the given magnitude, before
+    // constructing the BigDecimal.
+    static BigDecimal parseBigDecimal(
+            final String value,
+            final int maximumDigitCount,
+            final int maximumScale,
+            final int maximumExponent,
+            final String name)
+    {
+        final int length = value.length();
+        int index = length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+') ? 1 : 0;
+        int digitCount = 0;
+        int digitCountAfterPoint = 0;
+        boolean point = false;
+
+        for (; index < length; index++)
+        {
+            final char character = value.charAt(index);
+
+            if (digit(character) >= 0)
+            {
+                digitCount++;
+                digitCountAfterPoint += point ? 1 : 0;
+            }
+            else if (character == '.' && !point)
+            {
+                point = true;
+            }
+            else
+            {
+                break;
+            }
+        }
+
+        if (digitCount == 0)
+        {
+            throw requireNumberException(value, 0, length, name, BigDecimal.class);
+        }
+
+        long exponent = 0;
+
+        if (index < length)
+        {
+            final char character = value.charAt(index++);
+
+            if (character != 'e' && character != 'E')
+            {
+                throw requireNumberException(value, 0, length, name, BigDecimal.class);
+            }
+
+            final int indexOfExponent = index;
+            final boolean negative = index < length && value.charAt(index) == '-';
+            index += index < length && (value.charAt(index) == '-' || value.charAt(index) == '+') ? 1 : 0;
+
+            if (index == length)
+            {
+                throw requireNumberException(value, 0, length, name, BigDecimal.class);
+            }
+
+            for (; index < length; index++)
+            {
+                final int digit = digit(value.charAt(index));
+
+                if (digit < 0)
+                {
+                    throw requireNumberException(value, 0, length, name, BigDecimal.class);
+                }
+
+                // stop accumulating once the exponent exceeds the maximum, so that it cannot overflow.
+                exponent = exponent > maximumExponent ? exponent : exponent * 10 + digit;
+            }
+
+            if (exponent > maximumExponent)
+            {
+                throw RequirementViolation.ofField(RequirementViolation.Kind.BOUND_INCLUSIVE, name, "exponent", value.substring(indexOfExponent), -maximumExponent, maximumExponent);
+            }
+
+            exponent = negative ? -exponent : exponent;
+        }
+
+        requireDigitCount(digitCount, maximumDigitCount, name);
+
+        final long scale = digitCountAfterPoint - exponent;
+
+        if (scale < -maximumScale || scale > maximumScale)
+        {
+            throw RequirementViolation.ofField(RequirementViolation.Kind.BOUND_INCLUSIVE, name, "scale", scale, -maximumScale, maximumScale);
+        }
+
+        return new BigDecimal(value);
+    }
+
+    // compare the given value to the given bound; if the bit length of the value is at most 63, it fits in a long, and
+    // otherwise its magnitude is greater than that of any long.
+    static int compareTo(
+            final BigInteger value,
+            final long bound)
+    {
+        return value.bitLength() < Long.SIZE ? Long.compare(value.longValue(), bound) : value.signum();
+    }
+
+    // return a lower bound on the number of digits of an integer of the given positive bit length: since
+    // 2^(bitLength - 1) <= |integer|, it has at least floor((bitLength - 1) * log10(2)) + 1 digits; the bound is one
+    // less, so that the rounding of the product cannot make it wrong.
+    static long digitCountMinimum(
+            final int bitLength)
+    {
+        return (long) ((bitLength - 1) * LOG_10_2);
+    }
+
+    // return an upper bound on the number of digits of an integer of the given positive bit length: since
+    // |integer| < 2^bitLength, it has at most floor(bitLength * log10(2)) + 1 digits; the bound is one more, so that the
+    // rounding of the product cannot make it wrong.
+    static long digitCountMaximum(
+            final int bitLength)
+    {
+        return (long) (bitLength * LOG_10_2) + 2;
+    }
+
+    // compare the given value to the given bound; if their signs differ, or if the number of digits before the decimal
+    // point of the value, as estimated from the bit length of its unscaled value, is certainly less or certainly greater
+    // than the number of digits of the bound, the signs and the number of digits decide; otherwise, compare exactly.
+    // The estimate avoids BigDecimal.precision, which, for an unscaled value that does not fit in a long, may compute a
+    // large power of ten.
+    static int compareTo(
+            final BigDecimal value,
+            final long bound)
+    {
+        final int signum = value.signum();
+
+        if (signum != Long.signum(bound) || signum == 0)
+        {
+            return Integer.compare(signum, Long.signum(bound));
+        }
+
+        // 10^(digitCount - 1) <= |value| < 10^digitCount, where digitCount is the number of digits of the unscaled value
+        // less the scale.
+        final int bitLength = value.unscaledValue().bitLength();
+        final long digitCountOfBound = digitCount(bound);
+
+        if (digitCountMaximum(bitLength) - value.scale() < digitCountOfBound)
+        {
+            return -signum;
+        }
+
+        if (digitCountMinimum(bitLength) - value.scale() > digitCountOfBound)
+        {
+            return signum;
         }
+
+        return value.compareTo(BigDecimal.valueOf(bound));
+    }
+
+    private static int digitCount(
+            final long value)
+    {
+        int digitCount = 1;
+
+        for (long quotient = value / 10; quotient != 0; quotient /= 10)
+        {
+            digitCount++;
+        }
+
+        return digitCount;
     }
 }
@@ -1,7 +1,20 @@
 package io.github.drewctaylor.require;
 
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static io.github.drewctaylor.require.Require.requireName;
+import static io.github.drewctaylor.require.Require.requireNonNull;
+import static io.github.drewctaylor.require.RequireNumberHelper.parseLong;
+import static io.github.drewctaylor.require.RequireNumberHelper.parseLongInRange;
+import static io.github.drewctaylor.require.RequireNumberHelper.requireForAllElement;
+import static io.github.drewctaylor.require.RequireNumberHelper.requireRange;
+import static java.util.Arrays.asList;
+
 /**
- * Require that an Integer is positive, zero, or negative; require that a string represent an Integer.
+ * Require that an Integer is positive, zero, or negative; require that a string, a range of a character sequence, or a
+ * range of ASCII bytes represent an Integer, optionally within a range; require that every string of a list or an
+ * array represent an Integer.
  */
 public final class RequireNumberInteger
 {
@@ -130,4 +143,204 @@ public final class RequireNumberInteger
     {
         return requireNumberHelper.requireNumber(value, name);
     }
+
+    /**
+     * Return the characters of the given value from the given index, inclusive, to the given index, exclusive, as an
+     * int, if they represent an Integer; otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The characters are parsed in place, without a substring, and an invalid or out-of-range value costs only the
+     * IllegalArgumentException.
+     *
+     * @param  value                    the given value
+     * @param  from                     the index of the first character, inclusive
+     * @param  to                       the index of the last character, exclusive
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the characters of the given value as an int, if they represent an Integer
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if from is negative or greater than to
+     * @throws IllegalArgumentException if to is greater than the length of value
+     * @throws IllegalArgumentException if the characters do not represent an Integer
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static int requireInteger(
+            final CharSequence value,
+            final int from,
+            final int to,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        requireName(name);
+        requireRange(value, from, to);
+
+        return (int) parseLong(value, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE, name, Integer.class);
+    }
+
+    /**
+     * Return the bytes of the given array from the given index, inclusive, to the given index, exclusive, as an
+     * int, if they represent an Integer as ASCII characters; otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The bytes are parsed in place, without an intermediate string.
+     *
+     * @param  value                    the given array
+     * @param  from                     the index of the first byte, inclusive
+     * @param  to                       the index of the last byte, exclusive
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the bytes of the given array as an int, if they represent an Integer
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if from is negative or greater than to
+     * @throws IllegalArgumentException if to is greater than the length of value
+     * @throws IllegalArgumentException if the bytes do not represent an Integer
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static int requireInteger(
+            final byte[] value,
+            final int from,
+            final int to,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        requireName(name);
+
+        final AsciiCharSequence asciiCharSequence = new AsciiCharSequence(value);
+        requireRange(asciiCharSequence, from, to);
+
+        return (int) parseLong(asciiCharSequence, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE, name, Integer.class);
+    }
+
+    /**
+     * Return the bytes of the given buffer from the given index, inclusive, to the given index, exclusive, as an
+     * int, if they represent an Integer as ASCII characters; otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The bytes are parsed in place, without an intermediate string, at absolute indexes, so the position of the buffer does not change.
+     *
+     * @param  value                    the given buffer
+     * @param  from                     the index of the first byte, inclusive
+     * @param  to                       the index of the last byte, exclusive
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the bytes of the given buffer as an int, if they represent an Integer
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if from is negative or greater than to
+     * @throws IllegalArgumentException if to is greater than the limit of value
+     * @throws IllegalArgumentException if the bytes do not represent an Integer
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static int requireInteger(
+            final ByteBuffer value,
+            final int from,
+            final int to,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        requireName(name);
+
+        final AsciiCharSequence asciiCharSequence = new AsciiCharSequence(value);
+        requireRange(asciiCharSequence, from, to);
+
+        return (int) parseLong(asciiCharSequence, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE, name, Integer.class);
+    }
+
+    /**
+     * Return the given value as an int, if it represents an Integer greater than or equal to the given
+     * minimum and less than or equal to the given maximum; otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The value is parsed and compared in one pass, without boxing; once the digits show that the value is out of range, the remaining characters are only checked to be digits.
+     *
+     * @param  value                    the given value
+     * @param  minimum                  the given minimum, inclusive
+     * @param  maximum                  the given maximum, inclusive
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the given value as an int, if it represents an Integer within the given
+     *                                  range
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if value does not represent an Integer
+     * @throws IllegalArgumentException if value is less than minimum or greater than maximum
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static int requireIntegerInRange(
+            final CharSequence value,
+            final int minimum,
+            final int maximum,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        requireName(name);
+
+        return (int) parseLongInRange(value, 0, value.length(), minimum, maximum, name, Integer.class);
+    }
+
+    /**
+     * Return the elements of the given list as an int array, if every element represents an Integer; otherwise, throw
+     * an IllegalArgumentException that reports every element that does not.
+     *
+     * <p>
+     * Each element is parsed once, directly into the array, without boxing.
+     *
+     * @param  list                     the given list
+     * @param  name                     the name of the given list
+     * 
+     * @return                          the elements of the given list as an int array, if every element represents
+     *                                  an Integer
+     * 
+     * @throws NullPointerException     if list is null
+     * @throws IllegalArgumentException if an element of list is null or does not represent an Integer
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static int[] requireIntegerArray(
+            final List<String> list,
+            final String name)
+    {
+        requireNonNull(list, "list");
+        requireName(name);
+
+        final int[] array = new int[list.size()];
+
+        requireForAllElement(list, name, (string, index) -> array[index] = (int) parseLong(string, 0, string.length(), Integer.MIN_VALUE, Integer.MAX_VALUE, "element", Integer.class));
+
+        return array;
+    }
+
+    /**
+     * Return the elements of the given array as an int array, if every element represents an Integer; otherwise,
+     * throw an IllegalArgumentException that reports every element that does not.
+     *
+     * <p>
+     * Each element is parsed once, directly into the array, without boxing.
+     *
+     * @param  array                    the given array
+     * @param  name                     the name of the given array
+     * 
+     * @return                          the elements of the given array as an int array, if every element represents
+     *                                  an Integer
+     * 
+     * @throws NullPointerException     if array is null
+     * @throws IllegalArgumentException if an element of array is null or does not represent an Integer
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static int[] requireIntegerArray(
+            final String[] array,
+            final String name)
+    {
+        requireNonNull(array, "array");
+        requireName(name);
+
+        return requireIntegerArray(asList(array), name);
+    }
 }
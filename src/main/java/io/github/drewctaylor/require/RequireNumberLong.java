@@ -1,7 +1,20 @@
 package io.github.drewctaylor.require;
 
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static io.github.drewctaylor.require.Require.requireName;
+import static io.github.drewctaylor.require.Require.requireNonNull;
+import static io.github.drewctaylor.require.RequireNumberHelper.parseLong;
+import static io.github.drewctaylor.require.RequireNumberHelper.parseLongInRange;
+import static io.github.drewctaylor.require.RequireNumberHelper.requireForAllElement;
+import static io.github.drewctaylor.require.RequireNumberHelper.requireRange;
+import static java.util.Arrays.asList;
+
 /**
- * Require that a Long is positive, zero, or negative; require that a string represent a Long.
+ * Require that a Long is positive, zero, or negative; require that a string, a range of a character sequence, or a
+ * range of ASCII bytes represent a Long, optionally within a range; require that every string of a list or an array
+ * represent a Long.
  */
 public final class RequireNumberLong
 {
@@ -130,4 +143,204 @@ public final class RequireNumberLong
     {
         return requireNumberHelper.requireNumber(value, name);
     }
+
+    /**
+     * Return the characters of the given value from the given index, inclusive, to the given index, exclusive, as a
+     * long, if they represent a Long; otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The characters are parsed in place, without a substring, and an invalid or out-of-range value costs only the
+     * IllegalArgumentException.
+     *
+     * @param  value                    the given value
+     * @param  from                     the index of the first character, inclusive
+     * @param  to                       the index of the last character, exclusive
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the characters of the given value as a long, if they represent a Long
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if from is negative or greater than to
+     * @throws IllegalArgumentException if to is greater than the length of value
+     * @throws IllegalArgumentException if the characters do not represent a Long
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static long requireLong(
+            final CharSequence value,
+            final int from,
+            final int to,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        requireName(name);
+        requireRange(value, from, to);
+
+        return parseLong(value, from, to, Long.MIN_VALUE, Long.MAX_VALUE, name, Long.class);
+    }
+
+    /**
+     * Return the bytes of the given array from the given index, inclusive, to the given index, exclusive, as a
+     * long, if they represent a Long as ASCII characters; otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The bytes are parsed in place, without an intermediate string.
+     *
+     * @param  value                    the given array
+     * @param  from                     the index of the first byte, inclusive
+     * @param  to                       the index of the last byte, exclusive
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the bytes of the given array as a long, if they represent a Long
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if from is negative or greater than to
+     * @throws IllegalArgumentException if to is greater than the length of value
+     * @throws IllegalArgumentException if the bytes do not represent a Long
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static long requireLong(
+            final byte[] value,
+            final int from,
+            final int to,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        requireName(name);
+
+        final AsciiCharSequence asciiCharSequence = new AsciiCharSequence(value);
+        requireRange(asciiCharSequence, from, to);
+
+        return parseLong(asciiCharSequence, from, to, Long.MIN_VALUE, Long.MAX_VALUE, name, Long.class);
+    }
+
+    /**
+     * Return the bytes of the given buffer from the given index, inclusive, to the given index, exclusive, as a
+     * long, if they represent a Long as ASCII characters; otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The bytes are parsed in place, without an intermediate string, at absolute indexes, so the position of the buffer does not change.
+     *
+     * @param  value                    the given buffer
+     * @param  from                     the index of the first byte, inclusive
+     * @param  to                       the index of the last byte, exclusive
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the bytes of the given buffer as a long, if they represent a Long
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if from is negative or greater than to
+     * @throws IllegalArgumentException if to is greater than the limit of value
+     * @throws IllegalArgumentException if the bytes do not represent a Long
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static long requireLong(
+            final ByteBuffer value,
+            final int from,
+            final int to,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        requireName(name);
+
+        final AsciiCharSequence asciiCharSequence = new AsciiCharSequence(value);
+        requireRange(asciiCharSequence, from, to);
+
+        return parseLong(asciiCharSequence, from, to, Long.MIN_VALUE, Long.MAX_VALUE, name, Long.class);
+    }
+
+    /**
+     * Return the given value as a long, if it represents a Long greater than or equal to the given
+     * minimum and less than or equal to the given maximum; otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The value is parsed and compared in one pass, without boxing; once the digits show that the value is out of range, the remaining characters are only checked to be digits.
+     *
+     * @param  value                    the given value
+     * @param  minimum                  the given minimum, inclusive
+     * @param  maximum                  the given maximum, inclusive
+     * @param  name                     the name of the given value
+     * 
+     * @return                          the given value as a long, if it represents a Long within the given
+     *                                  range
+     * 
+     * @throws NullPointerException     if value is null
+     * @throws IllegalArgumentException if value does not represent a Long
+     * @throws IllegalArgumentException if value is less than minimum or greater than maximum
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static long requireLongInRange(
+            final CharSequence value,
+            final long minimum,
+            final long maximum,
+            final String name)
+    {
+        requireNonNull(value, "value");
+        requireName(name);
+
+        return parseLongInRange(value, 0, value.length(), minimum, maximum, name, Long.class);
+    }
+
+    /**
+     * Return the elements of the given list as a long array, if every element represents a Long; otherwise, throw
+     * an IllegalArgumentException that reports every element that does not.
+     *
+     * <p>
+     * Each element is parsed once, directly into the array, without boxing.
+     *
+     * @param  list                     the given list
+     * @param  name                     the name of the given list
+     * 
+     * @return                          the elements of the given list as a long array, if every element represents
+     *                                  a Long
+     * 
+     * @throws NullPointerException     if list is null
+     * @throws IllegalArgumentException if an element of list is null or does not represent a Long
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static long[] requireLongArray(
+            final List<String> list,
+            final String name)
+    {
+        requireNonNull(list, "list");
+        requireName(name);
+
+        final long[] array = new long[list.size()];
+
+        requireForAllElement(list, name, (string, index) -> array[index] = parseLong(string, 0, string.length(), Long.MIN_VALUE, Long.MAX_VALUE, "element", Long.class));
+
+        return array;
+    }
+
+    /**
+     * Return the elements of the given array as a long array, if every element represents a Long; otherwise,
+     * throw an IllegalArgumentException that reports every element that does not.
+     *
+     * <p>
+     * Each element is parsed once, directly into the array, without boxing.
+     *
+     * @param  array                    the given array
+     * @param  name                     the name of the given array
+     * 
+     * @return                          the elements of the given array as a long array, if every element represents
+     *                                  a Long
+     * 
+     * @throws NullPointerException     if array is null
+     * @throws IllegalArgumentException if an element of array is null or does not represent a Long
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     */
+    public static long[] requireLongArray(
+            final String[] array,
+            final String name)
+    {
+        requireNonNull(array, "array");
+        requireName(name);
+
+        return requireLongArray(asList(array), name);
+    }
 }
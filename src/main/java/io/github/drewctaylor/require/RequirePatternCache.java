@@ -0,0 +1,157 @@
+package io.github.drewctaylor.require;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.stream.IntStream.range;
+
+/**
+ * Cache the patterns that {@link RequireString#requireMatch(String, String, String)} compiles from regular expressions,
+ * and report the number of cache hits, misses, and evictions.
+ *
+ * <p>
+ * The cache holds at most {@value #CAPACITY} patterns, in {@value #STRIPE_COUNT} stripes; each stripe has its own lock and
+ * evicts its least recently used pattern when full.
+ */
+public final class RequirePatternCache
+{
+    private RequirePatternCache()
+    {
+    }
+
+    /**
+     * The number of stripes in the cache.
+     */
+    public static final int STRIPE_COUNT = 16;
+
+    /**
+     * The maximum number of patterns in the cache.
+     */
+    public static final int CAPACITY = 256;
+
+    private static final LongAdder hitCount = new LongAdder();
+    private static final LongAdder missCount = new LongAdder();
+    private static final LongAdder evictionCount = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    private static final Map<String, Pattern>[] stripeArray = range(0, STRIPE_COUNT).mapToObj(index -> new LinkedHashMap<String, Pattern>(CAPACITY / STRIPE_COUNT, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(
+                final Map.Entry<String, Pattern> eldest)
+        {
+            if (size() > CAPACITY / STRIPE_COUNT)
+            {
+                evictionCount.increment();
+                return true;
+            }
+
+            return false;
+        }
+    }).toArray(Map[]::new);
+
+    // a matcher is reused only by the thread that owns it, and only for a string, which cannot call back into this class
+    // while the matcher is in use.
+    private static final ThreadLocal<Matcher> matcherThreadLocal = new ThreadLocal<>();
+
+    private static Map<String, Pattern> stripe(
+            final String regex)
+    {
+        final int hash = regex.hashCode();
+
+        return stripeArray[(hash ^ hash >>> 16) & STRIPE_COUNT - 1];
+    }
+
+    static Pattern pattern(
+            final String regex)
+    {
+        final Map<String, Pattern> stripe = stripe(regex);
+
+        synchronized (stripe)
+        {
+            final Pattern pattern = stripe.get(regex);
+
+            if (pattern != null)
+            {
+                hitCount.increment();
+                return pattern;
+            }
+        }
+
+        missCount.increment();
+
+        final Pattern pattern = Pattern.compile(regex);
+
+        synchronized (stripe)
+        {
+            final Pattern patternPrevious = stripe.putIfAbsent(regex, pattern);
+
+            return patternPrevious == null ? pattern : patternPrevious;
+        }
+    }
+
+    static boolean matches(
+            final Pattern pattern,
+            final String string)
+    {
+        final Matcher matcherPrevious = matcherThreadLocal.get();
+
+        if (matcherPrevious == null || matcherPrevious.pattern() != pattern)
+        {
+            final Matcher matcher = pattern.matcher(string);
+            matcherThreadLocal.set(matcher);
+            return matches(matcher);
+        }
+        else
+        {
+            return matches(matcherPrevious.reset(string));
+        }
+    }
+
+    private static boolean matches(
+            final Matcher matcher)
+    {
+        try
+        {
+            return matcher.matches();
+        }
+        finally
+        {
+            // release the string, so that the matcher does not retain it.
+            matcher.reset("");
+        }
+    }
+
+    /**
+     * Return the number of times the cache held the pattern for a regular expression.
+     *
+     * @return the number of times the cache held the pattern for a regular expression
+     */
+    public static long hitCount()
+    {
+        return hitCount.sum();
+    }
+
+    /**
+     * Return the number of times the cache did not hold the pattern for a regular expression.
+     *
+     * @return the number of times the cache did not hold the pattern for a regular expression
+     */
+    public static long missCount()
+    {
+        return missCount.sum();
+    }
+
+    /**
+     * Return the number of times the cache evicted a pattern.
+     *
+     * @return the number of times the cache evicted a pattern
+     */
+    public static long evictionCount()
+    {
+        return evictionCount.sum();
+    }
+}
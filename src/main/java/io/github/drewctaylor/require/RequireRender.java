@@ -0,0 +1,220 @@
+package io.github.drewctaylor.require;
+
+import java.util.Collection;
+import java.util.Formattable;
+import java.util.Map;
+
+import static io.github.drewctaylor.require.RequireNumberInteger.requirePositive;
+import static java.lang.String.format;
+
+/**
+ * Render a value for a failure message, in at most a maximum number of characters, so that a failure for a huge value
+ * neither copies the value nor floods a log.
+ *
+ * <p>
+ * A value that renders in at most the maximum number of characters renders as {@code %s} would. A longer value renders
+ * as its first characters, followed by {@code ...}:
+ *
+ * <ul>
+ * <li>a {@link CharSequence} renders as a slice of itself, so that a long string is never copied in full;</li>
+ * <li>a {@link Collection} or a {@link Map} renders as {@link java.util.AbstractCollection#toString()} or
+ * {@link java.util.AbstractMap#toString()} would, but renders only the elements that fit, so that it never calls
+ * {@link Object#toString()} on the elements that follow;</li>
+ * <li>any other value renders as the slice of {@link String#valueOf(Object)}.</li>
+ * </ul>
+ *
+ * <p>
+ * The maximum number of characters is {@value #MAXIMUM_LENGTH_DEFAULT}, unless the system property {@value #PROPERTY}
+ * or {@link #setMaximumLength(int)} sets another; a system property that is not a positive integer is ignored.
+ */
+public final class RequireRender
+{
+    private RequireRender()
+    {
+    }
+
+    /**
+     * The system property that sets the initial maximum number of characters.
+     */
+    public static final String PROPERTY = "io.github.drewctaylor.require.render.maximumLength";
+
+    /**
+     * The default maximum number of characters.
+     */
+    public static final int MAXIMUM_LENGTH_DEFAULT = 256;
+
+    private static final String ELLIPSIS = "...";
+
+    private static volatile int maximumLength = maximumLengthProperty();
+
+    // return the maximum number of characters that the system property sets, or the default, if it is absent, is not
+    // an integer, or is not positive; the failure path renders through this class, so its initializer must not throw.
+    private static int maximumLengthProperty()
+    {
+        final int maximumLength = Integer.getInteger(PROPERTY, MAXIMUM_LENGTH_DEFAULT);
+
+        return maximumLength > 0 ? maximumLength : MAXIMUM_LENGTH_DEFAULT;
+    }
+
+    /**
+     * Set the maximum number of characters.
+     *
+     * @param  maximumLength            the maximum number of characters
+     * 
+     * @throws IllegalArgumentException if maximumLength is not positive
+     */
+    public static void setMaximumLength(
+            final int maximumLength)
+    {
+        RequireRender.maximumLength = requirePositive(maximumLength, "maximumLength");
+    }
+
+    /**
+     * Return the maximum number of characters.
+     *
+     * @return the maximum number of characters
+     */
+    public static int getMaximumLength()
+    {
+        return maximumLength;
+    }
+
+    /**
+     * Set the maximum number of characters to the default, {@value #MAXIMUM_LENGTH_DEFAULT}, regardless of the system
+     * property.
+     */
+    public static void reset()
+    {
+        maximumLength = MAXIMUM_LENGTH_DEFAULT;
+    }
+
+    /**
+     * Return the given value, rendered in at most the maximum number of characters, followed by {@code ...} if
+     * truncated.
+     *
+     * @param  value the given value
+     * 
+     * @return       the given value, rendered in at most the maximum number of characters
+     */
+    public static String render(
+            final Object value)
+    {
+        return render(value, maximumLength);
+    }
+
+    static String render(
+            final Object value,
+            final int maximumLength)
+    {
+        if (value instanceof String && ((String) value).length() <= maximumLength)
+        {
+            return (String) value;
+        }
+
+        final StringBuilder stringBuilder = new StringBuilder(Math.min(maximumLength, 64));
+
+        return append(stringBuilder, value, maximumLength) ? stringBuilder.toString() : stringBuilder.append(ELLIPSIS).toString();
+    }
+
+    // append the given value to the given string builder, until its length reaches the given limit; return true if the
+    // value fit.
+    private static boolean append(
+            final StringBuilder stringBuilder,
+            final Object value,
+            final int limit)
+    {
+        if (value instanceof CharSequence)
+        {
+            return appendCharSequence(stringBuilder, (CharSequence) value, limit);
+        }
+        else if (value instanceof Collection<?>)
+        {
+            return appendCollection(stringBuilder, (Collection<?>) value, limit);
+        }
+        else if (value instanceof Map<?, ?>)
+        {
+            return appendMap(stringBuilder, (Map<?, ?>) value, limit);
+        }
+        else if (value instanceof Formattable)
+        {
+            return appendCharSequence(stringBuilder, format("%s", value), limit);
+        }
+        else
+        {
+            return appendCharSequence(stringBuilder, String.valueOf(value), limit);
+        }
+    }
+
+    private static boolean appendCharSequence(
+            final StringBuilder stringBuilder,
+            final CharSequence charSequence,
+            final int limit)
+    {
+        final int remaining = limit - stringBuilder.length();
+
+        if (charSequence.length() <= remaining)
+        {
+            stringBuilder.append(charSequence);
+            return true;
+        }
+
+        // do not split a surrogate pair.
+        final int end = remaining > 0 && Character.isHighSurrogate(charSequence.charAt(remaining - 1)) ? remaining - 1 : Math.max(remaining, 0);
+
+        stringBuilder.append(charSequence, 0, end);
+        return false;
+    }
+
+    private static boolean appendCollection(
+            final StringBuilder stringBuilder,
+            final Collection<?> collection,
+            final int limit)
+    {
+        if (!appendCharSequence(stringBuilder, "[", limit))
+        {
+            return false;
+        }
+
+        String separator = "";
+
+        for (final Object element : collection)
+        {
+            if (!appendCharSequence(stringBuilder, separator, limit) || !append(stringBuilder, element == collection ? "(this Collection)" : element, limit))
+            {
+                return false;
+            }
+
+            separator = ", ";
+        }
+
+        return appendCharSequence(stringBuilder, "]", limit);
+    }
+
+    private static boolean appendMap(
+            final StringBuilder stringBuilder,
+            final Map<?, ?> map,
+            final int limit)
+    {
+        if (!appendCharSequence(stringBuilder, "{", limit))
+        {
+            return false;
+        }
+
+        String separator = "";
+
+        for (final Map.Entry<?, ?> entry : map.entrySet())
+        {
+            if (!appendCharSequence(stringBuilder, separator, limit)
+                    || !append(stringBuilder, entry.getKey() == map ? "(this Map)" : entry.getKey(), limit)
+                    || !appendCharSequence(stringBuilder, "=", limit)
+                    || !append(stringBuilder, entry.getValue() == map ? "(this Map)" : entry.getValue(), limit))
+            {
+                return false;
+            }
+
+            separator = ", ";
+        }
+
+        return appendCharSequence(stringBuilder, "}", limit);
+    }
+}
@@ -0,0 +1,438 @@
+package io.github.drewctaylor.require;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import static io.github.drewctaylor.require.Require.requireName;
+import static io.github.drewctaylor.require.Require.requireNonNull;
+import static io.github.drewctaylor.require.RequireNumberInteger.requirePositive;
+import static java.lang.String.format;
+
+/**
+ * A requirement function that remembers, for a bounded number of values, whether each value met a given requirement
+ * function; use it wherever a requirement function is expected, such as
+ * {@link RequireCollection#requireForAll(java.util.Collection, Function, String)}.
+ *
+ * <p>
+ * The cache remembers failures as well as successes: for a value that failed, it throws the exception that the given
+ * requirement function threw, without applying the function again. If that exception is a {@link RequirementViolation},
+ * each later call throws a copy of it, caused by it; otherwise, each later call throws the same instance, which is
+ * therefore shared by every caller, on every thread, that applies the cache to that value. Values are compared by
+ * {@link Object#equals(Object)}, so the given requirement function must depend on nothing but the value.
+ *
+ * <p>
+ * The cache is divided into segments, each with its own lock; when a segment is full, it evicts its least recently
+ * used value. With {@link Eviction#TINY_LFU}, a segment also estimates the frequency of each value with a count-min
+ * sketch, and admits a new value only if it is more frequent than the value it would evict, so that a scan of many
+ * values used once does not evict the values used often.
+ *
+ * @param <TYPE> the type of the value
+ */
+public final class RequireResultCache<TYPE> implements Function<TYPE, TYPE>
+{
+    /**
+     * The eviction policy of a cache.
+     */
+    public enum Eviction
+    {
+        /**
+         * Evict the least recently used value.
+         */
+        LRU,
+
+        /**
+         * Evict the least recently used value, but admit a new value only if it is more frequent than the value it
+         * would evict.
+         */
+        TINY_LFU
+    }
+
+    // the key of the null value.
+    private static final Object NULL = new Object();
+
+    // a count-min sketch of 4-bit counters; when the number of increments reaches ten times the size of the segment,
+    // every counter is halved, so that the sketch forgets values that were frequent long ago.
+    private static final class Sketch
+    {
+        private static final int DEPTH = 4;
+        private static final int[] SEED_ARRAY = {0x97CB3127, 0xB4E9A4E7, 0x85EBCA6B, 0xC2B2AE35};
+
+        private final byte[] counterArray;
+        private final int mask;
+        private final int sampleSize;
+        private int incrementCount = 0;
+
+        private Sketch(
+                final int maximumSize)
+        {
+            this.mask = Integer.highestOneBit(Math.max(maximumSize, 16) * 8) - 1;
+            this.counterArray = new byte[DEPTH * (mask + 1)];
+            this.sampleSize = Math.max(maximumSize, 8) * 10;
+        }
+
+        private int index(
+                final int hash,
+                final int depth)
+        {
+            final int hashForDepth = (hash ^ SEED_ARRAY[depth]) * SEED_ARRAY[depth];
+
+            return depth * (mask + 1) + ((hashForDepth ^ hashForDepth >>> 16) & mask);
+        }
+
+        private int frequency(
+                final int hash)
+        {
+            int frequency = Integer.MAX_VALUE;
+
+            for (int depth = 0; depth < DEPTH; depth++)
+            {
+                frequency = Math.min(frequency, counterArray[index(hash, depth)]);
+            }
+
+            return frequency;
+        }
+
+        private void increment(
+                final int hash)
+        {
+            for (int depth = 0; depth < DEPTH; depth++)
+            {
+                final int index = index(hash, depth);
+
+                if (counterArray[index] < 15)
+                {
+                    counterArray[index]++;
+                }
+            }
+
+            if (++incrementCount == sampleSize)
+            {
+                for (int index = 0; index < counterArray.length; index++)
+                {
+                    counterArray[index] >>>= 1;
+                }
+
+                incrementCount = 0;
+            }
+        }
+    }
+
+    private static final class Segment
+    {
+        private final Map<Object, Result> resultMap = new LinkedHashMap<>(16, 0.75f, true);
+        private final int maximumSize;
+        private final Sketch sketch;
+        private final LongAdder evictionCount;
+        private final LongAdder rejectionCount;
+
+        private Segment(
+                final int maximumSize,
+                final Eviction eviction,
+                final LongAdder evictionCount,
+                final LongAdder rejectionCount)
+        {
+            this.maximumSize = maximumSize;
+            this.sketch = eviction == Eviction.TINY_LFU ? new Sketch(maximumSize) : null;
+            this.evictionCount = evictionCount;
+            this.rejectionCount = rejectionCount;
+        }
+
+        private synchronized Result get(
+                final Object key,
+                final int hash)
+        {
+            if (sketch != null)
+            {
+                sketch.increment(hash);
+            }
+
+            return resultMap.get(key);
+        }
+
+        private synchronized void put(
+                final Object key,
+                final int hash,
+                final Result result)
+        {
+            if (resultMap.size() >= maximumSize && !resultMap.containsKey(key))
+            {
+                final Iterator<Map.Entry<Object, Result>> iterator = resultMap.entrySet().iterator();
+                final Object keyEldest = iterator.next().getKey();
+
+                if (sketch != null && sketch.frequency(hash) <= sketch.frequency(spread(keyEldest.hashCode())))
+                {
+                    rejectionCount.increment();
+                    return;
+                }
+
+                iterator.remove();
+                evictionCount.increment();
+            }
+
+            resultMap.put(key, result);
+        }
+
+        private synchronized int size()
+        {
+            return resultMap.size();
+        }
+
+        private synchronized void clear()
+        {
+            resultMap.clear();
+        }
+    }
+
+    // the result of the requirement function for a value: the value it returned, or the exception it threw.
+    private static final class Result
+    {
+        private final Object value;
+        private final RuntimeException runtimeException;
+
+        private Result(
+                final Object value,
+                final RuntimeException runtimeException)
+        {
+            this.value = value;
+            this.runtimeException = runtimeException;
+        }
+    }
+
+    private final Function<TYPE, TYPE> require;
+    private final Eviction eviction;
+    private final int maximumSize;
+    private final Segment[] segmentArray;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder rejectionCount = new LongAdder();
+
+    private RequireResultCache(
+            final Function<TYPE, TYPE> require,
+            final int maximumSize,
+            final Eviction eviction)
+    {
+        // at least sixteen values for each segment, and at most four segments for each processor.
+        final int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(maximumSize / 16, Runtime.getRuntime().availableProcessors() * 4)));
+
+        this.require = require;
+        this.eviction = eviction;
+        this.maximumSize = maximumSize;
+        this.segmentArray = new Segment[segmentCount];
+
+        for (int index = 0; index < segmentCount; index++)
+        {
+            segmentArray[index] = new Segment(maximumSize / segmentCount + (index < maximumSize % segmentCount ? 1 : 0), eviction, evictionCount, rejectionCount);
+        }
+    }
+
+    private static int spread(
+            final int hashCode)
+    {
+        return hashCode ^ hashCode >>> 16;
+    }
+
+    // return a copy of the given remembered exception, caused by it, if it is a RequirementViolation, so that each caller
+    // throws its own violation, with its own stack trace and suppressed exceptions; otherwise, return the given remembered
+    // exception, so that its type is preserved.
+    private static RuntimeException copy(
+            final RuntimeException runtimeException)
+    {
+        return runtimeException instanceof RequirementViolation ? ((RequirementViolation) runtimeException).copy() : runtimeException;
+    }
+
+    /**
+     * Return a cache of the results of the given requirement function, for at most the given number of values, with
+     * the given eviction policy.
+     *
+     * @param  require                  the given requirement function
+     * @param  maximumSize              the given number of values
+     * @param  eviction                 the given eviction policy
+     * @param  <TYPE>                   the type of the value
+     * 
+     * @return                          a cache of the results of the given requirement function
+     * 
+     * @throws NullPointerException     if require is null
+     * @throws IllegalArgumentException if maximumSize is not positive
+     * @throws NullPointerException     if eviction is null
+     */
+    public static <TYPE> RequireResultCache<TYPE> of(
+            final Function<TYPE, TYPE> require,
+            final int maximumSize,
+            final Eviction eviction)
+    {
+        requireNonNull(require, "require");
+        requirePositive(maximumSize, "maximumSize");
+        requireNonNull(eviction, "eviction");
+
+        return new RequireResultCache<>(require, maximumSize, eviction);
+    }
+
+    /**
+     * Return a cache of the results of {@link RequireString#requireMatch(String, Pattern, String)} for the given pattern
+     * and name, for at most the given number of values, with the given eviction policy.
+     *
+     * @param  pattern                  the given pattern
+     * @param  name                     the given name
+     * @param  maximumSize              the given number of values
+     * @param  eviction                 the given eviction policy
+     * 
+     * @return                          a cache of the results of requireMatch for the given pattern and name
+     * 
+     * @throws NullPointerException     if pattern is null
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException if name is blank
+     * @throws IllegalArgumentException if maximumSize is not positive
+     * @throws NullPointerException     if eviction is null
+     */
+    public static RequireResultCache<String> ofMatch(
+            final Pattern pattern,
+            final String name,
+            final int maximumSize,
+            final Eviction eviction)
+    {
+        requireNonNull(pattern, "pattern");
+        requireName(name);
+
+        return of(RequireCost.label(string -> RequireString.requireMatch(string, pattern, name), "requireMatch(" + pattern.pattern() + ")"), maximumSize, eviction);
+    }
+
+    /**
+     * Return the result of the given requirement function for the given value: return what it returned, or throw what it
+     * threw, or a copy of a RequirementViolation that it threw, for the given value, applying it only if the cache does
+     * not have the result.
+     *
+     * @param  value the given value
+     * 
+     * @return       the result of the given requirement function for the given value
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public TYPE apply(
+            final TYPE value)
+    {
+        final Object key = value == null ? NULL : value;
+        final int hash = spread(key.hashCode());
+        final Segment segment = segmentArray[hash & segmentArray.length - 1];
+        Result result = segment.get(key, hash);
+
+        if (result == null)
+        {
+            missCount.increment();
+
+            try
+            {
+                result = new Result(require.apply(value), null);
+            }
+            catch (final RuntimeException runtimeException)
+            {
+                segment.put(key, hash, new Result(null, runtimeException));
+                throw runtimeException;
+            }
+
+            segment.put(key, hash, result);
+        }
+        else
+        {
+            hitCount.increment();
+
+            if (result.runtimeException != null)
+            {
+                throw copy(result.runtimeException);
+            }
+        }
+
+        return (TYPE) result.value;
+    }
+
+    // return the requirement function whose results the cache remembers.
+    Function<TYPE, TYPE> getRequire()
+    {
+        return require;
+    }
+
+    /**
+     * Return the number of values for which the cache had the result.
+     *
+     * @return the number of values for which the cache had the result
+     */
+    public long getHitCount()
+    {
+        return hitCount.sum();
+    }
+
+    /**
+     * Return the number of values for which the cache did not have the result.
+     *
+     * @return the number of values for which the cache did not have the result
+     */
+    public long getMissCount()
+    {
+        return missCount.sum();
+    }
+
+    /**
+     * Return the number of values evicted to admit another.
+     *
+     * @return the number of values evicted to admit another
+     */
+    public long getEvictionCount()
+    {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Return the number of values not admitted, because they were less frequent than the value they would evict.
+     *
+     * @return the number of values not admitted
+     */
+    public long getRejectionCount()
+    {
+        return rejectionCount.sum();
+    }
+
+    /**
+     * Return the number of values in the cache.
+     *
+     * @return the number of values in the cache
+     */
+    public int size()
+    {
+        int size = 0;
+
+        for (final Segment segment : segmentArray)
+        {
+            size = size + segment.size();
+        }
+
+        return size;
+    }
+
+    /**
+     * Remove every value from the cache; the statistics remain.
+     */
+    public void clear()
+    {
+        for (final Segment segment : segmentArray)
+        {
+            segment.clear();
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return format("RequireResultCache(eviction=%s, maximumSize=%s, size=%s, hitCount=%s, missCount=%s, evictionCount=%s, rejectionCount=%s)",
+                eviction,
+                maximumSize,
+                size(),
+                getHitCount(),
+                getMissCount(),
+                getEvictionCount(),
+                getRejectionCount());
+    }
+}
@@ -0,0 +1,375 @@
+package io.github.drewctaylor.require;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+import static io.github.drewctaylor.require.Require.requireNonNull;
+import static io.github.drewctaylor.require.RequireBound.requireBoundMinimumExclusiveMaximumInclusive;
+import static io.github.drewctaylor.require.RequireNumberInteger.requirePositive;
+import static java.lang.String.format;
+import static java.util.AbstractMap.SimpleImmutableEntry;
+import static java.util.Map.Entry;
+
+/**
+ * A random sample of a collection, at a fixed rate or of a fixed size, from a seed; the same seed selects the same
+ * elements of the same collection.
+ *
+ * <p>
+ * A sample of a {@link RandomAccess} list selects its elements by index, without iterating the list; a sample of any
+ * other collection iterates the collection once, and selects its elements by skipping a random number of elements
+ * between selections (for a fixed rate) or by reservoir sampling (for a fixed size).
+ */
+public final class RequireSample
+{
+    // the z-score of the 95% confidence interval.
+    private static final double Z = 1.959963984540054;
+
+    private final double rate;
+    private final int size;
+    private final long seed;
+
+    private RequireSample(
+            final double rate,
+            final int size,
+            final long seed)
+    {
+        this.rate = rate;
+        this.size = size;
+        this.seed = seed;
+    }
+
+    /**
+     * The estimated failure rate of a requirement for a collection, from a sample.
+     */
+    public static final class Estimate
+    {
+        private final long populationSize;
+        private final long sampleSize;
+        private final long failureCount;
+        private final double failureRate;
+        private final double lowerBound;
+        private final double upperBound;
+
+        Estimate(
+                final long populationSize,
+                final long sampleSize,
+                final long failureCount)
+        {
+            this.populationSize = populationSize;
+            this.sampleSize = sampleSize;
+            this.failureCount = failureCount;
+
+            if (sampleSize == 0)
+            {
+                this.failureRate = 0;
+                this.lowerBound = 0;
+                this.upperBound = 1;
+            }
+            else if (sampleSize == populationSize)
+            {
+                this.failureRate = (double) failureCount / sampleSize;
+                this.lowerBound = failureRate;
+                this.upperBound = failureRate;
+            }
+            else
+            {
+                // the Wilson score interval, which, unlike the normal approximation, remains within [0, 1] and is
+                // reasonable when the sample has few or no failures.
+                final double n = sampleSize;
+                final double p = failureCount / n;
+                final double denominator = 1 + Z * Z / n;
+                final double center = (p + Z * Z / (2 * n)) / denominator;
+                final double halfWidth = Z * Math.sqrt(p * (1 - p) / n + Z * Z / (4 * n * n)) / denominator;
+
+                this.failureRate = p;
+                this.lowerBound = Math.max(0, center - halfWidth);
+                this.upperBound = Math.min(1, center + halfWidth);
+            }
+        }
+
+        /**
+         * Return the number of elements in the collection.
+         *
+         * @return the number of elements in the collection
+         */
+        public long getPopulationSize()
+        {
+            return populationSize;
+        }
+
+        /**
+         * Return the number of elements in the sample.
+         *
+         * @return the number of elements in the sample
+         */
+        public long getSampleSize()
+        {
+            return sampleSize;
+        }
+
+        /**
+         * Return the number of elements in the sample that do not meet the requirement.
+         *
+         * @return the number of elements in the sample that do not meet the requirement
+         */
+        public long getFailureCount()
+        {
+            return failureCount;
+        }
+
+        /**
+         * Return the estimated failure rate: the fraction of elements in the sample that do not meet the requirement.
+         *
+         * @return the estimated failure rate
+         */
+        public double getFailureRate()
+        {
+            return failureRate;
+        }
+
+        /**
+         * Return the lower bound of the 95% confidence interval of the failure rate.
+         *
+         * @return the lower bound of the 95% confidence interval of the failure rate
+         */
+        public double getLowerBound()
+        {
+            return lowerBound;
+        }
+
+        /**
+         * Return the upper bound of the 95% confidence interval of the failure rate.
+         *
+         * @return the upper bound of the 95% confidence interval of the failure rate
+         */
+        public double getUpperBound()
+        {
+            return upperBound;
+        }
+
+        @Override
+        public String toString()
+        {
+            return format(Locale.ROOT, "%s of %s sampled of %s failed, an estimated failure rate of %.4f (95%% confidence interval %.4f to %.4f)",
+                    failureCount,
+                    sampleSize,
+                    populationSize,
+                    failureRate,
+                    lowerBound,
+                    upperBound);
+        }
+    }
+
+    /**
+     * Return a sample that selects each element independently with the given probability, from the given seed.
+     *
+     * @param  rate                     the given probability
+     * @param  seed                     the given seed
+     * 
+     * @return                          a sample that selects each element independently with the given probability
+     * 
+     * @throws IllegalArgumentException if rate is not greater than 0 and less than or equal to 1
+     */
+    public static RequireSample ofRate(
+            final double rate,
+            final long seed)
+    {
+        requireBoundMinimumExclusiveMaximumInclusive(rate, 0d, 1d, "rate");
+
+        return new RequireSample(rate, 0, seed);
+    }
+
+    /**
+     * Return a sample that selects the given number of elements, or every element of a smaller collection, from the
+     * given seed.
+     *
+     * @param  size                     the given number of elements
+     * @param  seed                     the given seed
+     * 
+     * @return                          a sample that selects the given number of elements
+     * 
+     * @throws IllegalArgumentException if size is not positive
+     */
+    public static RequireSample ofSize(
+            final int size,
+            final long seed)
+    {
+        requirePositive(size, "size");
+
+        return new RequireSample(0, size, seed);
+    }
+
+    // the number of elements to skip before the next selection, at the given rate: a geometric random variable.
+    private static long skip(
+            final SplittableRandom random,
+            final double rate)
+    {
+        return rate == 1 ? 0 : (long) Math.min(Math.floor(Math.log(1 - random.nextDouble()) / Math.log1p(-rate)), Integer.MAX_VALUE);
+    }
+
+    private <TYPE> List<Entry<Integer, TYPE>> sampleRate(
+            final Collection<TYPE> collection,
+            final SplittableRandom random)
+    {
+        final List<Entry<Integer, TYPE>> sampleList = new ArrayList<>();
+
+        if (collection instanceof RandomAccess && collection instanceof List)
+        {
+            final List<TYPE> list = (List<TYPE>) collection;
+
+            for (long index = skip(random, rate); index < list.size(); index = index + 1 + skip(random, rate))
+            {
+                sampleList.add(new SimpleImmutableEntry<>((int) index, list.get((int) index)));
+            }
+        }
+        else
+        {
+            long next = skip(random, rate);
+            int index = 0;
+
+            for (final TYPE element : collection)
+            {
+                if (index == next)
+                {
+                    sampleList.add(new SimpleImmutableEntry<>(index, element));
+                    next = index + 1 + skip(random, rate);
+                }
+
+                index++;
+            }
+        }
+
+        return sampleList;
+    }
+
+    private <TYPE> List<Entry<Integer, TYPE>> sampleSize(
+            final Collection<TYPE> collection,
+            final SplittableRandom random)
+    {
+        final List<Entry<Integer, TYPE>> sampleList = new ArrayList<>(size);
+
+        if (collection instanceof RandomAccess && collection instanceof List)
+        {
+            // Floyd's algorithm: select the given number of distinct indexes, with one random number for each.
+            final List<TYPE> list = (List<TYPE>) collection;
+            final Set<Integer> indexSet = new HashSet<>();
+
+            for (int index = list.size() - size; index < list.size(); index++)
+            {
+                final int indexRandom = random.nextInt(index + 1);
+
+                indexSet.add(indexSet.contains(indexRandom) ? index : indexRandom);
+            }
+
+            indexSet.forEach(index -> sampleList.add(new SimpleImmutableEntry<>(index, list.get(index))));
+        }
+        else
+        {
+            // reservoir sampling, by Li's algorithm L: skip a random number of elements between replacements, so that
+            // the number of random numbers is proportional to the size of the sample rather than of the collection.
+            final Iterator<TYPE> iterator = collection.iterator();
+            double weight = Math.exp(Math.log(1 - random.nextDouble()) / size);
+            long next = size + skip(random, weight);
+            int index = 0;
+
+            while (iterator.hasNext())
+            {
+                final TYPE element = iterator.next();
+
+                if (index < size)
+                {
+                    sampleList.add(new SimpleImmutableEntry<>(index, element));
+                }
+                else if (index == next)
+                {
+                    sampleList.set(random.nextInt(size), new SimpleImmutableEntry<>(index, element));
+                    weight = weight * Math.exp(Math.log(1 - random.nextDouble()) / size);
+                    next = index + 1 + skip(random, weight);
+                }
+
+                index++;
+            }
+        }
+
+        sampleList.sort(Comparator.comparing(Entry::getKey));
+
+        return sampleList;
+    }
+
+    /**
+     * Return the elements of the sample of the given collection, with their indexes, in the order of the collection.
+     */
+    <TYPE> List<Entry<Integer, TYPE>> sample(
+            final Collection<TYPE> collection)
+    {
+        final SplittableRandom random = new SplittableRandom(seed);
+
+        if (size != 0 && size >= collection.size())
+        {
+            final List<Entry<Integer, TYPE>> sampleList = new ArrayList<>(collection.size());
+            int index = 0;
+
+            for (final TYPE element : collection)
+            {
+                sampleList.add(new SimpleImmutableEntry<>(index++, element));
+            }
+
+            return sampleList;
+        }
+
+        return size == 0 ? sampleRate(collection, random) : sampleSize(collection, random);
+    }
+
+    /**
+     * Return the estimated failure rate of the given requirement for the given collection, from this sample of the
+     * given collection.
+     *
+     * @param  collection           the given collection
+     * @param  require              the given requirement
+     * @param  <TYPE>               the type of the collection element
+     * 
+     * @return                      the estimated failure rate of the given requirement for the given collection
+     * 
+     * @throws NullPointerException if collection is null
+     * @throws NullPointerException if require is null
+     */
+    public <TYPE> Estimate estimate(
+            final Collection<TYPE> collection,
+            final Function<TYPE, TYPE> require)
+    {
+        requireNonNull(collection, "collection");
+        requireNonNull(require, "require");
+
+        final List<Entry<Integer, TYPE>> sampleList = sample(collection);
+        long failureCount = 0;
+
+        for (final Entry<Integer, TYPE> entry : sampleList)
+        {
+            try
+            {
+                require.apply(entry.getValue());
+            }
+            catch (final RuntimeException runtimeException)
+            {
+                failureCount++;
+            }
+        }
+
+        return new Estimate(collection.size(), sampleList.size(), failureCount);
+    }
+
+    @Override
+    public String toString()
+    {
+        return size == 0 ? format("RequireSample(rate=%s, seed=%s)", rate, seed) : format("RequireSample(size=%s, seed=%s)", size, seed);
+    }
+}
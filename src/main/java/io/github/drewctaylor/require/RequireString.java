@@ -2,6 +2,7 @@ package io.github.drewctaylor.require;
 
 import java.util.regex.Pattern;
 
+import static io.github.drewctaylor.require.Require.isBlank;
 import static io.github.drewctaylor.require.Require.require;
 import static io.github.drewctaylor.require.Require.requireName;
 import static io.github.drewctaylor.require.Require.requireNonBlankHelper;
@@ -16,11 +17,14 @@ import static io.github.drewctaylor.require.RequireBound.requireGreaterThanOrEqu
 import static io.github.drewctaylor.require.RequireBound.requireLessThan;
 import static io.github.drewctaylor.require.RequireBound.requireLessThanOrEqual;
 import static io.github.drewctaylor.require.RequireNumberInteger.requireZeroOrPositive;
-import static java.lang.String.format;
 
 /**
- * Require a string to be empty or non-empty, to have a length within bounds, to be blank or non-blank, or to match a
- * regular expression.
+ * Require a string to be empty or non-empty, to have a length within bounds, to be blank or non-blank, to match a
+ * regular expression, or to have a common format, such as a UUID, an identifier, or an email address.
+ *
+ * <p>
+ * The methods that accept a character sequence, such as a StringBuilder or a CharBuffer, validate it in place and return
+ * it, rather than copy it to a string.
  */
 public final class RequireString
 {
@@ -28,6 +32,12 @@ public final class RequireString
     {
     }
 
+    private static final String REGEX_UUID = "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}";
+    private static final String REGEX_HEXADECIMAL = "[0-9a-fA-F]+";
+    private static final String REGEX_IDENTIFIER = "[A-Za-z_][A-Za-z0-9_]*";
+    private static final String REGEX_DIGITS = "[0-9]+";
+    private static final String REGEX_EMAIL = "[^@\\s]+@[^@\\s]+\\.[^@\\s]+";
+
     /**
      * Return the given string, if length is less than the given maximum; otherwise, throw an IllegalArgumentException.
      *
@@ -55,6 +65,34 @@ public final class RequireString
         return requireLessThan(string, String::length, maximum, name, "length");
     }
 
+    /**
+     * Return the given character sequence, if length is less than the given maximum; otherwise, throw an IllegalArgumentException.
+     *
+     * @param  charSequence             the given character sequence
+     * @param  maximum                  the given maximum
+     * @param  name                     the name of the given character sequence
+     * @param  <CHARSEQUENCE>           the type of the given character sequence
+     * 
+     * @return                          the given character sequence, if length less than the given maximum
+     * 
+     * @throws NullPointerException     if charSequence is null
+     * @throws IllegalArgumentException if charSequence length is not less than the given maximum
+     * @throws IllegalArgumentException if maximum is not zero or positive
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <CHARSEQUENCE extends CharSequence> CHARSEQUENCE requireLengthLessThan(
+            final CHARSEQUENCE charSequence,
+            final int maximum,
+            final String name)
+    {
+        requireNonNull(charSequence, "charSequence");
+        requireZeroOrPositive(maximum, "maximum");
+        requireName(name);
+
+        return requireLessThan(charSequence, CharSequence::length, maximum, name, "length");
+    }
+
     /**
      * Return the given string, if length is less than or equal to the given maximum; otherwise, throw an
      * IllegalArgumentException.
@@ -83,6 +121,35 @@ public final class RequireString
         return requireLessThanOrEqual(string, String::length, maximum, name, "length");
     }
 
+    /**
+     * Return the given character sequence, if length is less than or equal to the given maximum; otherwise, throw an
+     * IllegalArgumentException.
+     *
+     * @param  charSequence             the given character sequence
+     * @param  maximum                  the given maximum
+     * @param  name                     the name of the given character sequence
+     * @param  <CHARSEQUENCE>           the type of the given character sequence
+     * 
+     * @return                          the given character sequence, if length is less than or equal to the given maximum
+     * 
+     * @throws NullPointerException     if charSequence is null
+     * @throws IllegalArgumentException if charSequence length is not less than or equal to the given maximum
+     * @throws IllegalArgumentException if maximum is not zero or positive
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <CHARSEQUENCE extends CharSequence> CHARSEQUENCE requireLengthLessThanOrEqual(
+            final CHARSEQUENCE charSequence,
+            final int maximum,
+            final String name)
+    {
+        requireNonNull(charSequence, "charSequence");
+        requireZeroOrPositive(maximum, "maximum");
+        requireName(name);
+
+        return requireLessThanOrEqual(charSequence, CharSequence::length, maximum, name, "length");
+    }
+
     /**
      * Return the given string, if length is the given length; otherwise, throw an IllegalArgumentException.
      *
@@ -110,6 +177,34 @@ public final class RequireString
         return requireEqual(string, String::length, length, name, "length");
     }
 
+    /**
+     * Return the given character sequence, if length is the given length; otherwise, throw an IllegalArgumentException.
+     *
+     * @param  charSequence             the given character sequence
+     * @param  length                   the given length
+     * @param  name                     the name of the given character sequence
+     * @param  <CHARSEQUENCE>           the type of the given character sequence
+     * 
+     * @return                          the given character sequence, if length is the given length
+     * 
+     * @throws NullPointerException     if charSequence is null
+     * @throws IllegalArgumentException if charSequence length is not the given length
+     * @throws IllegalArgumentException if length is not zero or positive
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <CHARSEQUENCE extends CharSequence> CHARSEQUENCE requireLength(
+            final CHARSEQUENCE charSequence,
+            final int length,
+            final String name)
+    {
+        requireNonNull(charSequence, "charSequence");
+        requireZeroOrPositive(length, "length");
+        requireName(name);
+
+        return requireEqual(charSequence, CharSequence::length, length, name, "length");
+    }
+
     /**
      * Return the given string, if length is greater than or equal to the given length; otherwise, throw an
      * IllegalArgumentException.
@@ -138,6 +233,35 @@ public final class RequireString
         return requireGreaterThanOrEqual(string, String::length, minimum, name, "length");
     }
 
+    /**
+     * Return the given character sequence, if length is greater than or equal to the given length; otherwise, throw an
+     * IllegalArgumentException.
+     *
+     * @param  charSequence             the given character sequence
+     * @param  minimum                  the given minimum
+     * @param  name                     the name of the given character sequence
+     * @param  <CHARSEQUENCE>           the type of the given character sequence
+     * 
+     * @return                          the given character sequence, if length is greater than or equal to the given length
+     * 
+     * @throws NullPointerException     if charSequence is null
+     * @throws IllegalArgumentException if charSequence length is not greater than or equal to the given length
+     * @throws IllegalArgumentException if minimum is not zero or positive
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <CHARSEQUENCE extends CharSequence> CHARSEQUENCE requireLengthGreaterThanOrEqual(
+            final CHARSEQUENCE charSequence,
+            final int minimum,
+            final String name)
+    {
+        requireNonNull(charSequence, "charSequence");
+        requireZeroOrPositive(minimum, "minimum");
+        requireName(name);
+
+        return requireGreaterThanOrEqual(charSequence, CharSequence::length, minimum, name, "length");
+    }
+
     /**
      * Return the given string, if length is greater than the given length; otherwise, throw an IllegalArgumentException.
      *
@@ -165,6 +289,34 @@ public final class RequireString
         return requireGreaterThan(string, String::length, minimum, name, "length");
     }
 
+    /**
+     * Return the given character sequence, if length is greater than the given length; otherwise, throw an IllegalArgumentException.
+     *
+     * @param  charSequence             the given character sequence
+     * @param  minimum                  the given minimum
+     * @param  name                     the name of the given character sequence
+     * @param  <CHARSEQUENCE>           the type of the given character sequence
+     * 
+     * @return                          the given character sequence, if length is greater than the given length
+     * 
+     * @throws NullPointerException     if charSequence is null
+     * @throws IllegalArgumentException if charSequence length is not greater than the given length
+     * @throws IllegalArgumentException if minimum is not zero or positive
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <CHARSEQUENCE extends CharSequence> CHARSEQUENCE requireLengthGreaterThan(
+            final CHARSEQUENCE charSequence,
+            final int minimum,
+            final String name)
+    {
+        requireNonNull(charSequence, "charSequence");
+        requireZeroOrPositive(minimum, "minimum");
+        requireName(name);
+
+        return requireGreaterThan(charSequence, CharSequence::length, minimum, name, "length");
+    }
+
     /**
      * Return the given string, if length is between the given minimum and the given maximum; otherwise, throw an
      * IllegalArgumentException.
@@ -197,6 +349,39 @@ public final class RequireString
         return requireBoundInclusive(string, String::length, minimum, maximum, name, "length");
     }
 
+    /**
+     * Return the given character sequence, if length is between the given minimum and the given maximum; otherwise, throw an
+     * IllegalArgumentException.
+     *
+     * @param  charSequence             the given character sequence
+     * @param  minimum                  the given minimum
+     * @param  maximum                  the given maximum
+     * @param  name                     the name of the given character sequence
+     * @param  <CHARSEQUENCE>           the type of the given character sequence
+     * 
+     * @return                          the given character sequence, if length is between the given minimum and the given maximum
+     * 
+     * @throws NullPointerException     if charSequence is null
+     * @throws IllegalArgumentException if charSequence length is not between the given minimum and the given maximum
+     * @throws IllegalArgumentException if minimum is not zero or positive
+     * @throws IllegalArgumentException if maximum is not zero or positive
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <CHARSEQUENCE extends CharSequence> CHARSEQUENCE requireLength(
+            final CHARSEQUENCE charSequence,
+            final int minimum,
+            final int maximum,
+            final String name)
+    {
+        requireNonNull(charSequence, "charSequence");
+        requireZeroOrPositive(minimum, "minimum");
+        requireZeroOrPositive(maximum, "maximum");
+        requireName(name);
+
+        return requireBoundInclusive(charSequence, CharSequence::length, minimum, maximum, name, "length");
+    }
+
     /**
      * Return the given string, if length is between the given minimum and the given maximum; otherwise, throw an
      * IllegalArgumentException.
@@ -229,6 +414,39 @@ public final class RequireString
         return requireBoundExclusive(string, String::length, minimum, maximum, name, "length");
     }
 
+    /**
+     * Return the given character sequence, if length is between the given minimum and the given maximum; otherwise, throw an
+     * IllegalArgumentException.
+     *
+     * @param  charSequence             the given character sequence
+     * @param  minimum                  the given minimum
+     * @param  maximum                  the given maximum
+     * @param  name                     the name of the given character sequence
+     * @param  <CHARSEQUENCE>           the type of the given character sequence
+     * 
+     * @return                          the given character sequence, if length is between the given minimum and the given maximum
+     * 
+     * @throws NullPointerException     if charSequence is null
+     * @throws IllegalArgumentException if charSequence length is not between the given minimum and the given maximum
+     * @throws IllegalArgumentException if minimum is not zero or positive
+     * @throws IllegalArgumentException if maximum is not zero or positive
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <CHARSEQUENCE extends CharSequence> CHARSEQUENCE requireLengthExclusive(
+            final CHARSEQUENCE charSequence,
+            final int minimum,
+            final int maximum,
+            final String name)
+    {
+        requireNonNull(charSequence, "charSequence");
+        requireZeroOrPositive(minimum, "minimum");
+        requireZeroOrPositive(maximum, "maximum");
+        requireName(name);
+
+        return requireBoundExclusive(charSequence, CharSequence::length, minimum, maximum, name, "length");
+    }
+
     /**
      * Return the given string, if length is between the given minimum and the given maximum; otherwise, throw an
      * IllegalArgumentException.
@@ -261,6 +479,39 @@ public final class RequireString
         return requireBoundMinimumExclusiveMaximumInclusive(string, String::length, minimum, maximum, name, "length");
     }
 
+    /**
+     * Return the given character sequence, if length is between the given minimum and the given maximum; otherwise, throw an
+     * IllegalArgumentException.
+     *
+     * @param  charSequence             the given character sequence
+     * @param  minimum                  the given minimum
+     * @param  maximum                  the given maximum
+     * @param  name                     the name of the given character sequence
+     * @param  <CHARSEQUENCE>           the type of the given character sequence
+     * 
+     * @return                          the given character sequence, if length is between the given minimum and the given maximum
+     * 
+     * @throws NullPointerException     if charSequence is null
+     * @throws IllegalArgumentException if charSequence length is not between the given minimum and the given maximum
+     * @throws IllegalArgumentException if minimum is not zero or positive
+     * @throws IllegalArgumentException if maximum is not zero or positive
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <CHARSEQUENCE extends CharSequence> CHARSEQUENCE requireLengthMinimumExclusiveMaximumInclusive(
+            final CHARSEQUENCE charSequence,
+            final int minimum,
+            final int maximum,
+            final String name)
+    {
+        requireNonNull(charSequence, "charSequence");
+        requireZeroOrPositive(minimum, "minimum");
+        requireZeroOrPositive(maximum, "maximum");
+        requireName(name);
+
+        return requireBoundMinimumExclusiveMaximumInclusive(charSequence, CharSequence::length, minimum, maximum, name, "length");
+    }
+
     /**
      * Return the given string, if length is between the given minimum and the given maximum; otherwise, throw an
      * IllegalArgumentException.
@@ -293,6 +544,39 @@ public final class RequireString
         return requireBoundMinimumInclusiveMaximumExclusive(string, String::length, minimum, maximum, name, "length");
     }
 
+    /**
+     * Return the given character sequence, if length is between the given minimum and the given maximum; otherwise, throw an
+     * IllegalArgumentException.
+     *
+     * @param  charSequence             the given character sequence
+     * @param  minimum                  the given minimum
+     * @param  maximum                  the given maximum
+     * @param  name                     the name of the given character sequence
+     * @param  <CHARSEQUENCE>           the type of the given character sequence
+     * 
+     * @return                          the given character sequence, if length is between the given minimum and the given maximum
+     * 
+     * @throws NullPointerException     if charSequence is null
+     * @throws IllegalArgumentException if charSequence length is not between the given minimum and the given maximum
+     * @throws IllegalArgumentException if minimum is not zero or positive
+     * @throws IllegalArgumentException if maximum is not zero or positive
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <CHARSEQUENCE extends CharSequence> CHARSEQUENCE requireLengthMinimumInclusiveMaximumExclusive(
+            final CHARSEQUENCE charSequence,
+            final int minimum,
+            final int maximum,
+            final String name)
+    {
+        requireNonNull(charSequence, "charSequence");
+        requireZeroOrPositive(minimum, "minimum");
+        requireZeroOrPositive(maximum, "maximum");
+        requireName(name);
+
+        return requireBoundMinimumInclusiveMaximumExclusive(charSequence, CharSequence::length, minimum, maximum, name, "length");
+    }
+
     /**
      * Return the given string, if empty; otherwise, throw an IllegalArgumentException.
      *
@@ -313,7 +597,36 @@ public final class RequireString
         requireNonNull(string, "string");
         requireName(name);
 
-        return require(string.isEmpty(), string, format("%s must be empty; it was '%s'.", name, string));
+        return require(string.isEmpty(), string, RequirementViolation.Kind.EMPTY, name);
+    }
+
+    /**
+     * Return the given character sequence, if empty; otherwise, throw an IllegalArgumentException.
+     *
+     * @param  charSequence             the given character sequence
+     * @param  name                     the name of the given character sequence
+     * @param  <CHARSEQUENCE>           the type of the given character sequence
+     * 
+     * @return                          the given character sequence, if empty
+     * 
+     * @throws NullPointerException     if charSequence is null
+     * @throws IllegalArgumentException if charSequence is not empty
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <CHARSEQUENCE extends CharSequence> CHARSEQUENCE requireEmpty(
+            final CHARSEQUENCE charSequence,
+            final String name)
+    {
+        requireNonNull(charSequence, "charSequence");
+        requireName(name);
+
+        if (charSequence.length() != 0)
+        {
+            throw RequirementViolation.of(RequirementViolation.Kind.EMPTY, name, charSequence);
+        }
+
+        return charSequence;
     }
 
     /**
@@ -336,7 +649,31 @@ public final class RequireString
         requireNonNull(string, "string");
         requireName(name);
 
-        return require(!string.isEmpty(), string, format("%s must be non-empty.", name));
+        return require(!string.isEmpty(), string, RequirementViolation.Kind.NON_EMPTY, name);
+    }
+
+    /**
+     * Return the given character sequence, if non-empty; otherwise, throw an IllegalArgumentException.
+     *
+     * @param  charSequence             the given character sequence
+     * @param  name                     the name of the given character sequence
+     * @param  <CHARSEQUENCE>           the type of the given character sequence
+     * 
+     * @return                          the given character sequence, if non-empty
+     * 
+     * @throws NullPointerException     if charSequence is null
+     * @throws IllegalArgumentException if charSequence is not empty
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <CHARSEQUENCE extends CharSequence> CHARSEQUENCE requireNonEmpty(
+            final CHARSEQUENCE charSequence,
+            final String name)
+    {
+        requireNonNull(charSequence, "charSequence");
+        requireName(name);
+
+        return require(charSequence.length() != 0, charSequence, RequirementViolation.Kind.NON_EMPTY, name);
     }
 
     /**
@@ -359,7 +696,41 @@ public final class RequireString
         requireNonNull(string, "string");
         requireName(name);
 
-        return require(string.chars().allMatch(Character::isWhitespace), string, format("%s must be blank; it is '%s'.", name, string));
+        if (!isBlank(string))
+        {
+            throw RequirementViolation.of(RequirementViolation.Kind.BLANK, name, string);
+        }
+
+        return string;
+    }
+
+    /**
+     * Return the given character sequence, if blank; otherwise, throw an IllegalArgumentException.
+     *
+     * @param  charSequence             the given character sequence
+     * @param  name                     the name of the given character sequence
+     * @param  <CHARSEQUENCE>           the type of the given character sequence
+     * 
+     * @return                          the given character sequence, if blank
+     * 
+     * @throws NullPointerException     if charSequence is null
+     * @throws IllegalArgumentException if charSequence is non-blank
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <CHARSEQUENCE extends CharSequence> CHARSEQUENCE requireBlank(
+            final CHARSEQUENCE charSequence,
+            final String name)
+    {
+        requireNonNull(charSequence, "charSequence");
+        requireName(name);
+
+        if (!isBlank(charSequence))
+        {
+            throw RequirementViolation.of(RequirementViolation.Kind.BLANK, name, charSequence);
+        }
+
+        return charSequence;
     }
 
     /**
@@ -385,6 +756,30 @@ public final class RequireString
         return requireNonBlankHelper(string, name);
     }
 
+    /**
+     * Return the given character sequence, if non-blank; otherwise, throw an IllegalArgumentException.
+     *
+     * @param  charSequence             the given character sequence
+     * @param  name                     the name of the given character sequence
+     * @param  <CHARSEQUENCE>           the type of the given character sequence
+     * 
+     * @return                          the given character sequence, if non-blank
+     * 
+     * @throws NullPointerException     if charSequence is null
+     * @throws IllegalArgumentException if charSequence is blank
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <CHARSEQUENCE extends CharSequence> CHARSEQUENCE requireNonBlank(
+            final CHARSEQUENCE charSequence,
+            final String name)
+    {
+        requireNonNull(charSequence, "charSequence");
+        requireName(name);
+
+        return requireNonBlankHelper(charSequence, name);
+    }
+
     /**
      * Return the given string, if it matches the given pattern; otherwise, throw an IllegalArgumentException.
      *
@@ -409,6 +804,477 @@ public final class RequireString
         requireNonNull(pattern, "pattern");
         requireName(name);
 
-        return require(pattern.matcher(string).matches(), string, format("%s must match '%s'; it is '%s'.", name, pattern, string));
+        final boolean expression = RequirePatternCache.matches(pattern, string);
+
+        RequireMetrics.record("RequireString.requireMatch", name, !expression);
+
+        if (!expression)
+        {
+            throw RequirementViolation.of(RequirementViolation.Kind.MATCH, name, string, pattern);
+        }
+
+        return string;
+    }
+
+    /**
+     * Return the given character sequence, if it matches the given pattern; otherwise, throw an IllegalArgumentException.
+     *
+     * @param  charSequence             the given character sequence
+     * @param  pattern                  the given pattern
+     * @param  name                     the name of the given character sequence
+     * @param  <CHARSEQUENCE>           the type of the given character sequence
+     * 
+     * @return                          the given character sequence, if it matches the given regular expression
+     * 
+     * @throws NullPointerException     if charSequence is null
+     * @throws IllegalArgumentException if charSequence does not match the given regular expression
+     * @throws NullPointerException     if pattern is null
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <CHARSEQUENCE extends CharSequence> CHARSEQUENCE requireMatch(
+            final CHARSEQUENCE charSequence,
+            final Pattern pattern,
+            final String name)
+    {
+        requireNonNull(charSequence, "charSequence");
+        requireNonNull(pattern, "pattern");
+        requireName(name);
+
+        final boolean expression = pattern.matcher(charSequence).matches();
+
+        RequireMetrics.record("RequireString.requireMatch", name, !expression);
+
+        if (!expression)
+        {
+            throw RequirementViolation.of(RequirementViolation.Kind.MATCH, name, charSequence, pattern);
+        }
+
+        return charSequence;
+    }
+
+    /**
+     * Return the given string, if it matches the given pattern or if the given level is disabled; otherwise, throw an
+     * IllegalArgumentException.
+     *
+     * <p>
+     * If the given level is disabled, neither the match nor any precondition runs.
+     *
+     * @param  level                    the given level
+     * @param  string                   the given string
+     * @param  pattern                  the given pattern
+     * @param  name                     the name of the given string
+     * 
+     * @return                          the given string, if it matches the given pattern or if the given level is
+     *                                  disabled
+     * 
+     * @throws NullPointerException     if level is null
+     * @throws NullPointerException     if string is null and the given level is enabled
+     * @throws IllegalArgumentException if string does not match the given regular expression and the given level is
+     *                                  enabled
+     * @throws NullPointerException     if pattern is null and the given level is enabled
+     * @throws NullPointerException     if name is null and the given level is enabled
+     * @throws IllegalArgumentException if name is blank and the given level is enabled
+     */
+    public static String requireMatch(
+            final RequireLevel level,
+            final String string,
+            final Pattern pattern,
+            final String name)
+    {
+        return level.isEnabled() ? requireMatch(string, pattern, name) : string;
+    }
+
+    /**
+     * Return the given character sequence, if it matches the given pattern or if the given level is disabled; otherwise,
+     * throw an IllegalArgumentException.
+     *
+     * <p>
+     * If the given level is disabled, neither the match nor any precondition runs.
+     *
+     * @param  level                    the given level
+     * @param  charSequence             the given character sequence
+     * @param  pattern                  the given pattern
+     * @param  name                     the name of the given character sequence
+     * @param  <CHARSEQUENCE>           the type of the given character sequence
+     * 
+     * @return                          the given character sequence, if it matches the given pattern or if the given
+     *                                  level is disabled
+     * 
+     * @throws NullPointerException     if level is null
+     * @throws NullPointerException     if charSequence is null and the given level is enabled
+     * @throws IllegalArgumentException if charSequence does not match the given regular expression and the given level
+     *                                  is enabled
+     * @throws NullPointerException     if pattern is null and the given level is enabled
+     * @throws NullPointerException     if name is null and the given level is enabled
+     * @throws IllegalArgumentException if name is blank and the given level is enabled
+     */
+    public static <CHARSEQUENCE extends CharSequence> CHARSEQUENCE requireMatch(
+            final RequireLevel level,
+            final CHARSEQUENCE charSequence,
+            final Pattern pattern,
+            final String name)
+    {
+        return level.isEnabled() ? requireMatch(charSequence, pattern, name) : charSequence;
+    }
+
+    /**
+     * Return the given string, if it matches the given regular expression; otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The pattern for the regular expression is compiled once and held in the {@link RequirePatternCache}.
+     *
+     * @param  string                   the given string
+     * @param  regex                    the given regular expression
+     * @param  name                     the name of the given string
+     * 
+     * @return                          the given string, if it matches the given regular expression
+     * 
+     * @throws NullPointerException     if string is null
+     * @throws IllegalArgumentException if string does not match the given regular expression
+     * @throws NullPointerException     if regex is null
+     * @throws IllegalArgumentException if regex is not a regular expression
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static String requireMatch(
+            final String string,
+            final String regex,
+            final String name)
+    {
+        requireNonNull(string, "string");
+        requireNonNull(regex, "regex");
+        requireName(name);
+
+        return requireMatch(string, RequirePatternCache.pattern(regex), name);
+    }
+
+    /**
+     * Return the given character sequence, if it matches the given regular expression; otherwise, throw an
+     * IllegalArgumentException.
+     *
+     * <p>
+     * The pattern for the regular expression is compiled once and held in the {@link RequirePatternCache}.
+     *
+     * @param  charSequence             the given character sequence
+     * @param  regex                    the given regular expression
+     * @param  name                     the name of the given character sequence
+     * @param  <CHARSEQUENCE>           the type of the given character sequence
+     * 
+     * @return                          the given character sequence, if it matches the given regular expression
+     * 
+     * @throws NullPointerException     if charSequence is null
+     * @throws IllegalArgumentException if charSequence does not match the given regular expression
+     * @throws NullPointerException     if regex is null
+     * @throws IllegalArgumentException if regex is not a regular expression
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static <CHARSEQUENCE extends CharSequence> CHARSEQUENCE requireMatch(
+            final CHARSEQUENCE charSequence,
+            final String regex,
+            final String name)
+    {
+        requireNonNull(charSequence, "charSequence");
+        requireNonNull(regex, "regex");
+        requireName(name);
+
+        return requireMatch(charSequence, RequirePatternCache.pattern(regex), name);
+    }
+
+    private static boolean isDigit(
+            final char character)
+    {
+        return character >= '0' && character <= '9';
+    }
+
+    private static boolean isHexadecimal(
+            final char character)
+    {
+        // for a character from 'A' to 'F', setting bit 5 yields the character from 'a' to 'f'.
+        return isDigit(character) || (character | 0x20) >= 'a' && (character | 0x20) <= 'f';
+    }
+
+    private static boolean isIdentifierStart(
+            final char character)
+    {
+        return (character | 0x20) >= 'a' && (character | 0x20) <= 'z' || character == '_';
+    }
+
+    private static boolean isIdentifierPart(
+            final char character)
+    {
+        return isIdentifierStart(character) || isDigit(character);
+    }
+
+    private static boolean isEmailPart(
+            final char character)
+    {
+        // the complement of [@\s], where \s is [ \t\n\x0B\f\r].
+        return character != '@' && character != ' ' && (character < '\t' || character > '\r');
+    }
+
+    private static boolean isUuid(
+            final String string)
+    {
+        if (string.length() != 36)
+        {
+            return false;
+        }
+
+        for (int index = 0; index < 36; index++)
+        {
+            final char character = string.charAt(index);
+
+            if (index == 8 || index == 13 || index == 18 || index == 23 ? character != '-' : !isHexadecimal(character))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isHexadecimal(
+            final String string)
+    {
+        for (int index = 0; index < string.length(); index++)
+        {
+            if (!isHexadecimal(string.charAt(index)))
+            {
+                return false;
+            }
+        }
+
+        return !string.isEmpty();
+    }
+
+    private static boolean isIdentifier(
+            final String string)
+    {
+        if (string.isEmpty() || !isIdentifierStart(string.charAt(0)))
+        {
+            return false;
+        }
+
+        for (int index = 1; index < string.length(); index++)
+        {
+            if (!isIdentifierPart(string.charAt(index)))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isDigits(
+            final String string)
+    {
+        for (int index = 0; index < string.length(); index++)
+        {
+            if (!isDigit(string.charAt(index)))
+            {
+                return false;
+            }
+        }
+
+        return !string.isEmpty();
+    }
+
+    private static boolean isEmail(
+            final String string)
+    {
+        final int indexOfAt = string.indexOf('@');
+
+        if (indexOfAt < 1)
+        {
+            return false;
+        }
+
+        int indexOfDotInDomain = -1;
+
+        for (int index = 0; index < string.length(); index++)
+        {
+            final char character = string.charAt(index);
+
+            if (index == indexOfAt)
+            {
+                continue;
+            }
+
+            if (!isEmailPart(character))
+            {
+                return false;
+            }
+
+            if (character == '.' && index > indexOfAt + 1 && index < string.length() - 1)
+            {
+                indexOfDotInDomain = index;
+            }
+        }
+
+        return indexOfDotInDomain != -1;
+    }
+
+    private static String requireFormat(
+            final String string,
+            final boolean expression,
+            final String regex,
+            final String name,
+            final String method)
+    {
+        RequireMetrics.record(method, name, !expression);
+
+        if (!expression)
+        {
+            throw RequirementViolation.of(RequirementViolation.Kind.MATCH, name, string, regex);
+        }
+
+        return string;
+    }
+
+    /**
+     * Return the given string, if it is a UUID, in the form 8-4-4-4-12 of hexadecimal digits; otherwise, throw an
+     * IllegalArgumentException.
+     *
+     * <p>
+     * The string is scanned directly, rather than matched against the equivalent regular expression,
+     * {@code [0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}}; the exception message is the
+     * message of {@link #requireMatch(String, String, String)} for that regular expression.
+     *
+     * @param  string                   the given string
+     * @param  name                     the name of the given string
+     * 
+     * @return                          the given string, if it is a UUID
+     * 
+     * @throws NullPointerException     if string is null
+     * @throws IllegalArgumentException if string is not a UUID
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static String requireUuid(
+            final String string,
+            final String name)
+    {
+        requireNonNull(string, "string");
+        requireName(name);
+
+        return requireFormat(string, isUuid(string), REGEX_UUID, name, "RequireString.requireUuid");
+    }
+
+    /**
+     * Return the given string, if it is a non-empty sequence of hexadecimal digits; otherwise, throw an
+     * IllegalArgumentException.
+     *
+     * <p>
+     * The string is scanned directly, rather than matched against the equivalent regular expression,
+     * {@code [0-9a-fA-F]+}; the exception message is the message of {@link #requireMatch(String, String, String)} for that
+     * regular expression.
+     *
+     * @param  string                   the given string
+     * @param  name                     the name of the given string
+     * 
+     * @return                          the given string, if it is a non-empty sequence of hexadecimal digits
+     * 
+     * @throws NullPointerException     if string is null
+     * @throws IllegalArgumentException if string is not a non-empty sequence of hexadecimal digits
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static String requireHexadecimal(
+            final String string,
+            final String name)
+    {
+        requireNonNull(string, "string");
+        requireName(name);
+
+        return requireFormat(string, isHexadecimal(string), REGEX_HEXADECIMAL, name, "RequireString.requireHexadecimal");
+    }
+
+    /**
+     * Return the given string, if it is an ASCII identifier: a letter or an underscore, followed by letters, digits, or
+     * underscores; otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The string is scanned directly, rather than matched against the equivalent regular expression,
+     * {@code [A-Za-z_][A-Za-z0-9_]*}; the exception message is the message of
+     * {@link #requireMatch(String, String, String)} for that regular expression.
+     *
+     * @param  string                   the given string
+     * @param  name                     the name of the given string
+     * 
+     * @return                          the given string, if it is an ASCII identifier
+     * 
+     * @throws NullPointerException     if string is null
+     * @throws IllegalArgumentException if string is not an ASCII identifier
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static String requireIdentifier(
+            final String string,
+            final String name)
+    {
+        requireNonNull(string, "string");
+        requireName(name);
+
+        return requireFormat(string, isIdentifier(string), REGEX_IDENTIFIER, name, "RequireString.requireIdentifier");
+    }
+
+    /**
+     * Return the given string, if it is a non-empty sequence of the digits 0 through 9; otherwise, throw an
+     * IllegalArgumentException.
+     *
+     * <p>
+     * The string is scanned directly, rather than matched against the equivalent regular expression, {@code [0-9]+}; the
+     * exception message is the message of {@link #requireMatch(String, String, String)} for that regular expression.
+     *
+     * @param  string                   the given string
+     * @param  name                     the name of the given string
+     * 
+     * @return                          the given string, if it is a non-empty sequence of the digits 0 through 9
+     * 
+     * @throws NullPointerException     if string is null
+     * @throws IllegalArgumentException if string is not a non-empty sequence of the digits 0 through 9
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static String requireDigits(
+            final String string,
+            final String name)
+    {
+        requireNonNull(string, "string");
+        requireName(name);
+
+        return requireFormat(string, isDigits(string), REGEX_DIGITS, name, "RequireString.requireDigits");
+    }
+
+    /**
+     * Return the given string, if it is a simple email address: a local part, an at sign, and a domain that contains a
+     * dot, none of which contain an at sign or whitespace; otherwise, throw an IllegalArgumentException.
+     *
+     * <p>
+     * The string is scanned directly, rather than matched against the equivalent regular expression,
+     * {@code [^@\s]+@[^@\s]+\.[^@\s]+}; the exception message is the message of
+     * {@link #requireMatch(String, String, String)} for that regular expression.
+     *
+     * @param  string                   the given string
+     * @param  name                     the name of the given string
+     * 
+     * @return                          the given string, if it is a simple email address
+     * 
+     * @throws NullPointerException     if string is null
+     * @throws IllegalArgumentException if string is not a simple email address
+     * @throws NullPointerException     if name is null
+     * @throws IllegalArgumentException is name is blank
+     */
+    public static String requireEmail(
+            final String string,
+            final String name)
+    {
+        requireNonNull(string, "string");
+        requireName(name);
+
+        return requireFormat(string, isEmail(string), REGEX_EMAIL, name, "RequireString.requireEmail");
     }
-}
\ No newline at end of file
+}
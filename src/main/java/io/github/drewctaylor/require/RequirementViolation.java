@@ -0,0 +1,486 @@
+package io.github.drewctaylor.require;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Supplier;
+
+import static java.lang.System.lineSeparator;
+
+/**
+ * An IllegalArgumentException that describes the requirement that a value failed to meet: the kind of requirement, the
+ * name of the value, the expected bounds, and the value itself, so that a caller may respond to a failure without
+ * parsing its message.
+ *
+ * <p>
+ * A violation renders its message only when {@link #getMessage()} is first called, and then remembers it; a caller that
+ * never calls it never pays to render it. The message renders the value and the expected bounds with
+ * {@link RequireRender#render(Object)}, and, for a violation of {@link Kind#FOR_ALL}, {@link Kind#THERE_EXISTS}, or
+ * {@link Kind#FOR_ALL_SAMPLE}, renders at most {@value #ELEMENT_COUNT_MAXIMUM} element violations, followed by the
+ * number of those that it does not render.
+ *
+ * <p>
+ * A value that is a {@link CharSequence}, but not a String, may change after the violation is thrown, so the violation
+ * renders it when thrown, in at most the maximum number of characters, and the message describes the value as it was
+ * then; {@link #getValue()} still returns the value by reference.
+ */
+public final class RequirementViolation extends IllegalArgumentException
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The maximum number of element violations that the message renders.
+     */
+    public static final int ELEMENT_COUNT_MAXIMUM = 16;
+
+    /**
+     * The kind of requirement that a value failed to meet.
+     */
+    public enum Kind
+    {
+        /**
+         * The value must be less than the expected maximum.
+         */
+        LESS_THAN(RequireMessage.LESS_THAN, RequireMessage.FIELD_LESS_THAN),
+
+        /**
+         * The value must be less than or equal to the expected maximum.
+         */
+        LESS_THAN_OR_EQUAL(RequireMessage.LESS_THAN_OR_EQUAL, RequireMessage.FIELD_LESS_THAN_OR_EQUAL),
+
+        /**
+         * The value must be equal to the expected target.
+         */
+        EQUAL(RequireMessage.EQUAL, RequireMessage.FIELD_EQUAL),
+
+        /**
+         * The value must be greater than or equal to the expected minimum.
+         */
+        GREATER_THAN_OR_EQUAL(RequireMessage.GREATER_THAN_OR_EQUAL, RequireMessage.FIELD_GREATER_THAN_OR_EQUAL),
+
+        /**
+         * The value must be greater than the expected minimum.
+         */
+        GREATER_THAN(RequireMessage.GREATER_THAN, RequireMessage.FIELD_GREATER_THAN),
+
+        /**
+         * The value must be greater than or equal to the expected minimum and less than or equal to the expected maximum.
+         */
+        BOUND_INCLUSIVE(RequireMessage.GREATER_THAN_OR_EQUAL_AND_LESS_THAN_OR_EQUAL, RequireMessage.FIELD_GREATER_THAN_OR_EQUAL_AND_LESS_THAN_OR_EQUAL),
+
+        /**
+         * The value must be greater than the expected minimum and less than the expected maximum.
+         */
+        BOUND_EXCLUSIVE(RequireMessage.GREATER_THAN_AND_LESS_THAN, RequireMessage.FIELD_GREATER_THAN_AND_LESS_THAN),
+
+        /**
+         * The value must be greater than the expected minimum and less than or equal to the expected maximum.
+         */
+        BOUND_MINIMUM_EXCLUSIVE_MAXIMUM_INCLUSIVE(RequireMessage.GREATER_THAN_AND_LESS_THAN_OR_EQUAL, RequireMessage.FIELD_GREATER_THAN_AND_LESS_THAN_OR_EQUAL),
+
+        /**
+         * The value must be greater than or equal to the expected minimum and less than the expected maximum.
+         */
+        BOUND_MINIMUM_INCLUSIVE_MAXIMUM_EXCLUSIVE(RequireMessage.GREATER_THAN_OR_EQUAL_AND_LESS_THAN, RequireMessage.FIELD_GREATER_THAN_OR_EQUAL_AND_LESS_THAN),
+
+        /**
+         * The value must be null.
+         */
+        NULL(RequireMessage.NULL, null),
+
+        /**
+         * The value must be positive.
+         */
+        POSITIVE(RequireMessage.POSITIVE, null),
+
+        /**
+         * The value must be zero or positive.
+         */
+        ZERO_OR_POSITIVE(RequireMessage.ZERO_OR_POSITIVE, null),
+
+        /**
+         * The value must be zero.
+         */
+        ZERO(RequireMessage.ZERO, null),
+
+        /**
+         * The value must be zero or negative.
+         */
+        ZERO_OR_NEGATIVE(RequireMessage.ZERO_OR_NEGATIVE, null),
+
+        /**
+         * The value must be negative.
+         */
+        NEGATIVE(RequireMessage.NEGATIVE, null),
+
+        /**
+         * The value must be empty; for a collection, the value is its size.
+         */
+        EMPTY(RequireMessage.EMPTY, null),
+
+        /**
+         * The value must be non-empty; the message does not include the value.
+         */
+        NON_EMPTY(RequireMessage.NON_EMPTY, null),
+
+        /**
+         * The value must be blank.
+         */
+        BLANK(RequireMessage.BLANK, null),
+
+        /**
+         * The value must match the expected pattern.
+         */
+        MATCH(RequireMessage.MATCH, null),
+
+        /**
+         * The value must be an instance of the expected type.
+         */
+        TYPE(RequireMessage.TYPE, null),
+
+        /**
+         * Every element of the value must meet a requirement; the element violations describe those that did not.
+         */
+        FOR_ALL(RequireMessage.FOR_ALL, null),
+
+        /**
+         * At least one element of the value must meet a requirement; the element violations describe those that did not.
+         */
+        THERE_EXISTS(RequireMessage.THERE_EXISTS, null),
+
+        /**
+         * Every element of a sample of the value must meet a requirement; the expected value is the estimate of the failure
+         * rate, and the element violations describe those that did not.
+         */
+        FOR_ALL_SAMPLE(RequireMessage.FOR_ALL_SAMPLE, null);
+
+        private final RequireMessage message;
+        private final RequireMessage messageField;
+
+        Kind(
+                final RequireMessage message,
+                final RequireMessage messageField)
+        {
+            this.message = message;
+            this.messageField = messageField;
+        }
+    }
+
+    // a value that the violation computes only when requested, for a field of a value that is expensive to compute.
+    private static final class ValueSupplier
+    {
+        private final Supplier<?> supplier;
+
+        private ValueSupplier(
+                final Supplier<?> supplier)
+        {
+            this.supplier = supplier;
+        }
+    }
+
+    private final Kind kind;
+    private final String name;
+    private final String fieldName;
+    private final transient List<Object> expectedList;
+    private final transient Object value;
+    // the value, rendered when thrown, if it is a CharSequence but not a String; otherwise, null.
+    private transient String valueRendered;
+    private final transient Collection<? extends Entry<?, RuntimeException>> elementCollection;
+    private final int index;
+    private String message;
+
+    private RequirementViolation(
+            final Kind kind,
+            final String name,
+            final String fieldName,
+            final Object[] expectedArray,
+            final Object value,
+            final Collection<? extends Entry<?, RuntimeException>> elementCollection,
+            final int index,
+            final Throwable cause)
+    {
+        super(null, cause);
+        this.kind = kind;
+        this.name = name;
+        this.fieldName = fieldName;
+        this.expectedList = Collections.unmodifiableList(Arrays.asList(expectedArray));
+        this.value = value;
+        this.valueRendered = value instanceof CharSequence && !(value instanceof String) ? RequireRender.render(value) : null;
+        this.elementCollection = elementCollection;
+        this.index = index;
+    }
+
+    /**
+     * Return a violation of the given kind, for the given value and name.
+     */
+    static RequirementViolation of(
+            final Kind kind,
+            final String name,
+            final Object value,
+            final Object... expectedArray)
+    {
+        return new RequirementViolation(kind, name, null, expectedArray, value, List.of(), -1, null);
+    }
+
+    /**
+     * Return a violation of the given kind, for the given derivative value, parameter name, and field name.
+     */
+    static RequirementViolation ofField(
+            final Kind kind,
+            final String parameterName,
+            final String fieldName,
+            final Object value,
+            final Object... expectedArray)
+    {
+        return new RequirementViolation(kind, parameterName, fieldName, expectedArray, value, List.of(), -1, null);
+    }
+
+    /**
+     * Return a violation of the given kind, for the derivative value that the given supplier computes, parameter name,
+     * and field name; the violation calls the supplier only when the value is requested, or when it renders its message.
+     */
+    static RequirementViolation ofFieldSupplier(
+            final Kind kind,
+            final String parameterName,
+            final String fieldName,
+            final Supplier<?> supplier,
+            final Object... expectedArray)
+    {
+        return new RequirementViolation(kind, parameterName, fieldName, expectedArray, new ValueSupplier(supplier), List.of(), -1, null);
+    }
+
+    /**
+     * Return a violation of kind {@link Kind#TYPE}, for the given value, name, and type, caused by the given exception, if
+     * any.
+     */
+    static RequirementViolation ofType(
+            final String name,
+            final Object value,
+            final Class<?> type,
+            final Throwable cause)
+    {
+        return new RequirementViolation(Kind.TYPE, name, null, new Object[] {type}, value, List.of(), -1, cause);
+    }
+
+    /**
+     * Return a violation of the given kind, for the given collection, parameter name, and field name, with the given
+     * element violations by index.
+     */
+    static RequirementViolation ofIndex(
+            final Kind kind,
+            final String parameterName,
+            final String fieldName,
+            final Object value,
+            final Collection<Entry<Integer, RuntimeException>> elementCollection,
+            final Object... expectedArray)
+    {
+        final int index = elementCollection.isEmpty() ? -1 : elementCollection.iterator().next().getKey();
+
+        return new RequirementViolation(kind, parameterName, fieldName, expectedArray, value, elementCollection, index, null);
+    }
+
+    /**
+     * Return a violation of the given kind, for the given map, parameter name, and field name, with the given element
+     * violations by key.
+     */
+    static <KEY> RequirementViolation ofKey(
+            final Kind kind,
+            final String parameterName,
+            final String fieldName,
+            final Object value,
+            final Collection<Entry<KEY, RuntimeException>> elementCollection,
+            final Object... expectedArray)
+    {
+        return new RequirementViolation(kind, parameterName, fieldName, expectedArray, value, new ArrayList<>(elementCollection), -1, null);
+    }
+
+    /**
+     * Return a violation with the same fields and message as this one, caused by this one, so that a caller that throws a
+     * remembered violation again does not share it with the callers that threw it before.
+     */
+    RequirementViolation copy()
+    {
+        final RequirementViolation requirementViolation = new RequirementViolation(kind, name, fieldName, getExpectedList().toArray(), value, elementCollection == null ? List.of() : elementCollection, index, this);
+
+        requirementViolation.valueRendered = valueRendered;
+        requirementViolation.message = message;
+
+        return requirementViolation;
+    }
+
+    /**
+     * Return the kind of requirement that the value failed to meet.
+     *
+     * @return the kind of requirement that the value failed to meet
+     */
+    public Kind getKind()
+    {
+        return kind;
+    }
+
+    /**
+     * Return the name of the value, or, if the requirement applies to a field of the value, of the parameter.
+     *
+     * @return the name of the value
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+    /**
+     * Return the name of the field of the value to which the requirement applies, or the name of the elements of the
+     * value, for {@link Kind#FOR_ALL}, {@link Kind#THERE_EXISTS}, and {@link Kind#FOR_ALL_SAMPLE}; otherwise, null.
+     *
+     * @return the name of the field of the value to which the requirement applies, or null
+     */
+    public String getFieldName()
+    {
+        return fieldName;
+    }
+
+    /**
+     * Return the expected bounds, in the order of the message: for example, the minimum and the maximum, for
+     * {@link Kind#BOUND_INCLUSIVE}; the pattern, for {@link Kind#MATCH}; the class, for {@link Kind#TYPE}; and nothing,
+     * for {@link Kind#POSITIVE}.
+     *
+     * <p>
+     * A violation that was deserialized has no expected bounds.
+     *
+     * @return the expected bounds
+     */
+    public List<Object> getExpectedList()
+    {
+        return expectedList == null ? List.of() : expectedList;
+    }
+
+    /**
+     * Return the value, or the field of the value, that failed to meet the requirement, by reference.
+     *
+     * <p>
+     * A violation that was deserialized has no value.
+     *
+     * @return the value that failed to meet the requirement
+     */
+    public Object getValue()
+    {
+        return value instanceof ValueSupplier ? ((ValueSupplier) value).supplier.get() : value;
+    }
+
+    /**
+     * Return the exceptions of the elements that failed to meet the requirement of {@link Kind#FOR_ALL},
+     * {@link Kind#THERE_EXISTS}, or {@link Kind#FOR_ALL_SAMPLE}, by index for a collection or by key for a map, in the
+     * order that they failed; otherwise, an empty map.
+     *
+     * <p>
+     * A violation that was deserialized has no element exceptions.
+     *
+     * @return the exceptions of the elements that failed to meet the requirement
+     */
+    public Map<Object, RuntimeException> getElementMap()
+    {
+        final Map<Object, RuntimeException> elementMap = new LinkedHashMap<>();
+
+        if (elementCollection != null)
+        {
+            elementCollection.forEach(entry -> elementMap.put(entry.getKey(), entry.getValue()));
+        }
+
+        return Collections.unmodifiableMap(elementMap);
+    }
+
+    /**
+     * Return the index of the first element of a collection that failed to meet the requirement of {@link Kind#FOR_ALL},
+     * {@link Kind#THERE_EXISTS}, or {@link Kind#FOR_ALL_SAMPLE}; otherwise, -1.
+     *
+     * @return the index of the first element that failed to meet the requirement, or -1
+     */
+    public int getIndex()
+    {
+        return index;
+    }
+
+    @Override
+    public String getMessage()
+    {
+        // a race renders the same message twice, and a string is safe to publish without synchronization.
+        String message = this.message;
+
+        if (message == null)
+        {
+            message = render();
+            this.message = message;
+        }
+
+        return message;
+    }
+
+    private String render()
+    {
+        switch (kind)
+        {
+            case NON_EMPTY:
+                return kind.message.render(name);
+            case FOR_ALL:
+            case THERE_EXISTS:
+                return kind.message.render(fieldName, name, renderElement());
+            case FOR_ALL_SAMPLE:
+                return kind.message.render(fieldName, name, RequireRender.render(expectedList.get(0)), renderElement());
+            default:
+                final List<Object> argumentList = new ArrayList<>(expectedList.size() + 3);
+
+                argumentList.add(name);
+
+                if (fieldName != null)
+                {
+                    argumentList.add(fieldName);
+                }
+
+                for (final Object expected : expectedList)
+                {
+                    argumentList.add(RequireRender.render(expected instanceof Class<?> ? ((Class<?>) expected).getCanonicalName() : expected));
+                }
+
+                argumentList.add(valueRendered == null ? RequireRender.render(getValue()) : valueRendered);
+
+                return (fieldName == null ? kind.message : kind.messageField).render(argumentList.toArray());
+        }
+    }
+
+    private String renderElement()
+    {
+        final StringBuilder stringBuilder = new StringBuilder();
+        String separator = "";
+        int count = 0;
+
+        for (final Entry<?, RuntimeException> entry : elementCollection)
+        {
+            if (count == ELEMENT_COUNT_MAXIMUM)
+            {
+                stringBuilder.append(separator).append(RequireMessage.ELEMENT_MORE.render(elementCollection.size() - count));
+                break;
+            }
+
+            stringBuilder.append(separator).append(RequireMessage.ELEMENT.render(RequireRender.render(entry.getKey()), RequireRender.render(entry.getValue().getMessage())));
+            separator = lineSeparator();
+            count++;
+        }
+
+        return stringBuilder.toString();
+    }
+
+    // render the message before serialization, since the fields from which it renders are transient.
+    private void writeObject(
+            final ObjectOutputStream objectOutputStream) throws IOException
+    {
+        getMessage();
+        objectOutputStream.defaultWriteObject();
+    }
+}
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Formattable;
+import java.util.Formatter;
 import java.util.List;
 import java.util.function.Function;
 
@@ -16,6 +18,7 @@ import static io.github.drewctaylor.require.RequireBound.requireGreaterThan;
 import static io.github.drewctaylor.require.RequireBound.requireGreaterThanOrEqual;
 import static io.github.drewctaylor.require.RequireBound.requireLessThan;
 import static io.github.drewctaylor.require.RequireBound.requireLessThanOrEqual;
+import static java.lang.String.format;
 import static java.lang.String.valueOf;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
@@ -159,4 +162,49 @@ final class RequireBoundTest
         testRequireBoundHelper(iterate((int) 'a', i -> i + 1).limit(11L).map(i -> (char) (int) i).collect(toList()), identity());
         testRequireBoundHelper(iterate((int) 'a', i -> i + 1).limit(11L).map(i -> valueOf((char) (int) i)).collect(toList()), identity());
     }
+
+    // a comparable that renders itself differently as formattable than as a string.
+    private static final class Version implements Comparable<Version>, Formattable
+    {
+        private final int number;
+
+        private Version(
+                final int number)
+        {
+            this.number = number;
+        }
+
+        @Override
+        public int compareTo(
+                final Version version)
+        {
+            return Integer.compare(number, version.number);
+        }
+
+        @Override
+        public void formatTo(
+                final Formatter formatter,
+                final int flags,
+                final int width,
+                final int precision)
+        {
+            formatter.format("v%s", number);
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Version(" + number + ")";
+        }
+    }
+
+    @Test
+    void testRequireBoundMessage()
+    {
+        assertEquals(format("%s must be less than '%s'; it is '%s'.", "name", 1, 2), assertThrows(IllegalArgumentException.class, () -> requireLessThan(2, 1, "name")).getMessage());
+        assertEquals(format("%s must be greater than or equal to '%s' and less than '%s'; it is '%s'.", "name", 0.5, 1.5, 2.5), assertThrows(IllegalArgumentException.class, () -> requireBoundMinimumInclusiveMaximumExclusive(2.5, 0.5, 1.5, "name")).getMessage());
+        assertEquals(format("%s %s must be equal to '%s'; it is '%s'.", "name", "length", 1, 2), assertThrows(IllegalArgumentException.class, () -> requireEqual("ab", String::length, 1, "name", "length")).getMessage());
+        assertEquals(format("%s must be greater than '%s'; it is '%s'.", "name", new Version(2), new Version(1)), assertThrows(IllegalArgumentException.class, () -> requireGreaterThan(new Version(1), new Version(2), "name")).getMessage());
+        assertEquals("name must be greater than 'v2'; it is 'v1'.", assertThrows(IllegalArgumentException.class, () -> requireGreaterThan(new Version(1), new Version(2), "name")).getMessage());
+    }
 }
@@ -1,5 +1,6 @@
 package io.github.drewctaylor.require.test;
 
+import io.github.drewctaylor.require.RequireSample;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
@@ -9,6 +10,7 @@ import java.util.function.Function;
 import static io.github.drewctaylor.require.RequireBound.requireGreaterThan;
 import static io.github.drewctaylor.require.RequireCollection.requireEmpty;
 import static io.github.drewctaylor.require.RequireCollection.requireForAll;
+import static io.github.drewctaylor.require.RequireCollection.requireForAllSample;
 import static io.github.drewctaylor.require.RequireCollection.requireNonEmpty;
 import static io.github.drewctaylor.require.RequireCollection.requireSize;
 import static io.github.drewctaylor.require.RequireCollection.requireSizeExclusive;
@@ -29,6 +31,7 @@ import static java.util.stream.Collectors.toSet;
 import static java.util.stream.IntStream.range;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 final class RequireCollectionTest
 {
@@ -140,4 +143,25 @@ final class RequireCollectionTest
         assertEquals(list, requireThereExists(list, i -> requireGreaterThan(i, 0, "i"), "name"));
         assertThrows(IllegalArgumentException.class, () -> requireThereExists(list, i -> requireGreaterThan(i, 1, "i"), "name"));
     }
+
+    @Test
+    void testRequireForAllSample()
+    {
+        final RequireSample sample = RequireSample.ofSize(10, 0);
+        final List<Integer> list = range(0, 1_000).boxed().collect(toList());
+
+        assertThrows(NullPointerException.class, () -> requireForAllSample(null, sample, identity(), "name"));
+        assertThrows(NullPointerException.class, () -> requireForAllSample(list, null, identity(), "name"));
+        assertThrows(NullPointerException.class, () -> requireForAllSample(list, sample, null, "name"));
+        assertThrows(NullPointerException.class, () -> requireForAllSample(list, sample, identity(), null));
+        assertThrows(IllegalArgumentException.class, () -> requireForAllSample(list, sample, identity(), " "));
+
+        assertEquals(list, requireForAllSample(list, sample, i -> requireGreaterThan(i, -1, "i"), "name"));
+        assertEquals(list, requireForAllSample(list, RequireSample.ofRate(0.01, 0), i -> requireGreaterThan(i, -1, "i"), "name"));
+
+        final String message = assertThrows(IllegalArgumentException.class, () -> requireForAllSample(list, RequireSample.ofRate(1, 0), i -> i == 500 ? requireGreaterThan(i, i, "i") : i, "name")).getMessage();
+
+        assertEquals(String.format("Every element of name must meet the requirement; 1 of 1000 sampled of 1000 failed, an estimated failure rate of 0.0010 (95%% confidence interval 0.0010 to 0.0010):%n500: i must be greater than '500'; it is '500'."), message);
+        assertTrue(assertThrows(IllegalArgumentException.class, () -> requireForAllSample(list, sample, i -> requireGreaterThan(i, 1_000, "i"), "name")).getMessage().startsWith("Every element of name must meet the requirement; 10 of 10 sampled of 1000 failed, an estimated failure rate of 1.0000 (95% confidence interval 0.72"));
+    }
 }
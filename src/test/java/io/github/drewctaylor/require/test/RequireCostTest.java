@@ -0,0 +1,115 @@
+package io.github.drewctaylor.require.test;
+
+import io.github.drewctaylor.require.RequireCollection;
+import io.github.drewctaylor.require.RequireCost;
+import io.github.drewctaylor.require.RequireMap;
+import io.github.drewctaylor.require.RequireNumberInteger;
+import io.github.drewctaylor.require.RequireResultCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class RequireCostTest
+{
+    @AfterEach
+    void afterEach()
+    {
+        RequireCost.disable();
+        RequireCost.reset();
+    }
+
+    @Test
+    void testRequireCost()
+    {
+        assertThrows(IllegalArgumentException.class, () -> RequireCost.enable(0));
+        assertThrows(IllegalArgumentException.class, () -> RequireCost.enable(-1));
+        assertThrows(NullPointerException.class, () -> RequireCost.snapshot(null));
+        assertThrows(IllegalArgumentException.class, () -> RequireCost.snapshot(" "));
+
+        assertThrows(NullPointerException.class, () -> RequireCost.label((Function<Integer, Integer>) null, "label"));
+        assertThrows(NullPointerException.class, () -> RequireCost.label(Function.identity(), null));
+        assertThrows(IllegalArgumentException.class, () -> RequireCost.label(Function.identity(), " "));
+        assertThrows(NullPointerException.class, () -> RequireCost.label((BiFunction<Integer, Integer, Integer>) null, "label"));
+
+        final Function<Integer, Integer> requirePositive = RequireCost.label(value -> RequireNumberInteger.requirePositive(value, "value"), "requirePositive");
+        final Function<Integer, Integer> requireNegative = RequireCost.label(value -> RequireNumberInteger.requireNegative(-value, "value"), "requireNegative");
+
+        assertEquals(1, requirePositive.apply(1));
+        assertEquals("requirePositive", requirePositive.toString());
+        final List<Integer> list = IntStream.rangeClosed(1, 100).boxed().collect(Collectors.toList());
+
+        assertFalse(RequireCost.isEnabled());
+
+        RequireCollection.requireForAll(list, requirePositive, "list");
+
+        assertTrue(RequireCost.snapshot().isEmpty());
+
+        RequireCost.enable(1);
+
+        assertTrue(RequireCost.isEnabled());
+
+        RequireCollection.requireForAll(list, requirePositive, "list");
+        RequireCollection.requireForAll(list, requireNegative, "list");
+        RequireMap.requireForAllValue(Map.of(1, 1, 2, 2), requirePositive, "map");
+        RequireMap.requireForAllValue(new ConcurrentHashMap<>(Map.of(1, 1, 2, 2)), requirePositive, "map");
+
+        final List<RequireCost.Snapshot> snapshotList = RequireCost.snapshot("list");
+
+        assertEquals(2, snapshotList.size());
+        assertTrue(snapshotList.stream().allMatch(snapshot -> snapshot.getSampleCount() == 100));
+        assertTrue(snapshotList.stream().anyMatch(snapshot -> snapshot.getRequirement().equals("requirePositive")));
+        assertTrue(snapshotList.stream().anyMatch(snapshot -> snapshot.getRequirement().equals("requireNegative")));
+        assertTrue(snapshotList.get(0).getTotalNanoseconds() >= snapshotList.get(1).getTotalNanoseconds());
+        assertTrue(snapshotList.stream().allMatch(snapshot -> snapshot.getMaximumNanoseconds() <= snapshot.getTotalNanoseconds()));
+        assertTrue(snapshotList.stream().allMatch(snapshot -> snapshot.getMeanNanoseconds() <= snapshot.getMaximumNanoseconds()));
+        assertTrue(snapshotList.get(0).toString().contains("(list): sampleCount=100, "));
+
+        final List<RequireCost.Snapshot> mapSnapshotList = RequireCost.snapshot("map");
+
+        assertEquals(1, mapSnapshotList.size());
+        assertEquals("requirePositive", mapSnapshotList.get(0).getRequirement());
+        assertEquals(4, mapSnapshotList.get(0).getSampleCount());
+        assertEquals(3, RequireCost.snapshot().size());
+
+        final Function<Integer, Integer> requireUnlabeled = value -> RequireNumberInteger.requirePositive(value, "value");
+
+        RequireCollection.requireForAll(list, requireUnlabeled, "unlabeled");
+        RequireCollection.requireForAll(list, RequireResultCache.of(requirePositive, 16, RequireResultCache.Eviction.LRU), "cache");
+        RequireCollection.requireForAll(List.of("a"), RequireResultCache.ofMatch(Pattern.compile("[a-z]"), "value", 16, RequireResultCache.Eviction.LRU), "match");
+
+        assertEquals(RequireCostTest.class.getName() + "$$Lambda", RequireCost.snapshot("unlabeled").get(0).getRequirement().replaceAll("\\$\\d+$", ""));
+        assertEquals("RequireResultCache(requirePositive)", RequireCost.snapshot("cache").get(0).getRequirement());
+        assertEquals("RequireResultCache(requireMatch([a-z]))", RequireCost.snapshot("match").get(0).getRequirement());
+
+        RequireCost.enable(10);
+        RequireCost.reset();
+
+        IntStream.range(0, 100).forEach(index -> RequireCollection.requireForAll(list, requirePositive, "list"));
+
+        final long sampleCount = RequireCost.snapshot("list").get(0).getSampleCount();
+
+        assertTrue(sampleCount > 500 && sampleCount < 1500);
+
+        RequireCost.disable();
+        RequireCollection.requireForAll(list, requirePositive, "list");
+
+        assertEquals(sampleCount, RequireCost.snapshot("list").get(0).getSampleCount());
+
+        RequireCost.reset();
+
+        assertTrue(RequireCost.snapshot().isEmpty());
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.drewctaylor.require.test;
+
+import io.github.drewctaylor.require.RequireEnum;
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
+import java.time.DayOfWeek;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.stream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class RequireEnumTest
+{
+    private enum Empty
+    {
+    }
+
+    private enum Case
+    {
+        Aa, AA, aa, B
+        {
+            @Override
+            public String toString()
+            {
+                return "b";
+            }
+        }
+    }
+
+    @Test
+    void testRequireEnum()
+    {
+        assertThrows(NullPointerException.class, () -> RequireEnum.requireEnum(null, DayOfWeek.class, "name"));
+        assertThrows(NullPointerException.class, () -> RequireEnum.requireEnum("MONDAY", null, "name"));
+        assertThrows(NullPointerException.class, () -> RequireEnum.requireEnum("MONDAY", DayOfWeek.class, null));
+        assertThrows(IllegalArgumentException.class, () -> RequireEnum.requireEnum("MONDAY", DayOfWeek.class, " "));
+
+        stream(DayOfWeek.values()).forEach(dayOfWeek -> assertSame(dayOfWeek, RequireEnum.requireEnum(dayOfWeek.name(), DayOfWeek.class, "name")));
+        stream(TimeUnit.values()).forEach(timeUnit -> assertSame(timeUnit, RequireEnum.requireEnum(new StringBuilder(timeUnit.name()), TimeUnit.class, "name")));
+        stream(Case.values()).forEach(value -> assertSame(value, RequireEnum.requireEnum(CharBuffer.wrap(value.name()), Case.class, "name")));
+
+        assertEquals("name must be a java.time.DayOfWeek; it is 'monday'.", assertThrows(IllegalArgumentException.class, () -> RequireEnum.requireEnum("monday", DayOfWeek.class, "name")).getMessage());
+        assertEquals("name must be a java.time.DayOfWeek; it is ''.", assertThrows(IllegalArgumentException.class, () -> RequireEnum.requireEnum("", DayOfWeek.class, "name")).getMessage());
+        assertEquals("name must be a java.time.DayOfWeek; it is 'MONDAYS'.", assertThrows(IllegalArgumentException.class, () -> RequireEnum.requireEnum("MONDAYS", DayOfWeek.class, "name")).getMessage());
+        assertThrows(IllegalArgumentException.class, () -> RequireEnum.requireEnum("b", Case.class, "name"));
+        assertThrows(IllegalArgumentException.class, () -> RequireEnum.requireEnum("A", Empty.class, "name"));
+    }
+
+    @Test
+    void testRequireEnumIgnoreCase()
+    {
+        assertThrows(NullPointerException.class, () -> RequireEnum.requireEnumIgnoreCase(null, DayOfWeek.class, "name"));
+        assertThrows(NullPointerException.class, () -> RequireEnum.requireEnumIgnoreCase("MONDAY", null, "name"));
+        assertThrows(NullPointerException.class, () -> RequireEnum.requireEnumIgnoreCase("MONDAY", DayOfWeek.class, null));
+        assertThrows(IllegalArgumentException.class, () -> RequireEnum.requireEnumIgnoreCase("MONDAY", DayOfWeek.class, " "));
+
+        stream(DayOfWeek.values()).forEach(dayOfWeek -> assertSame(dayOfWeek, RequireEnum.requireEnumIgnoreCase(dayOfWeek.name().toLowerCase(), DayOfWeek.class, "name")));
+        stream(TimeUnit.values()).forEach(timeUnit -> assertSame(timeUnit, RequireEnum.requireEnumIgnoreCase(new StringBuilder(timeUnit.name().toLowerCase()), TimeUnit.class, "name")));
+
+        assertSame(Case.Aa, RequireEnum.requireEnumIgnoreCase("aA", Case.class, "name"));
+        assertSame(Case.B, RequireEnum.requireEnumIgnoreCase("b", Case.class, "name"));
+        assertEquals("name must be a java.time.DayOfWeek; it is 'mon'.", assertThrows(IllegalArgumentException.class, () -> RequireEnum.requireEnumIgnoreCase("mon", DayOfWeek.class, "name")).getMessage());
+        assertThrows(IllegalArgumentException.class, () -> RequireEnum.requireEnumIgnoreCase("a", Empty.class, "name"));
+    }
+}
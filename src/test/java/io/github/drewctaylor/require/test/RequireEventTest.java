@@ -0,0 +1,162 @@
+package io.github.drewctaylor.require.test;
+
+import io.github.drewctaylor.require.Require;
+import io.github.drewctaylor.require.RequireCollection;
+import io.github.drewctaylor.require.RequireMap;
+import io.github.drewctaylor.require.RequireNumberInteger;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class RequireEventTest
+{
+    private static final String FAILURE = "io.github.drewctaylor.require.Failure";
+    private static final String DURATION = "io.github.drewctaylor.require.Duration";
+
+    private static List<RecordedEvent> record(
+            final Recording recording,
+            final Runnable runnable) throws IOException
+    {
+        final Path path = Files.createTempFile("require", ".jfr");
+
+        try
+        {
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(path);
+
+            return RecordingFile.readAllEvents(path).stream()
+                    .filter(recordedEvent -> recordedEvent.getEventType().getName().startsWith("io.github.drewctaylor.require."))
+                    .collect(Collectors.toList());
+        }
+        finally
+        {
+            recording.close();
+            Files.delete(path);
+        }
+    }
+
+    private static List<RecordedEvent> filter(
+            final List<RecordedEvent> list,
+            final String eventType,
+            final String method)
+    {
+        return list.stream()
+                .filter(recordedEvent -> recordedEvent.getEventType().getName().equals(eventType))
+                .filter(recordedEvent -> recordedEvent.getString("method").equals(method))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testFailure() throws IOException
+    {
+        final Recording recording = new Recording();
+        recording.enable(FAILURE);
+        recording.disable(DURATION);
+
+        final List<RecordedEvent> list = record(recording, () ->
+        {
+            Require.require(true, "value", "message");
+            assertThrows(IllegalArgumentException.class, () -> Require.require(false, "x".repeat(1000), "message"));
+            RequireCollection.requireForAll(List.of(1), value -> RequireNumberInteger.requirePositive(value, "value"), "collection");
+            assertThrows(IllegalArgumentException.class, () -> RequireCollection.requireForAll(List.of(0), value -> RequireNumberInteger.requirePositive(value, "value"), "collection"));
+            assertThrows(IllegalArgumentException.class, () -> RequireCollection.requireThereExists(List.of(0), value -> RequireNumberInteger.requirePositive(value, "value"), "collection"));
+            assertThrows(IllegalArgumentException.class, () -> RequireMap.requireForAllEntry(Map.of(1, 0), (key, value) -> RequireNumberInteger.requirePositive(value, "value"), "map"));
+            assertThrows(IllegalArgumentException.class, () -> RequireMap.requireThereExistsKey(new ConcurrentHashMap<>(Map.of(0, 0)), key -> RequireNumberInteger.requirePositive(key, "key"), "map"));
+            assertThrows(IllegalArgumentException.class, () -> Require.requireNull("value", "nullValue"));
+            assertThrows(IllegalArgumentException.class, () -> RequireCollection.requireEmpty(List.of(1), "emptyCollection"));
+        });
+
+        final List<RecordedEvent> requireList = filter(list, FAILURE, "Require.require").stream()
+                .filter(recordedEvent -> recordedEvent.getString("message").equals("message"))
+                .collect(Collectors.toList());
+
+        assertEquals(1, requireList.size());
+        assertEquals("x".repeat(256) + "...", requireList.get(0).getString("value"));
+        assertNull(requireList.get(0).getString("name"));
+        assertNull(requireList.get(0).getString("kind"));
+
+        final List<RecordedEvent> requireNullList = filter(list, FAILURE, "Require.require").stream()
+                .filter(recordedEvent -> "nullValue".equals(recordedEvent.getString("name")))
+                .collect(Collectors.toList());
+
+        assertEquals(1, requireNullList.size());
+        assertEquals("NULL", requireNullList.get(0).getString("kind"));
+
+        final List<RecordedEvent> requireEmptyList = filter(list, FAILURE, "RequireCollection.requireEmpty");
+
+        assertEquals(1, requireEmptyList.size());
+        assertEquals("emptyCollection", requireEmptyList.get(0).getString("name"));
+        assertEquals("EMPTY", requireEmptyList.get(0).getString("kind"));
+
+        final List<RecordedEvent> requireForAllList = filter(list, FAILURE, "RequireCollection.requireForAll");
+
+        assertEquals(1, requireForAllList.size());
+        assertEquals("collection", requireForAllList.get(0).getString("name"));
+        assertEquals("[0]", requireForAllList.get(0).getString("value"));
+        assertEquals("FOR_ALL", requireForAllList.get(0).getString("kind"));
+        assertTrue(requireForAllList.get(0).getString("message").startsWith("Every element of collection must meet the requirement:"));
+
+        assertEquals(1, filter(list, FAILURE, "RequireCollection.requireThereExists").size());
+        assertEquals(1, filter(list, FAILURE, "RequireMap.requireForAllEntry").size());
+        assertEquals(1, filter(list, FAILURE, "RequireMap.requireThereExistsKey").size());
+        assertTrue(filter(list, DURATION, "RequireCollection.requireForAll").isEmpty());
+    }
+
+    @Test
+    void testDuration() throws IOException
+    {
+        final Recording recording = new Recording();
+        recording.enable(DURATION).withThreshold(Duration.ofMillis(5));
+        recording.disable(FAILURE);
+
+        final List<RecordedEvent> list = record(recording, () ->
+        {
+            RequireCollection.requireForAll(List.of(1, 2), value ->
+            {
+                if (value == 2)
+                {
+                    try
+                    {
+                        Thread.sleep(20);
+                    }
+                    catch (final InterruptedException interruptedException)
+                    {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+
+                return value;
+            }, "collection");
+
+            RequireMap.requireForAllValue(Map.of(1, 1), value -> value, "map");
+        });
+
+        final List<RecordedEvent> requireForAllList = filter(list, DURATION, "RequireCollection.requireForAll");
+
+        assertEquals(1, requireForAllList.size());
+        assertEquals("collection", requireForAllList.get(0).getString("name"));
+        assertEquals("2", requireForAllList.get(0).getString("value"));
+        assertFalse(requireForAllList.get(0).getBoolean("failure"));
+        assertTrue(requireForAllList.get(0).getDuration().toMillis() >= 5);
+        assertTrue(filter(list, DURATION, "RequireMap.requireForAllValue").isEmpty());
+        assertTrue(filter(list, FAILURE, "RequireCollection.requireForAll").isEmpty());
+    }
+}
@@ -0,0 +1,162 @@
+package io.github.drewctaylor.require.test;
+
+import io.github.drewctaylor.require.RequireCollection;
+import io.github.drewctaylor.require.RequireIdentityCache;
+import io.github.drewctaylor.require.RequireMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.github.drewctaylor.require.RequireNumberInteger.requirePositive;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class RequireIdentityCacheTest
+{
+    @AfterEach
+    void afterEach()
+    {
+        RequireIdentityCache.disable();
+    }
+
+    @Test
+    void testRequireForAll()
+    {
+        final AtomicInteger count = new AtomicInteger();
+        final Function<Integer, Integer> require = value ->
+        {
+            count.incrementAndGet();
+            return requirePositive(value, "value");
+        };
+
+        final List<Integer> list = List.copyOf(IntStream.range(1, 101).boxed().collect(Collectors.toList()));
+
+        assertFalse(RequireIdentityCache.isEnabled());
+
+        RequireCollection.requireForAll(list, require, "list");
+        RequireCollection.requireForAll(list, require, "list");
+
+        assertEquals(200, count.get());
+        assertEquals(0, RequireIdentityCache.size());
+
+        RequireIdentityCache.enable();
+        count.set(0);
+
+        assertTrue(RequireIdentityCache.isEnabled());
+        assertSame(list, RequireCollection.requireForAll(list, require, "list"));
+        assertSame(list, RequireCollection.requireForAll(list, require, "list"));
+        assertSame(list, RequireCollection.requireThereExists(list, require, "list"));
+        assertSame(list, RequireCollection.requireThereExists(list, require, "list"));
+
+        // the list once for all, and its first element once for there exists.
+        assertEquals(101, count.get());
+        assertEquals(1, RequireIdentityCache.size());
+
+        // an equal but distinct instance, a distinct requirement function, or a mutable list is validated.
+        count.set(0);
+
+        RequireCollection.requireForAll(List.copyOf(new ArrayList<>(list)), require, "list");
+        RequireCollection.requireForAll(list, value -> require.apply(value), "list");
+        RequireCollection.requireForAll(new ArrayList<>(list), require, "list");
+        RequireCollection.requireForAll(new ArrayList<>(list), require, "list");
+
+        assertEquals(400, count.get());
+
+        // a failure is not cached.
+        final List<Integer> listInvalid = List.of(1, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> RequireCollection.requireForAll(listInvalid, require, "list"));
+        assertThrows(IllegalArgumentException.class, () -> RequireCollection.requireForAll(listInvalid, require, "list"));
+
+        RequireIdentityCache.clear();
+        count.set(0);
+
+        RequireCollection.requireForAll(list, require, "list");
+
+        assertEquals(100, count.get());
+
+        RequireIdentityCache.disable();
+
+        assertEquals(0, RequireIdentityCache.size());
+    }
+
+    @Test
+    void testRequireMap()
+    {
+        final AtomicInteger count = new AtomicInteger();
+        final Function<Integer, Integer> require = value ->
+        {
+            count.incrementAndGet();
+            return requirePositive(value, "value");
+        };
+        final BiFunction<Integer, Integer, Integer> requireEntry = (key, value) -> require.apply(value);
+
+        final Map<Integer, Integer> map = Map.copyOf(IntStream.range(1, 11).boxed().collect(Collectors.toMap(Function.identity(), Function.identity())));
+        final Set<Integer> set = Set.copyOf(map.keySet());
+
+        RequireIdentityCache.enable();
+
+        RequireMap.requireForAllKey(map, require, "map");
+        RequireMap.requireForAllKey(map, require, "map");
+        RequireMap.requireForAllValue(map, require, "map");
+        RequireMap.requireForAllValue(map, require, "map");
+        RequireMap.requireForAllEntry(map, requireEntry, "map");
+        RequireMap.requireForAllEntry(map, requireEntry, "map");
+        RequireCollection.requireForAll(set, require, "set");
+        RequireCollection.requireForAll(set, require, "set");
+
+        assertEquals(40, count.get());
+        assertEquals(2, RequireIdentityCache.size());
+    }
+
+    @Test
+    void testWeak()
+    {
+        RequireIdentityCache.enable();
+
+        // the cache holds each list weakly, so it never holds more lists than were checked; whether, and when, the
+        // garbage collector clears them is not deterministic, so the test does not depend on it.
+        for (int index = 0; index < 1_000; index++)
+        {
+            RequireCollection.requireForAll(List.of(index, index), value -> value, "list");
+        }
+
+        assertTrue(RequireIdentityCache.size() <= 1_000, String.valueOf(RequireIdentityCache.size()));
+
+        RequireIdentityCache.clear();
+
+        assertEquals(0, RequireIdentityCache.size());
+    }
+
+    @Test
+    void testCapturingLambda()
+    {
+        final List<Integer> list = List.copyOf(IntStream.range(1, 11).boxed().collect(Collectors.toList()));
+
+        RequireIdentityCache.enable();
+
+        // a capturing lambda is a new instance on each evaluation, so it never hits the cache; the requirements for the
+        // live list must not accumulate.
+        for (int index = 0; index < 10_000; index++)
+        {
+            final int maximum = 100 + index % 2;
+
+            RequireCollection.requireForAll(list, value -> requirePositive(maximum - value, "value"), "list");
+        }
+
+        assertEquals(1, RequireIdentityCache.size());
+        assertTrue(RequireIdentityCache.requirementCount() <= 64, String.valueOf(RequireIdentityCache.requirementCount()));
+    }
+}
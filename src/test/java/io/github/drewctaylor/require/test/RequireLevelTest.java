@@ -0,0 +1,165 @@
+package io.github.drewctaylor.require.test;
+
+import io.github.drewctaylor.require.Require;
+import io.github.drewctaylor.require.RequireCollection;
+import io.github.drewctaylor.require.RequireLevel;
+import io.github.drewctaylor.require.RequireNumberInteger;
+import io.github.drewctaylor.require.RequireString;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class RequireLevelTest
+{
+    @AfterEach
+    void afterEach()
+    {
+        RequireLevel.setLevel(RequireLevel.STANDARD);
+    }
+
+    // return the name of the level of a RequireLevel initialized in a new class loader, with the given value of the
+    // system property.
+    private static String getLevel(
+            final String value) throws ReflectiveOperationException, IOException
+    {
+        final String property = System.getProperty(RequireLevel.PROPERTY);
+
+        System.setProperty(RequireLevel.PROPERTY, value);
+
+        try (URLClassLoader urlClassLoader = new URLClassLoader(new URL[] {RequireLevel.class.getProtectionDomain().getCodeSource().getLocation()}, ClassLoader.getPlatformClassLoader()))
+        {
+            return String.valueOf(Class.forName(RequireLevel.class.getName(), true, urlClassLoader).getMethod("getLevel").invoke(null));
+        }
+        finally
+        {
+            if (property == null)
+            {
+                System.clearProperty(RequireLevel.PROPERTY);
+            }
+            else
+            {
+                System.setProperty(RequireLevel.PROPERTY, property);
+            }
+        }
+    }
+
+    @Test
+    void testRequireLevelProperty() throws ReflectiveOperationException, IOException
+    {
+        assertEquals("PARANOID", getLevel("paranoid"));
+        assertEquals("ALWAYS", getLevel("ALWAYS"));
+
+        // a property that names no level falls back to STANDARD, rather than fail to initialize the class.
+        assertEquals("STANDARD", getLevel("bogus"));
+        assertEquals("STANDARD", getLevel(""));
+    }
+
+    @Test
+    void testRequireLevel()
+    {
+        assertThrows(NullPointerException.class, () -> RequireLevel.setLevel(null));
+
+        assertEquals(RequireLevel.STANDARD, RequireLevel.getLevel());
+        assertTrue(RequireLevel.ALWAYS.isEnabled());
+        assertTrue(RequireLevel.STANDARD.isEnabled());
+        assertFalse(RequireLevel.PARANOID.isEnabled());
+
+        RequireLevel.setLevel(RequireLevel.PARANOID);
+
+        assertEquals(RequireLevel.PARANOID, RequireLevel.getLevel());
+        assertTrue(RequireLevel.ALWAYS.isEnabled());
+        assertTrue(RequireLevel.STANDARD.isEnabled());
+        assertTrue(RequireLevel.PARANOID.isEnabled());
+
+        RequireLevel.setLevel(RequireLevel.ALWAYS);
+
+        assertEquals(RequireLevel.ALWAYS, RequireLevel.getLevel());
+        assertTrue(RequireLevel.ALWAYS.isEnabled());
+        assertFalse(RequireLevel.STANDARD.isEnabled());
+        assertFalse(RequireLevel.PARANOID.isEnabled());
+    }
+
+    @Test
+    void testRequire()
+    {
+        assertThrows(NullPointerException.class, () -> Require.require((RequireLevel) null, 1, value -> value));
+        assertThrows(NullPointerException.class, () -> Require.require(RequireLevel.STANDARD, 1, null));
+
+        assertEquals(1, Require.require(RequireLevel.STANDARD, 1, value -> RequireNumberInteger.requirePositive(value, "value")));
+        assertThrows(IllegalArgumentException.class, () -> Require.require(RequireLevel.STANDARD, 0, value -> RequireNumberInteger.requirePositive(value, "value")));
+        assertEquals(0, Require.require(RequireLevel.PARANOID, 0, value -> RequireNumberInteger.requirePositive(value, "value")));
+        assertEquals(0, Require.require(RequireLevel.PARANOID, 0, null));
+
+        RequireLevel.setLevel(RequireLevel.PARANOID);
+
+        assertThrows(IllegalArgumentException.class, () -> Require.require(RequireLevel.PARANOID, 0, value -> RequireNumberInteger.requirePositive(value, "value")));
+
+        RequireLevel.setLevel(RequireLevel.ALWAYS);
+
+        assertEquals(0, Require.require(RequireLevel.STANDARD, 0, value -> RequireNumberInteger.requirePositive(value, "value")));
+        assertThrows(IllegalArgumentException.class, () -> Require.require(RequireLevel.ALWAYS, 0, value -> RequireNumberInteger.requirePositive(value, "value")));
+    }
+
+    @Test
+    void testRequireForAll()
+    {
+        final List<Integer> list = List.of(0);
+
+        assertThrows(NullPointerException.class, () -> RequireCollection.requireForAll(null, list, value -> value, "list"));
+        assertThrows(NullPointerException.class, () -> RequireCollection.requireForAll(RequireLevel.STANDARD, null, value -> value, "list"));
+
+        assertThrows(IllegalArgumentException.class, () -> RequireCollection.requireForAll(RequireLevel.STANDARD, list, value -> RequireNumberInteger.requirePositive(value, "value"), "list"));
+        assertSame(list, RequireCollection.requireForAll(RequireLevel.PARANOID, list, value -> RequireNumberInteger.requirePositive(value, "value"), "list"));
+        assertSame(list, RequireCollection.requireForAll(RequireLevel.PARANOID, list, null, "list"));
+
+        RequireLevel.setLevel(RequireLevel.PARANOID);
+
+        assertThrows(IllegalArgumentException.class, () -> RequireCollection.requireForAll(RequireLevel.PARANOID, list, value -> RequireNumberInteger.requirePositive(value, "value"), "list"));
+    }
+
+    @Test
+    void testRequireMatch()
+    {
+        final Pattern pattern = Pattern.compile("a+");
+
+        assertThrows(NullPointerException.class, () -> RequireString.requireMatch(null, "a", pattern, "string"));
+        assertThrows(NullPointerException.class, () -> RequireString.requireMatch(RequireLevel.STANDARD, (String) null, pattern, "string"));
+
+        assertEquals("aa", RequireString.requireMatch(RequireLevel.STANDARD, "aa", pattern, "string"));
+        assertEquals("string must match 'a+'; it is 'b'.", assertThrows(IllegalArgumentException.class, () -> RequireString.requireMatch(RequireLevel.STANDARD, "b", pattern, "string")).getMessage());
+        assertEquals("b", RequireString.requireMatch(RequireLevel.PARANOID, "b", pattern, "string"));
+
+        final StringBuilder stringBuilder = new StringBuilder("b");
+
+        assertThrows(IllegalArgumentException.class, () -> RequireString.requireMatch(RequireLevel.STANDARD, stringBuilder, pattern, "string"));
+        assertSame(stringBuilder, RequireString.requireMatch(RequireLevel.PARANOID, stringBuilder, pattern, "string"));
+
+        RequireLevel.setLevel(RequireLevel.PARANOID);
+
+        assertThrows(IllegalArgumentException.class, () -> RequireString.requireMatch(RequireLevel.PARANOID, "b", pattern, "string"));
+        assertThrows(IllegalArgumentException.class, () -> RequireString.requireMatch(RequireLevel.PARANOID, stringBuilder, pattern, "string"));
+
+        // a loop long enough to compile the check, then a change of level, to exercise deoptimization.
+        RequireLevel.setLevel(RequireLevel.STANDARD);
+
+        for (int index = 0; index < 100_000; index++)
+        {
+            RequireString.requireMatch(RequireLevel.PARANOID, "b", pattern, "string");
+        }
+
+        RequireLevel.setLevel(RequireLevel.PARANOID);
+
+        assertThrows(IllegalArgumentException.class, () -> RequireString.requireMatch(RequireLevel.PARANOID, "b", pattern, "string"));
+    }
+}
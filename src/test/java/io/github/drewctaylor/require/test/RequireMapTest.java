@@ -1,16 +1,23 @@
 package io.github.drewctaylor.require.test;
 
+import io.github.drewctaylor.require.RequireSample;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import static io.github.drewctaylor.require.RequireBound.requireGreaterThan;
 import static io.github.drewctaylor.require.RequireMap.requireEmpty;
+import static io.github.drewctaylor.require.RequireMap.requireForAllEntry;
+import static io.github.drewctaylor.require.RequireMap.requireForAllEntrySample;
 import static io.github.drewctaylor.require.RequireMap.requireForAllKey;
+import static io.github.drewctaylor.require.RequireMap.requireForAllKeySample;
 import static io.github.drewctaylor.require.RequireMap.requireForAllValue;
+import static io.github.drewctaylor.require.RequireMap.requireForAllValueSample;
 import static io.github.drewctaylor.require.RequireMap.requireNonEmpty;
 import static io.github.drewctaylor.require.RequireMap.requireSize;
 import static io.github.drewctaylor.require.RequireMap.requireSizeExclusive;
@@ -20,6 +27,7 @@ import static io.github.drewctaylor.require.RequireMap.requireSizeLessThan;
 import static io.github.drewctaylor.require.RequireMap.requireSizeLessThanOrEqual;
 import static io.github.drewctaylor.require.RequireMap.requireSizeMinimumExclusiveMaximumInclusive;
 import static io.github.drewctaylor.require.RequireMap.requireSizeMinimumInclusiveMaximumExclusive;
+import static io.github.drewctaylor.require.RequireMap.requireThereExistsEntry;
 import static io.github.drewctaylor.require.RequireMap.requireThereExistsKey;
 import static io.github.drewctaylor.require.RequireMap.requireThereExistsValue;
 import static java.lang.Integer.valueOf;
@@ -31,6 +39,7 @@ import static java.util.stream.Collectors.toMap;
 import static java.util.stream.IntStream.range;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 final class RequireMapTest
 {
@@ -149,7 +158,7 @@ final class RequireMapTest
         assertEquals(emptyMap(), requireForAllValue(emptyMap(), failure, "name"));
         assertEquals(map, requireForAllValue(map, identity(), "name"));
         assertEquals(map, requireForAllValue(map, s -> requireGreaterThan(s, "a", "s"), "name"));
-        assertThrows(IllegalArgumentException.class, () -> requireForAllValue(map, s -> requireGreaterThan(s, "c", "s"), "name"));
+        assertTrue(assertThrows(IllegalArgumentException.class, () -> requireForAllValue(map, s -> requireGreaterThan(s, "c", "s"), "name")).getMessage().startsWith("Every value of name must meet the requirement:"));
         assertThrows(IllegalArgumentException.class, () -> requireForAllValue(map, s -> requireGreaterThan(s, "d", "s"), "name"));
 
         assertThrows(NullPointerException.class, () -> requireThereExistsValue(emptyMap(), identity(), null));
@@ -160,6 +169,103 @@ final class RequireMapTest
         assertEquals(map, requireThereExistsValue(map, identity(), "name"));
         assertEquals(map, requireThereExistsValue(map, s -> requireGreaterThan(s, "a", "s"), "name"));
         assertEquals(map, requireThereExistsValue(map, s -> requireGreaterThan(s, "c", "s"), "name"));
-        assertThrows(IllegalArgumentException.class, () -> requireThereExistsValue(map, s -> requireGreaterThan(s, "d", "s"), "name"));
+        assertTrue(assertThrows(IllegalArgumentException.class, () -> requireThereExistsValue(map, s -> requireGreaterThan(s, "d", "s"), "name")).getMessage().startsWith("At least one value of name must exist that meets the requirement:"));
+    }
+
+    @Test
+    void testRequireForAllEntryAndThereExistsEntry()
+    {
+        final BiFunction<Object, Object, Object> failure = (key, value) ->
+        {
+            throw new IllegalArgumentException("");
+        };
+
+        final Map<Integer, Integer> map = new HashMap<>();
+        map.put(-1, 0);
+        map.put(0, 1);
+        map.put(1, 1);
+
+        assertThrows(NullPointerException.class, () -> requireForAllEntry(emptyMap(), failure, null));
+        assertThrows(IllegalArgumentException.class, () -> requireForAllEntry(emptyMap(), failure, ""));
+        assertThrows(IllegalArgumentException.class, () -> requireForAllEntry(emptyMap(), failure, " "));
+        assertThrows(NullPointerException.class, () -> requireForAllEntry(emptyMap(), null, "name"));
+
+        assertEquals(emptyMap(), requireForAllEntry(emptyMap(), failure, "name"));
+        assertEquals(map, requireForAllEntry(map, (key, value) -> value, "name"));
+        assertEquals(map, requireForAllEntry(map, (key, value) -> requireGreaterThan(value, key - 1, "value"), "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireForAllEntry(map, (key, value) -> requireGreaterThan(value, key, "value"), "name"));
+        assertTrue(assertThrows(IllegalArgumentException.class, () -> requireForAllEntry(map, (key, value) -> requireGreaterThan(value, key, "value"), "name")).getMessage().contains("1: value must be greater than '1'; it is '1'."));
+
+        assertThrows(NullPointerException.class, () -> requireThereExistsEntry(emptyMap(), failure, null));
+        assertThrows(IllegalArgumentException.class, () -> requireThereExistsEntry(emptyMap(), failure, ""));
+        assertThrows(IllegalArgumentException.class, () -> requireThereExistsEntry(emptyMap(), failure, " "));
+        assertThrows(NullPointerException.class, () -> requireThereExistsEntry(emptyMap(), null, "name"));
+
+        assertThrows(IllegalArgumentException.class, () -> requireThereExistsEntry(emptyMap(), (key, value) -> value, "name"));
+        assertEquals(map, requireThereExistsEntry(map, (key, value) -> value, "name"));
+        assertEquals(map, requireThereExistsEntry(map, (key, value) -> requireGreaterThan(value, key, "value"), "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireThereExistsEntry(map, (key, value) -> requireGreaterThan(value, key + 1, "value"), "name"));
+        assertTrue(assertThrows(IllegalArgumentException.class, () -> requireThereExistsEntry(map, (key, value) -> requireGreaterThan(value, key + 1, "value"), "name")).getMessage().contains("-1: value must be greater than '0'; it is '0'."));
+    }
+
+    @Test
+    void testRequireConcurrentHashMap()
+    {
+        final ConcurrentHashMap<Integer, Integer> map = range(0, 100).boxed().collect(toMap(identity(), i -> i + 1, (i1, i2) -> i1, ConcurrentHashMap::new));
+
+        assertThrows(IllegalArgumentException.class, () -> requireForAllKey(map, 0, identity(), "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireThereExistsKey(map, -1, identity(), "name"));
+        assertThrows(NullPointerException.class, () -> requireForAllEntry(map, 1, null, "name"));
+        assertThrows(NullPointerException.class, () -> requireThereExistsEntry(map, 1, (key, value) -> value, null));
+
+        assertEquals(map, requireForAllKey(map, 1, i -> requireGreaterThan(i, -1, "i"), "name"));
+        assertEquals(map, requireForAllKey(map, i -> requireGreaterThan(i, -1, "i"), "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireForAllKey(map, 1, i -> requireGreaterThan(i, 0, "i"), "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireForAllKey(map, i -> requireGreaterThan(i, 0, "i"), "name"));
+
+        assertEquals(map, requireThereExistsKey(map, 1, i -> requireGreaterThan(i, 98, "i"), "name"));
+        assertEquals(map, requireThereExistsKey(map, i -> requireGreaterThan(i, 98, "i"), "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireThereExistsKey(map, 1, i -> requireGreaterThan(i, 99, "i"), "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireThereExistsKey(map, i -> requireGreaterThan(i, 99, "i"), "name"));
+
+        assertEquals(map, requireForAllValue(map, 1, i -> requireGreaterThan(i, 0, "i"), "name"));
+        assertEquals(map, requireForAllValue(map, i -> requireGreaterThan(i, 0, "i"), "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireForAllValue(map, 1, i -> requireGreaterThan(i, 1, "i"), "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireForAllValue(map, i -> requireGreaterThan(i, 1, "i"), "name"));
+
+        assertEquals(map, requireThereExistsValue(map, 1, i -> requireGreaterThan(i, 99, "i"), "name"));
+        assertEquals(map, requireThereExistsValue(map, i -> requireGreaterThan(i, 99, "i"), "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireThereExistsValue(map, 1, i -> requireGreaterThan(i, 100, "i"), "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireThereExistsValue(map, i -> requireGreaterThan(i, 100, "i"), "name"));
+
+        assertEquals(map, requireForAllEntry(map, 1, (key, value) -> requireGreaterThan(value, key, "value"), "name"));
+        assertEquals(map, requireForAllEntry(map, (key, value) -> requireGreaterThan(value, key, "value"), "name"));
+        assertTrue(assertThrows(IllegalArgumentException.class, () -> requireForAllEntry(map, 1, (key, value) -> key == 50 ? requireGreaterThan(value, value, "value") : value, "name")).getMessage().endsWith("50: value must be greater than '51'; it is '51'."));
+        assertThrows(IllegalArgumentException.class, () -> requireForAllEntry(map, (key, value) -> requireGreaterThan(value, key + 1, "value"), "name"));
+
+        assertEquals(map, requireThereExistsEntry(map, 1, (key, value) -> key == 50 ? value : requireGreaterThan(value, value, "value"), "name"));
+        assertEquals(map, requireThereExistsEntry(map, (key, value) -> key == 50 ? value : requireGreaterThan(value, value, "value"), "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireThereExistsEntry(map, 1, (key, value) -> requireGreaterThan(value, key + 1, "value"), "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireThereExistsEntry(new ConcurrentHashMap<Integer, Integer>(), (key, value) -> value, "name"));
+    }
+
+    @Test
+    void testRequireForAllSample()
+    {
+        final RequireSample sample = RequireSample.ofSize(10, 0);
+        final Map<Integer, Integer> map = range(0, 100).boxed().collect(toMap(identity(), i -> i + 1));
+
+        assertThrows(NullPointerException.class, () -> requireForAllKeySample(null, sample, identity(), "name"));
+        assertThrows(NullPointerException.class, () -> requireForAllValueSample(map, null, identity(), "name"));
+        assertThrows(NullPointerException.class, () -> requireForAllEntrySample(map, sample, null, "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireForAllEntrySample(map, sample, (key, value) -> value, " "));
+
+        assertEquals(map, requireForAllKeySample(map, sample, i -> requireGreaterThan(i, -1, "i"), "name"));
+        assertEquals(map, requireForAllValueSample(map, sample, i -> requireGreaterThan(i, 0, "i"), "name"));
+        assertEquals(map, requireForAllEntrySample(map, sample, (key, value) -> requireGreaterThan(value, key, "value"), "name"));
+
+        assertTrue(assertThrows(IllegalArgumentException.class, () -> requireForAllKeySample(map, sample, i -> requireGreaterThan(i, 100, "i"), "name")).getMessage().startsWith("Every key of name must meet the requirement; 10 of 10 sampled of 100 failed"));
+        assertTrue(assertThrows(IllegalArgumentException.class, () -> requireForAllValueSample(map, sample, i -> requireGreaterThan(i, 100, "i"), "name")).getMessage().startsWith("Every value of name must meet the requirement; 10 of 10 sampled of 100 failed"));
+        assertTrue(assertThrows(IllegalArgumentException.class, () -> requireForAllEntrySample(map, RequireSample.ofRate(1, 0), (key, value) -> key == 50 ? requireGreaterThan(value, value, "value") : value, "name")).getMessage().endsWith("failure rate of 0.0100 (95% confidence interval 0.0100 to 0.0100):" + System.lineSeparator() + "50: value must be greater than '51'; it is '51'."));
     }
 }
@@ -0,0 +1,126 @@
+package io.github.drewctaylor.require.test;
+
+import io.github.drewctaylor.require.RequireCollection;
+import io.github.drewctaylor.require.RequireEnum;
+import io.github.drewctaylor.require.RequireMap;
+import io.github.drewctaylor.require.RequireMetrics;
+import io.github.drewctaylor.require.RequireNumberInteger;
+import io.github.drewctaylor.require.RequireString;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class RequireMetricsTest
+{
+    @AfterEach
+    void afterEach()
+    {
+        RequireMetrics.disable();
+        RequireMetrics.reset();
+    }
+
+    @Test
+    void testRequireMetrics()
+    {
+        assertThrows(NullPointerException.class, () -> RequireMetrics.invocationCount(null, "name"));
+        assertThrows(NullPointerException.class, () -> RequireMetrics.invocationCount("RequireNumberInteger.requirePositive", null));
+        assertThrows(IllegalArgumentException.class, () -> RequireMetrics.invocationCount("RequireNumberInteger.requirePositive", " "));
+        assertThrows(NullPointerException.class, () -> RequireMetrics.failureCount(null, "name"));
+        assertThrows(NullPointerException.class, () -> RequireMetrics.failureCount("RequireNumberInteger.requirePositive", null));
+        assertThrows(IllegalArgumentException.class, () -> RequireMetrics.failureCount("RequireNumberInteger.requirePositive", " "));
+
+        RequireMetrics.reset();
+
+        assertFalse(RequireMetrics.isEnabled());
+
+        RequireNumberInteger.requirePositive(1, "name");
+
+        assertEquals(0, RequireMetrics.invocationCount("RequireNumberInteger.requirePositive", "name"));
+
+        RequireMetrics.enable();
+
+        assertTrue(RequireMetrics.isEnabled());
+
+        RequireNumberInteger.requirePositive(1, "name");
+        assertThrows(IllegalArgumentException.class, () -> RequireNumberInteger.requirePositive(0, "name"));
+        assertThrows(IllegalArgumentException.class, () -> RequireNumberInteger.requireInteger("a", "name"));
+
+        assertEquals(2, RequireMetrics.invocationCount("RequireNumberInteger.requirePositive", "name"));
+        assertEquals(1, RequireMetrics.failureCount("RequireNumberInteger.requirePositive", "name"));
+        assertEquals(1, RequireMetrics.invocationCount("RequireNumberInteger.requireInteger", "name"));
+        assertEquals(1, RequireMetrics.failureCount("RequireNumberInteger.requireInteger", "name"));
+        assertEquals(0, RequireMetrics.invocationCount("RequireNumberInteger.requirePositive", "other"));
+
+        RequireCollection.requireForAll(List.of(1, 2), value -> RequireNumberInteger.requirePositive(value, "element"), "collection");
+        assertThrows(IllegalArgumentException.class, () -> RequireCollection.requireThereExists(List.of(0), value -> RequireNumberInteger.requirePositive(value, "value"), "collection"));
+
+        assertEquals(1, RequireMetrics.invocationCount("RequireCollection.requireForAll", "collection"));
+        assertEquals(0, RequireMetrics.failureCount("RequireCollection.requireForAll", "collection"));
+        assertEquals(1, RequireMetrics.invocationCount("RequireCollection.requireThereExists", "collection"));
+        assertEquals(1, RequireMetrics.failureCount("RequireCollection.requireThereExists", "collection"));
+        assertEquals(2, RequireMetrics.invocationCount("RequireNumberInteger.requirePositive", "element"));
+
+        RequireMap.requireForAllKey(Map.of(1, 1), key -> RequireNumberInteger.requirePositive(key, "key"), "map");
+        RequireMap.requireForAllValue(new ConcurrentHashMap<>(Map.of(1, 1)), value -> RequireNumberInteger.requirePositive(value, "value"), "map");
+        assertThrows(IllegalArgumentException.class, () -> RequireMap.requireForAllEntry(Map.of(1, 0), (key, value) -> RequireNumberInteger.requirePositive(value, "value"), "map"));
+
+        assertEquals(1, RequireMetrics.invocationCount("RequireMap.requireForAllKey", "map"));
+        assertEquals(1, RequireMetrics.invocationCount("RequireMap.requireForAllValue", "map"));
+        assertEquals(1, RequireMetrics.invocationCount("RequireMap.requireForAllEntry", "map"));
+        assertEquals(1, RequireMetrics.failureCount("RequireMap.requireForAllEntry", "map"));
+
+        RequireString.requireMatch("a", Pattern.compile("a"), "string");
+        assertThrows(IllegalArgumentException.class, () -> RequireString.requireUuid("a", "string"));
+        assertThrows(IllegalArgumentException.class, () -> RequireEnum.requireEnum("monday", DayOfWeek.class, "string"));
+
+        assertEquals(1, RequireMetrics.invocationCount("RequireString.requireMatch", "string"));
+        assertEquals(1, RequireMetrics.failureCount("RequireString.requireUuid", "string"));
+        assertEquals(1, RequireMetrics.failureCount("RequireEnum.requireEnum", "string"));
+
+        RequireMetrics.disable();
+
+        RequireNumberInteger.requirePositive(1, "name");
+
+        assertEquals(2, RequireMetrics.invocationCount("RequireNumberInteger.requirePositive", "name"));
+
+        RequireMetrics.reset();
+
+        assertEquals(0, RequireMetrics.invocationCount("RequireNumberInteger.requirePositive", "name"));
+    }
+
+    @Test
+    void testRequireMetricsMXBean() throws Exception
+    {
+        RequireMetrics.enable();
+
+        RequireNumberInteger.requirePositive(1, "name");
+        assertThrows(IllegalArgumentException.class, () -> RequireNumberInteger.requirePositive(0, "name"));
+
+        final ObjectName objectName = new ObjectName(RequireMetrics.OBJECT_NAME);
+
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName));
+        assertEquals(true, ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "Enabled"));
+
+        final Object invocationCount = ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "InvocationCount");
+        final Object failureCount = ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "FailureCount");
+
+        assertTrue(invocationCount.toString().contains("RequireNumberInteger.requirePositive(name)"));
+        assertTrue(failureCount.toString().contains("RequireNumberInteger.requirePositive(name)"));
+
+        ManagementFactory.getPlatformMBeanServer().invoke(objectName, "reset", new Object[]{}, new String[]{});
+
+        assertEquals(0, RequireMetrics.invocationCount("RequireNumberInteger.requirePositive", "name"));
+    }
+}
@@ -1,5 +1,7 @@
 package io.github.drewctaylor.require.test;
 
+import io.github.drewctaylor.require.RequireBound;
+import io.github.drewctaylor.require.RequireCollection;
 import io.github.drewctaylor.require.RequireNumberBigDecimal;
 import io.github.drewctaylor.require.RequireNumberBigInteger;
 import io.github.drewctaylor.require.RequireNumberByte;
@@ -8,16 +10,30 @@ import io.github.drewctaylor.require.RequireNumberFloat;
 import io.github.drewctaylor.require.RequireNumberInteger;
 import io.github.drewctaylor.require.RequireNumberLong;
 import io.github.drewctaylor.require.RequireNumberShort;
+import io.github.drewctaylor.require.RequirementViolation;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.Optional;
+import java.util.Random;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
 import static java.lang.String.valueOf;
+import static java.lang.System.lineSeparator;
+import static java.util.Arrays.asList;
+import static java.util.Arrays.stream;
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+import static java.util.stream.Stream.concat;
 import static java.util.stream.Stream.iterate;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -227,4 +243,514 @@ final class RequireNumberTest
                 RequireNumberShort::requireZeroOrPositive,
                 RequireNumberShort::requireShort);
     }
+
+    private static <TYPE> Optional<TYPE> parse(
+            final Function<String, TYPE> parse,
+            final String string)
+    {
+        try
+        {
+            return Optional.of(parse.apply(string));
+        }
+        catch (final NumberFormatException numberFormatException)
+        {
+            return Optional.empty();
+        }
+    }
+
+    private static final List<String> stringList = asList(
+            "", "+", "-", "0", "-0", "+0", "00012", "1", "-1", "12a", "a12", " 1", "1 ", "--1", "+-1", "\u0661\u0662",
+            "127", "128", "-128", "-129", "32767", "32768", "-32768", "-32769",
+            "2147483647", "2147483648", "-2147483648", "-2147483649", "21474836470", "99999999999",
+            "9223372036854775807", "9223372036854775808", "-9223372036854775808", "-9223372036854775809", "92233720368547758070", "999999999999999999999");
+
+    @Test
+    void testRequireIntegerCharSequence()
+    {
+        assertThrows(NullPointerException.class, () -> RequireNumberInteger.requireInteger((CharSequence) null, 0, 0, "name"));
+        assertThrows(NullPointerException.class, () -> RequireNumberInteger.requireInteger("1", 0, 1, null));
+        assertThrows(IllegalArgumentException.class, () -> RequireNumberInteger.requireInteger("1", 0, 1, " "));
+        assertThrows(IllegalArgumentException.class, () -> RequireNumberInteger.requireInteger("1", -1, 1, "name"));
+        assertThrows(IllegalArgumentException.class, () -> RequireNumberInteger.requireInteger("1", 1, 0, "name"));
+        assertThrows(IllegalArgumentException.class, () -> RequireNumberInteger.requireInteger("1", 0, 2, "name"));
+
+        stringList.forEach(string -> parse(Integer::parseInt, string).ifPresentOrElse(
+                integer -> assertEquals(integer, RequireNumberInteger.requireInteger(new StringBuilder("[").append(string).append("]"), 1, string.length() + 1, "name")),
+                () -> assertEquals(format("name must be a java.lang.Integer; it is '%s'.", string), assertThrows(IllegalArgumentException.class, () -> RequireNumberInteger.requireInteger(new StringBuilder("[").append(string).append("]"), 1, string.length() + 1, "name")).getMessage())));
+    }
+
+    @Test
+    void testRequireLongCharSequence()
+    {
+        assertThrows(NullPointerException.class, () -> RequireNumberLong.requireLong((CharSequence) null, 0, 0, "name"));
+        assertThrows(NullPointerException.class, () -> RequireNumberLong.requireLong("1", 0, 1, null));
+        assertThrows(IllegalArgumentException.class, () -> RequireNumberLong.requireLong("1", 0, 1, " "));
+        assertThrows(IllegalArgumentException.class, () -> RequireNumberLong.requireLong("1", -1, 1, "name"));
+        assertThrows(IllegalArgumentException.class, () -> RequireNumberLong.requireLong("1", 1, 0, "name"));
+        assertThrows(IllegalArgumentException.class, () -> RequireNumberLong.requireLong("1", 0, 2, "name"));
+
+        stringList.forEach(string -> parse(Long::parseLong, string).ifPresentOrElse(
+                l -> assertEquals(l, RequireNumberLong.requireLong(new StringBuilder("[").append(string).append("]"), 1, string.length() + 1, "name")),
+                () -> assertEquals(format("name must be a java.lang.Long; it is '%s'.", string), assertThrows(IllegalArgumentException.class, () -> RequireNumberLong.requireLong(new StringBuilder("[").append(string).append("]"), 1, string.length() + 1, "name")).getMessage())));
+    }
+
+    private static List<ByteBuffer> byteBufferList(
+            final String string)
+    {
+        final byte[] array = ("[" + string + "]").getBytes(ISO_8859_1);
+        final ByteBuffer bufferDirect = ByteBuffer.allocateDirect(array.length).put(array);
+        final ByteBuffer bufferSlice = ByteBuffer.wrap(("-" + "[" + string + "]").getBytes(ISO_8859_1)).position(1).slice();
+
+        return asList(ByteBuffer.wrap(array), ByteBuffer.wrap(array).asReadOnlyBuffer(), bufferDirect.flip(), bufferSlice);
+    }
+
+    private static <TYPE> void testRequireBytesHelper(
+            final Function<String, TYPE> parse,
+            final Class<TYPE> type,
+            final RequireBytes<byte[], TYPE> requireArray,
+            final RequireBytes<ByteBuffer, TYPE> requireBuffer)
+    {
+        assertThrows(NullPointerException.class, () -> requireArray.apply(null, 0, 0, "name"));
+        assertThrows(NullPointerException.class, () -> requireBuffer.apply(null, 0, 0, "name"));
+        assertThrows(NullPointerException.class, () -> requireArray.apply(new byte[]{'1'}, 0, 1, null));
+        assertThrows(IllegalArgumentException.class, () -> requireArray.apply(new byte[]{'1'}, 0, 1, " "));
+        assertThrows(IllegalArgumentException.class, () -> requireArray.apply(new byte[]{'1'}, -1, 1, "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireArray.apply(new byte[]{'1'}, 0, 2, "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireBuffer.apply(ByteBuffer.wrap(new byte[]{'1', '2'}).limit(1), 0, 2, "name"));
+
+        stringList.stream().filter(string -> string.chars().allMatch(character -> character < 256)).forEach(string -> parse(parse, string).ifPresentOrElse(
+                number ->
+                {
+                    assertEquals(number, requireArray.apply(("[" + string + "]").getBytes(ISO_8859_1), 1, string.length() + 1, "name"));
+                    byteBufferList(string).forEach(buffer ->
+                    {
+                        assertEquals(number, requireBuffer.apply(buffer, 1, string.length() + 1, "name"));
+                        assertEquals(0, buffer.position());
+                    });
+                },
+                () ->
+                {
+                    final String message = format("name must be a %s; it is '%s'.", type.getCanonicalName(), string);
+                    assertEquals(message, assertThrows(IllegalArgumentException.class, () -> requireArray.apply(("[" + string + "]").getBytes(ISO_8859_1), 1, string.length() + 1, "name")).getMessage());
+                    byteBufferList(string).forEach(buffer -> assertEquals(message, assertThrows(IllegalArgumentException.class, () -> requireBuffer.apply(buffer, 1, string.length() + 1, "name")).getMessage()));
+                }));
+    }
+
+    @FunctionalInterface
+    private interface RequireBytes<SOURCE, TYPE>
+    {
+        TYPE apply(
+                SOURCE source,
+                int from,
+                int to,
+                String name);
+    }
+
+    @Test
+    void testRequireBytes()
+    {
+        testRequireBytesHelper(Integer::parseInt, Integer.class, RequireNumberInteger::requireInteger, RequireNumberInteger::requireInteger);
+        testRequireBytesHelper(Long::parseLong, Long.class, RequireNumberLong::requireLong, RequireNumberLong::requireLong);
+        testRequireBytesHelper(BigDecimal::new, BigDecimal.class, RequireNumberBigDecimal::requireBigDecimal, RequireNumberBigDecimal::requireBigDecimal);
+        testRequireBytesHelper(Double::parseDouble, Double.class, RequireNumberDouble::requireDouble, RequireNumberDouble::requireDouble);
+        testRequireBytesHelper(Float::parseFloat, Float.class, RequireNumberFloat::requireFloat, RequireNumberFloat::requireFloat);
+    }
+
+    @Test
+    void testRequireBigIntegerMaximumDigitCount()
+    {
+        assertThrows(NullPointerException.class, () -> RequireNumberBigInteger.requireBigInteger(null, 1, "name"));
+        assertThrows(IllegalArgumentException.class, () -> RequireNumberBigInteger.requireBigInteger("1", 0, "name"));
+        assertThrows(NullPointerException.class, () -> RequireNumberBigInteger.requireBigInteger("1", 1, null));
+        assertThrows(IllegalArgumentException.class, () -> RequireNumberBigInteger.requireBigInteger("1", 1, " "));
+
+        stringList.forEach(string -> parse(BigInteger::new, string).ifPresentOrElse(
+                number -> assertEquals(number, RequireNumberBigInteger.requireBigInteger(string, Integer.MAX_VALUE, "name")),
+                () -> assertEquals(format("name must be a %s; it is '%s'.", BigInteger.class.getCanonicalName(), string), assertThrows(IllegalArgumentException.class, () -> RequireNumberBigInteger.requireBigInteger(string, Integer.MAX_VALUE, "name")).getMessage())));
+
+        assertEquals(new BigInteger("-123"), RequireNumberBigInteger.requireBigInteger("-123", 3, "name"));
+        assertEquals("name digit count must be less than or equal to '3'; it is '4'.", assertThrows(IllegalArgumentException.class, () -> RequireNumberBigInteger.requireBigInteger("+1234", 3, "name")).getMessage());
+        assertEquals("name digit count must be less than or equal to '3'; it is '1000000'.", assertThrows(IllegalArgumentException.class, () -> RequireNumberBigInteger.requireBigInteger("9".repeat(1_000_000), 3, "name")).getMessage());
+    }
+
+    @Test
+    void testRequireBigDecimalMaximumDigitCount()
+    {
+        assertThrows(NullPointerException.class, () -> RequireNumberBigDecimal.requireBigDecimal(null, 1, 0, 0, "name"));
+        assertThrows(IllegalArgumentException.class, () -> RequireNumberBigDecimal.requireBigDecimal("1", 0, 0, 0, "name"));
+        assertThrows(IllegalArgumentException.class, () -> RequireNumberBigDecimal.requireBigDecimal("1", 1, -1, 0, "name"));
+        assertThrows(IllegalArgumentException.class, () -> RequireNumberBigDecimal.requireBigDecimal("1", 1, 0, -1, "name"));
+        assertThrows(NullPointerException.class, () -> RequireNumberBigDecimal.requireBigDecimal("1", 1, 0, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> RequireNumberBigDecimal.requireBigDecimal("1", 1, 0, 0, " "));
+
+        final List<String> stringListExponent = asList("1e", "1e+", "1e-", "1e+-1", "1E5", "1e-5", ".5e2", "5.e-2", "1x", "1e5x", "1..0", "e5", "-.e5");
+
+        concat(stringList.stream(), stringListExponent.stream()).forEach(string -> parse(BigDecimal::new, string).ifPresentOrElse(
+                number -> assertEquals(number, RequireNumberBigDecimal.requireBigDecimal(string, Integer.MAX_VALUE, Integer.MAX_VALUE, 1_000_000, "name")),
+                () -> assertEquals(format("name must be a %s; it is '%s'.", BigDecimal.class.getCanonicalName(), string), assertThrows(IllegalArgumentException.class, () -> RequireNumberBigDecimal.requireBigDecimal(string, Integer.MAX_VALUE, Integer.MAX_VALUE, 1_000_000, "name")).getMessage())));
+
+        assertEquals(new BigDecimal("-12.3e-1"), RequireNumberBigDecimal.requireBigDecimal("-12.3e-1", 3, 2, 1, "name"));
+        assertEquals("name digit count must be less than or equal to '3'; it is '4'.", assertThrows(IllegalArgumentException.class, () -> RequireNumberBigDecimal.requireBigDecimal("12.34", 3, 2, 1, "name")).getMessage());
+        assertEquals("name exponent must be greater than or equal to '-1' and less than or equal to '1'; it is '-2'.", assertThrows(IllegalArgumentException.class, () -> RequireNumberBigDecimal.requireBigDecimal("1.2e-2", 3, 3, 1, "name")).getMessage());
+        assertEquals("name exponent must be greater than or equal to '-9' and less than or equal to '9'; it is '+999999999999999999999'.", assertThrows(IllegalArgumentException.class, () -> RequireNumberBigDecimal.requireBigDecimal("1e+999999999999999999999", 3, 3, 9, "name")).getMessage());
+        assertEquals("name scale must be greater than or equal to '-2' and less than or equal to '2'; it is '3'.", assertThrows(IllegalArgumentException.class, () -> RequireNumberBigDecimal.requireBigDecimal("1.23e-1", 3, 2, 1, "name")).getMessage());
+        assertEquals("name scale must be greater than or equal to '-2' and less than or equal to '2'; it is '-3'.", assertThrows(IllegalArgumentException.class, () -> RequireNumberBigDecimal.requireBigDecimal("1e3", 3, 2, 3, "name")).getMessage());
+    }
+
+    @FunctionalInterface
+    private interface RequireInRange<TYPE>
+    {
+        TYPE apply(
+                CharSequence value,
+                TYPE minimum,
+                TYPE maximum,
+                String name);
+    }
+
+    private static <TYPE extends Comparable<TYPE>, NUMBER extends Comparable<NUMBER>> void testRequireInRangeHelper(
+            final Function<String, NUMBER> parse,
+            final Function<TYPE, NUMBER> convert,
+            final Class<?> type,
+            final RequireInRange<TYPE> requireInRange,
+            final TYPE minimum,
+            final TYPE maximum)
+    {
+        assertThrows(NullPointerException.class, () -> requireInRange.apply(null, minimum, maximum, "name"));
+        assertThrows(NullPointerException.class, () -> requireInRange.apply("1", minimum, maximum, null));
+        assertThrows(IllegalArgumentException.class, () -> requireInRange.apply("1", minimum, maximum, " "));
+
+        concat(stringList.stream(), stringList.stream().map(StringBuilder::new)).forEach(value -> parse(parse, value.toString()).ifPresentOrElse(
+                number ->
+                {
+                    if (number.compareTo(convert.apply(minimum)) >= 0 && number.compareTo(convert.apply(maximum)) <= 0)
+                    {
+                        assertEquals(number, convert.apply(requireInRange.apply(value, minimum, maximum, "name")));
+                    }
+                    else
+                    {
+                        assertEquals(format("name must be greater than or equal to '%s' and less than or equal to '%s'; it is '%s'.", minimum, maximum, value), assertThrows(IllegalArgumentException.class, () -> requireInRange.apply(value, minimum, maximum, "name")).getMessage());
+                    }
+                },
+                () -> assertEquals(format("name must be a %s; it is '%s'.", type.getCanonicalName(), value), assertThrows(IllegalArgumentException.class, () -> requireInRange.apply(value, minimum, maximum, "name")).getMessage())));
+    }
+
+    @Test
+    void testRequireInRange()
+    {
+        testRequireInRangeHelper(BigInteger::new, (Integer value) -> BigInteger.valueOf(value), Integer.class, RequireNumberInteger::requireIntegerInRange, 1, 65535);
+        testRequireInRangeHelper(BigInteger::new, (Integer value) -> BigInteger.valueOf(value), Integer.class, RequireNumberInteger::requireIntegerInRange, -128, -1);
+        testRequireInRangeHelper(BigInteger::new, (Integer value) -> BigInteger.valueOf(value), Integer.class, RequireNumberInteger::requireIntegerInRange, 0, 0);
+        testRequireInRangeHelper(BigInteger::new, (Integer value) -> BigInteger.valueOf(value), Integer.class, RequireNumberInteger::requireIntegerInRange, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        testRequireInRangeHelper(BigInteger::new, BigInteger::valueOf, Long.class, RequireNumberLong::requireLongInRange, 1L, 65535L);
+        testRequireInRangeHelper(BigInteger::new, BigInteger::valueOf, Long.class, RequireNumberLong::requireLongInRange, -32768L, 127L);
+        testRequireInRangeHelper(BigInteger::new, BigInteger::valueOf, Long.class, RequireNumberLong::requireLongInRange, Long.MIN_VALUE, Long.MAX_VALUE);
+        testRequireInRangeHelper(Double::parseDouble, Double::valueOf, Double.class, RequireNumberDouble::requireDoubleInRange, -128.0d, 65535.5d);
+        testRequireInRangeHelper(BigDecimal::new, Function.identity(), BigDecimal.class, RequireNumberBigDecimal::requireBigDecimalInRange, BigDecimal.ONE.negate(), new BigDecimal("2147483648"));
+
+        assertEquals(0.5d, RequireNumberDouble.requireDoubleInRange("0.5", 0.0d, 1.0d, "name"));
+        assertThrows(IllegalArgumentException.class, () -> RequireNumberDouble.requireDoubleInRange("NaN", Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, "name"));
+        assertThrows(NullPointerException.class, () -> RequireNumberBigDecimal.requireBigDecimalInRange("1", null, BigDecimal.ONE, "name"));
+        assertThrows(NullPointerException.class, () -> RequireNumberBigDecimal.requireBigDecimalInRange("1", BigDecimal.ONE, null, "name"));
+    }
+
+    @Test
+    void testRequireBigDecimalInRange()
+    {
+        final List<String> valueList = List.of(
+                "0", "-0", "+0", "000", "0.000", "0e5", "1", "-1", "10", "99", "100", "100.0", "101", "-100", "-101", "0099", "0.01", "0.001", ".5", "5.", "-.5",
+                "1e2", "1E+2", "1e-2", "0.1e3", "0.01e4", "10e1", "1e2147483647", "1e-2147483648", "1e99999999999", "0.1e-2147483648", "\u0661\u0660\u0660", "\u0660\u0661\u0660", "\u0661\u0660\u0661",
+                "", "-", "+", ".", "e1", "1e", "1e+", "1.2.3", "1-", "a", " 1", "1 ", "9".repeat(1_000));
+        final List<BigDecimal> boundList = List.of(BigDecimal.ZERO, new BigDecimal("100"), new BigDecimal("-100"), new BigDecimal("0.01"), new BigDecimal("1e2"), new BigDecimal("100.5"));
+
+        // the result agrees with parsing the value in full, then comparing it to the bounds.
+        boundList.forEach(minimum -> boundList.stream().filter(maximum -> maximum.compareTo(minimum) >= 0).forEach(maximum -> valueList.forEach(value ->
+        {
+            BigDecimal number;
+
+            try
+            {
+                number = new BigDecimal(value);
+            }
+            catch (final NumberFormatException numberFormatException)
+            {
+                number = null;
+            }
+
+            if (number == null)
+            {
+                assertEquals(RequirementViolation.Kind.TYPE, assertThrows(RequirementViolation.class, () -> RequireNumberBigDecimal.requireBigDecimalInRange(value, minimum, maximum, "name")).getKind(), value);
+            }
+            else if (number.compareTo(minimum) < 0 || number.compareTo(maximum) > 0)
+            {
+                assertEquals(RequirementViolation.Kind.BOUND_INCLUSIVE, assertThrows(RequirementViolation.class, () -> RequireNumberBigDecimal.requireBigDecimalInRange(value, minimum, maximum, "name")).getKind(), value);
+            }
+            else
+            {
+                assertEquals(number, RequireNumberBigDecimal.requireBigDecimalInRange(value, minimum, maximum, "name"), value);
+            }
+        })));
+
+        // a value far out of range fails without parsing it.
+        final String string = "9".repeat(100_000);
+
+        assertEquals(RequirementViolation.Kind.BOUND_INCLUSIVE, assertThrows(RequirementViolation.class, () -> RequireNumberBigDecimal.requireBigDecimalInRange(string, BigDecimal.ZERO, BigDecimal.TEN, "name")).getKind());
+    }
+
+    @Test
+    void testRequireDoubleInRange()
+    {
+        final String zero = "0".repeat(30);
+        final List<String> valueList = List.of(
+                "0", "-0", "1", "-1", "100", "101", "-101", "0.01", "1e2", "1e308", "1e309", "-1e309", "1e-300", "1e-400", "4.9e-324",
+                "1" + zero, "-1" + zero, "1." + zero, "0." + zero + "1", "1" + zero + "e-30", "1" + zero + "e-28", "1" + zero + "e278", "1" + zero + "e279",
+                "1" + zero + "e-330", "1" + zero + "e-326", "9".repeat(400), zero + "1", "1" + zero + "e99999999999", "\u0661" + zero, "1" + zero + "x", " 1" + zero, "1" + zero + "d");
+        final List<Double> boundList = List.of(0.0d, -0.0d, 100.0d, -100.0d, 1e-300d, Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN);
+
+        // the result agrees with parsing the value in full, then comparing it to the bounds.
+        boundList.forEach(minimum -> boundList.forEach(maximum -> valueList.forEach(value ->
+        {
+            Double number;
+
+            try
+            {
+                number = Double.parseDouble(value);
+            }
+            catch (final NumberFormatException numberFormatException)
+            {
+                number = null;
+            }
+
+            if (number == null)
+            {
+                assertEquals(RequirementViolation.Kind.TYPE, assertThrows(RequirementViolation.class, () -> RequireNumberDouble.requireDoubleInRange(value, minimum, maximum, "name")).getKind(), value);
+            }
+            else if (!(number >= minimum && number <= maximum))
+            {
+                assertEquals(RequirementViolation.Kind.BOUND_INCLUSIVE, assertThrows(RequirementViolation.class, () -> RequireNumberDouble.requireDoubleInRange(value, minimum, maximum, "name")).getKind(), value);
+            }
+            else
+            {
+                assertEquals(number, RequireNumberDouble.requireDoubleInRange(value, minimum, maximum, "name"), value);
+            }
+        })));
+
+        // a value far out of range fails without parsing it.
+        final String string = "9".repeat(100_000);
+
+        assertEquals(RequirementViolation.Kind.BOUND_INCLUSIVE, assertThrows(RequirementViolation.class, () -> RequireNumberDouble.requireDoubleInRange(string, 0.0d, Double.MAX_VALUE, "name")).getKind());
+    }
+
+    private static <ARRAY, TYPE extends Comparable<TYPE>> void testRequireArrayHelper(
+            final BiFunction<List<String>, String, ARRAY> requireList,
+            final BiFunction<String[], String, ARRAY> requireArray,
+            final BiFunction<String, String, TYPE> require,
+            final Function<String, TYPE> parse,
+            final Function<ARRAY, List<TYPE>> toList)
+    {
+        assertThrows(NullPointerException.class, () -> requireList.apply(null, "name"));
+        assertThrows(NullPointerException.class, () -> requireArray.apply(null, "name"));
+        assertThrows(NullPointerException.class, () -> requireList.apply(List.of(), null));
+        assertThrows(IllegalArgumentException.class, () -> requireList.apply(List.of(), " "));
+        assertEquals(List.of(), toList.apply(requireList.apply(List.of(), "name")));
+        assertEquals("Every element of name must meet the requirement:" + lineSeparator() + "1: element must be non-null.", assertThrows(IllegalArgumentException.class, () -> requireList.apply(asList("1", null), "name")).getMessage());
+
+        final List<String> listValid = stringList.stream().filter(string -> parse(parse, string).isPresent()).collect(toList());
+
+        assertEquals(listValid.stream().map(string -> require.apply(string, "element")).collect(toList()), toList.apply(requireList.apply(listValid, "name")));
+        assertEquals(listValid.stream().map(string -> require.apply(string, "element")).collect(toList()), toList.apply(requireArray.apply(listValid.toArray(String[]::new), "name")));
+        assertEquals(
+                assertThrows(IllegalArgumentException.class, () -> RequireCollection.requireForAll(stringList, string -> require.apply(string, "element") == null ? null : string, "name")).getMessage(),
+                assertThrows(IllegalArgumentException.class, () -> requireList.apply(stringList, "name")).getMessage());
+        assertEquals(
+                assertThrows(IllegalArgumentException.class, () -> requireList.apply(stringList, "name")).getMessage(),
+                assertThrows(IllegalArgumentException.class, () -> requireArray.apply(stringList.toArray(String[]::new), "name")).getMessage());
+    }
+
+    @Test
+    void testRequireArray()
+    {
+        testRequireArrayHelper(RequireNumberInteger::requireIntegerArray, RequireNumberInteger::requireIntegerArray, RequireNumberInteger::requireInteger, Integer::parseInt, array -> stream(array).boxed().collect(toList()));
+        testRequireArrayHelper(RequireNumberLong::requireLongArray, RequireNumberLong::requireLongArray, RequireNumberLong::requireLong, Long::parseLong, array -> stream(array).boxed().collect(toList()));
+        testRequireArrayHelper(RequireNumberDouble::requireDoubleArray, RequireNumberDouble::requireDoubleArray, RequireNumberDouble::requireDouble, Double::parseDouble, array -> stream(array).boxed().collect(toList()));
+    }
+
+    private static List<String> floatingPointStringList()
+    {
+        final Random random = new Random(0);
+        final Supplier<String> digits = () -> random.ints(1 + random.nextInt(19), 0, 10).mapToObj(Integer::toString).collect(joining());
+
+        return concat(
+                Stream.of(
+                        "", "+", "-", ".", "e1", "1e", "1e+", "1.e1", ".1", "1.", "-0", "+0.0", "0e999999999", "1e-400", "1e400", " 1", "1 ", "1d", "1f",
+                        "NaN", "-Infinity", "0x1p3", "\u0661", "4.9e-324", "2.4703282292062327e-324", "2.2250738585072011e-308", "2.2250738585072012e-308",
+                        "1.7976931348623157e308", "1.7976931348623159e308", "9007199254740993", "9223372036854775807", "18446744073709551615",
+                        "1.00000000000000000000000001", "0.000000000000000000000000000000001", "7.2057594037927933e16", "3.4028235e38", "1.4e-45"),
+                range(0, 100_000).mapToObj(index ->
+                {
+                    switch (index % 5)
+                    {
+                        case 0:
+                            return Double.toString(Double.longBitsToDouble(random.nextLong()));
+                        case 1:
+                            return Float.toString(Float.intBitsToFloat(random.nextInt()));
+                        case 2:
+                            return digits.get() + "e" + (random.nextInt(700) - 350);
+                        case 3:
+                            return random.nextInt(1_000_000) + "." + random.nextInt(10_000);
+                        default:
+                            final String string = digits.get();
+                            final int point = random.nextInt(string.length() + 1);
+                            return string.substring(0, point) + "." + string.substring(point) + "e" + (random.nextInt(40) - 20);
+                    }
+                }))
+                .collect(toList());
+    }
+
+    @Test
+    void testRequireDoubleFloatExact()
+    {
+        floatingPointStringList().forEach(string ->
+        {
+            parse(Double::parseDouble, string).ifPresentOrElse(
+                    number ->
+                    {
+                        assertEquals(Double.doubleToRawLongBits(number), Double.doubleToRawLongBits(RequireNumberDouble.requireDouble(string, "name")), string);
+                        assertEquals(Double.doubleToRawLongBits(number), Double.doubleToRawLongBits(RequireNumberDouble.requireDouble("[" + string + "]", 1, string.length() + 1, "name")), string);
+                    },
+                    () -> assertEquals(format("name must be a %s; it is '%s'.", Double.class.getCanonicalName(), string), assertThrows(IllegalArgumentException.class, () -> RequireNumberDouble.requireDouble(new StringBuilder(string), 0, string.length(), "name")).getMessage()));
+
+            parse(Float::parseFloat, string).ifPresentOrElse(
+                    number ->
+                    {
+                        assertEquals(Float.floatToRawIntBits(number), Float.floatToRawIntBits(RequireNumberFloat.requireFloat(string, "name")), string);
+                        assertEquals(Float.floatToRawIntBits(number), Float.floatToRawIntBits(RequireNumberFloat.requireFloat("[" + string + "]", 1, string.length() + 1, "name")), string);
+                    },
+                    () -> assertEquals(format("name must be a %s; it is '%s'.", Float.class.getCanonicalName(), string), assertThrows(IllegalArgumentException.class, () -> RequireNumberFloat.requireFloat(new StringBuilder(string), 0, string.length(), "name")).getMessage()));
+        });
+    }
+
+    private static Optional<String> requireMonetaryMessage(
+            final Supplier<?> supplier)
+    {
+        try
+        {
+            supplier.get();
+            return Optional.empty();
+        }
+        catch (final IllegalArgumentException illegalArgumentException)
+        {
+            return Optional.of(illegalArgumentException.getMessage());
+        }
+    }
+
+    @Test
+    void testRequireMonetary()
+    {
+        assertThrows(NullPointerException.class, () -> RequireNumberBigDecimal.requireScaleAtMost(null, 2, "name"));
+        assertThrows(NullPointerException.class, () -> RequireNumberBigDecimal.requireScaleAtMost(BigDecimal.ONE, 2, null));
+        assertThrows(NullPointerException.class, () -> RequireNumberBigDecimal.requirePrecisionAtMost(null, 18, "name"));
+        assertThrows(IllegalArgumentException.class, () -> RequireNumberBigDecimal.requirePrecisionAtMost(BigDecimal.ONE, 0, "name"));
+        assertThrows(IllegalArgumentException.class, () -> RequireNumberBigDecimal.requirePrecisionAtMost(BigDecimal.ONE, 18, " "));
+        assertThrows(NullPointerException.class, () -> RequireNumberBigDecimal.requireMonetary((BigDecimal) null, 18, 2, "name"));
+        assertThrows(NullPointerException.class, () -> RequireNumberBigDecimal.requireMonetary((String) null, 18, 2, "name"));
+        assertThrows(IllegalArgumentException.class, () -> RequireNumberBigDecimal.requireMonetary("1", 0, 2, "name"));
+
+        assertEquals(new BigDecimal("12.50"), RequireNumberBigDecimal.requireScaleAtMost(new BigDecimal("12.50"), 2, "name"));
+        assertEquals(new BigDecimal("1E+3"), RequireNumberBigDecimal.requireScaleAtMost(new BigDecimal("1E+3"), 0, "name"));
+        assertEquals("name scale must be less than or equal to '2'; it is '3'.", assertThrows(IllegalArgumentException.class, () -> RequireNumberBigDecimal.requireScaleAtMost(new BigDecimal("1.500"), 2, "name")).getMessage());
+        assertEquals("name precision must be less than or equal to '3'; it is '4'.", assertThrows(IllegalArgumentException.class, () -> RequireNumberBigDecimal.requirePrecisionAtMost(new BigDecimal("-12.34"), 3, "name")).getMessage());
+
+        // an unscaled value that does not fit in a long has at least 19 digits.
+        final BigDecimal inflated = new BigDecimal(BigInteger.TWO.pow(63), 2);
+        final RequirementViolation requirementViolation = assertThrows(RequirementViolation.class, () -> RequireNumberBigDecimal.requirePrecisionAtMost(inflated, 18, "name"));
+
+        assertEquals(19, requirementViolation.getValue());
+        assertEquals("name precision must be less than or equal to '18'; it is '19'.", requirementViolation.getMessage());
+        assertEquals(inflated, RequireNumberBigDecimal.requirePrecisionAtMost(inflated, 19, "name"));
+        assertEquals(inflated.negate(), RequireNumberBigDecimal.requirePrecisionAtMost(inflated.negate(), 1_000, "name"));
+
+        final Random random = new Random(0);
+
+        range(0, 10_000).forEach(index ->
+        {
+            final BigDecimal value = new BigDecimal(new BigInteger(1 + random.nextInt(200), random).multiply(BigInteger.valueOf(random.nextBoolean() ? 1 : -1)), random.nextInt(10) - 5);
+            final int maximumPrecision = Math.max(1, value.precision() + random.nextInt(3) - 1);
+            final int maximumScale = value.scale() + random.nextInt(3) - 1;
+
+            if (value.precision() <= maximumPrecision && value.scale() <= maximumScale)
+            {
+                assertEquals(value, RequireNumberBigDecimal.requireMonetary(value, maximumPrecision, maximumScale, "name"));
+            }
+            else
+            {
+                assertThrows(IllegalArgumentException.class, () -> RequireNumberBigDecimal.requireMonetary(value, maximumPrecision, maximumScale, "name"));
+            }
+
+            if (value.scale() >= 0)
+            {
+                final String string = value.toPlainString();
+
+                assertEquals(
+                        requireMonetaryMessage(() -> RequireNumberBigDecimal.requireMonetary(new BigDecimal(string), maximumPrecision, maximumScale, "name")),
+                        requireMonetaryMessage(() -> RequireNumberBigDecimal.requireMonetary(string, maximumPrecision, maximumScale, "name")));
+            }
+        });
+
+        concat(stringList.stream(), Stream.of(".5", "5.", "0.00", "-0.05", "000.050", "1e2", "1.2.3", "1,5")).forEach(string -> assertEquals(
+                string.matches("[+-]?[0-9]+(\\.[0-9]+)?") ?
+                        requireMonetaryMessage(() -> RequireNumberBigDecimal.requireMonetary(new BigDecimal(string), 1, 0, "name")) :
+                        Optional.of(format("name must be a %s; it is '%s'.", BigDecimal.class.getCanonicalName(), string)),
+                requireMonetaryMessage(() -> RequireNumberBigDecimal.requireMonetary(string, 1, 0, "name"))));
+    }
+
+    @Test
+    void testRequireBoundInclusiveLong()
+    {
+        assertThrows(NullPointerException.class, () -> RequireNumberBigInteger.requireBoundInclusive(null, 0L, 1L, "name"));
+        assertThrows(NullPointerException.class, () -> RequireNumberBigInteger.requireBoundInclusive(BigInteger.ONE, 0L, 1L, null));
+        assertThrows(NullPointerException.class, () -> RequireNumberBigDecimal.requireBoundInclusive(null, 0L, 1L, "name"));
+        assertThrows(IllegalArgumentException.class, () -> RequireNumberBigDecimal.requireBoundInclusive(BigDecimal.ONE, 0L, 1L, " "));
+
+        final List<Long> boundList = asList(Long.MIN_VALUE, Long.MIN_VALUE + 1, -1000L, -999L, -1L, 0L, 1L, 9L, 10L, 999L, 1000L, Long.MAX_VALUE - 1, Long.MAX_VALUE);
+        final Random random = new Random(0);
+        final List<BigInteger> bigIntegerList = concat(
+                boundList.stream().flatMap(bound -> Stream.of(-1, 0, 1).map(offset -> BigInteger.valueOf(bound).add(BigInteger.valueOf(offset)))),
+                range(0, 200).mapToObj(index -> new BigInteger(random.nextInt(200), random).multiply(BigInteger.valueOf(random.nextBoolean() ? 1 : -1))))
+                .collect(toList());
+        final List<BigDecimal> bigDecimalList = concat(
+                bigIntegerList.stream().map(BigDecimal::new),
+                bigIntegerList.stream().flatMap(bigInteger -> Stream.of(-20, -3, -1, 1, 2, 18, 25, 40).map(scale -> new BigDecimal(bigInteger, scale))))
+                .collect(toList());
+
+        boundList.forEach(minimum -> boundList.stream().filter(maximum -> maximum >= minimum).forEach(maximum ->
+        {
+            bigIntegerList.forEach(value ->
+            {
+                if (value.compareTo(BigInteger.valueOf(minimum)) >= 0 && value.compareTo(BigInteger.valueOf(maximum)) <= 0)
+                {
+                    assertEquals(value, RequireNumberBigInteger.requireBoundInclusive(value, minimum, maximum, "name"));
+                }
+                else
+                {
+                    assertEquals(
+                            assertThrows(IllegalArgumentException.class, () -> RequireBound.requireBoundInclusive(value, BigInteger.valueOf(minimum), BigInteger.valueOf(maximum), "name")).getMessage(),
+                            assertThrows(IllegalArgumentException.class, () -> RequireNumberBigInteger.requireBoundInclusive(value, minimum, maximum, "name")).getMessage());
+                }
+            });
+
+            bigDecimalList.forEach(value ->
+            {
+                if (value.compareTo(BigDecimal.valueOf(minimum)) >= 0 && value.compareTo(BigDecimal.valueOf(maximum)) <= 0)
+                {
+                    assertEquals(value, RequireNumberBigDecimal.requireBoundInclusive(value, minimum, maximum, "name"));
+                }
+                else
+                {
+                    assertEquals(
+                            assertThrows(IllegalArgumentException.class, () -> RequireBound.requireBoundInclusive(value, BigDecimal.valueOf(minimum), BigDecimal.valueOf(maximum), "name")).getMessage(),
+                            assertThrows(IllegalArgumentException.class, () -> RequireNumberBigDecimal.requireBoundInclusive(value, minimum, maximum, "name")).getMessage());
+                }
+            });
+        }));
+    }
 }
@@ -0,0 +1,31 @@
+package io.github.drewctaylor.require.test;
+
+import io.github.drewctaylor.require.RequirePatternCache;
+import org.junit.jupiter.api.Test;
+
+import static io.github.drewctaylor.require.RequireString.requireMatch;
+import static java.util.stream.IntStream.range;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class RequirePatternCacheTest
+{
+    @Test
+    void testRequirePatternCache()
+    {
+        final long missCount = RequirePatternCache.missCount();
+        final long hitCount = RequirePatternCache.hitCount();
+
+        requireMatch("b", "b{1,3}", "name");
+        requireMatch("bb", "b{1,3}", "name");
+
+        assertTrue(RequirePatternCache.missCount() > missCount);
+        assertTrue(RequirePatternCache.hitCount() > hitCount);
+
+        final long evictionCount = RequirePatternCache.evictionCount();
+
+        range(0, RequirePatternCache.CAPACITY * 2).forEach(index -> assertEquals(String.valueOf(index), requireMatch(String.valueOf(index), index + "|a", "name")));
+
+        assertTrue(RequirePatternCache.evictionCount() >= evictionCount + RequirePatternCache.CAPACITY);
+    }
+}
@@ -0,0 +1,187 @@
+package io.github.drewctaylor.require.test;
+
+import io.github.drewctaylor.require.Require;
+import io.github.drewctaylor.require.RequireRender;
+import io.github.drewctaylor.require.RequireString;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class RequireRenderTest
+{
+    @AfterEach
+    void afterEach()
+    {
+        RequireRender.reset();
+    }
+
+    // a character sequence of the given length that fails if rendered in full.
+    private static CharSequence charSequence(
+            final int length)
+    {
+        return new CharSequence()
+        {
+            @Override
+            public int length()
+            {
+                return length;
+            }
+
+            @Override
+            public char charAt(
+                    final int index)
+            {
+                return 'a';
+            }
+
+            @Override
+            public CharSequence subSequence(
+                    final int start,
+                    final int end)
+            {
+                return "a".repeat(end - start);
+            }
+
+            @Override
+            public String toString()
+            {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    // an element that counts the calls to toString.
+    private static Object element(
+            final int number,
+            final AtomicInteger count)
+    {
+        return new Object()
+        {
+            @Override
+            public String toString()
+            {
+                count.incrementAndGet();
+                return String.valueOf(number);
+            }
+        };
+    }
+
+    @Test
+    void testMaximumLength()
+    {
+        assertEquals(RequireRender.MAXIMUM_LENGTH_DEFAULT, RequireRender.getMaximumLength());
+        assertThrows(IllegalArgumentException.class, () -> RequireRender.setMaximumLength(0));
+
+        RequireRender.setMaximumLength(5);
+
+        assertEquals(5, RequireRender.getMaximumLength());
+
+        RequireRender.reset();
+
+        assertEquals(RequireRender.MAXIMUM_LENGTH_DEFAULT, RequireRender.getMaximumLength());
+    }
+
+    // return the maximum number of characters of a RequireRender initialized in a new class loader, with the given value
+    // of the system property.
+    private static Object getMaximumLength(
+            final String value) throws ReflectiveOperationException, IOException
+    {
+        final String property = System.getProperty(RequireRender.PROPERTY);
+
+        System.setProperty(RequireRender.PROPERTY, value);
+
+        try (URLClassLoader urlClassLoader = new URLClassLoader(new URL[] {RequireRender.class.getProtectionDomain().getCodeSource().getLocation()}, ClassLoader.getPlatformClassLoader()))
+        {
+            return Class.forName(RequireRender.class.getName(), true, urlClassLoader).getMethod("getMaximumLength").invoke(null);
+        }
+        finally
+        {
+            if (property == null)
+            {
+                System.clearProperty(RequireRender.PROPERTY);
+            }
+            else
+            {
+                System.setProperty(RequireRender.PROPERTY, property);
+            }
+        }
+    }
+
+    @Test
+    void testMaximumLengthProperty() throws ReflectiveOperationException, IOException
+    {
+        assertEquals(5, getMaximumLength("5"));
+
+        // a property that is not a positive integer falls back to the default, rather than fail to initialize the class.
+        assertEquals(RequireRender.MAXIMUM_LENGTH_DEFAULT, getMaximumLength("0"));
+        assertEquals(RequireRender.MAXIMUM_LENGTH_DEFAULT, getMaximumLength("-1"));
+        assertEquals(RequireRender.MAXIMUM_LENGTH_DEFAULT, getMaximumLength("abc"));
+    }
+
+    @Test
+    void testRender()
+    {
+        RequireRender.setMaximumLength(10);
+
+        assertEquals("null", RequireRender.render(null));
+        assertEquals("abcdefghij", RequireRender.render("abcdefghij"));
+        assertEquals("abcdefghij...", RequireRender.render("abcdefghijk"));
+        assertEquals("aaaaaaaaaa...", RequireRender.render(charSequence(10_000_000)));
+        assertEquals("abcdefghi...", RequireRender.render("abcdefghi\uD83D\uDE00"));
+        assertEquals("1234567890...", RequireRender.render(12345678901L));
+
+        assertEquals("[1, 2, 3]", RequireRender.render(List.of(1, 2, 3)));
+        assertEquals("[1, [2]]", RequireRender.render(List.of(1, List.of(2))));
+        assertEquals("[0, 1, 2, ...", RequireRender.render(IntStream.range(0, 10_000_000).boxed().collect(Collectors.toList())));
+
+        final Map<String, Integer> map = new LinkedHashMap<>();
+
+        map.put("a", 1);
+        map.put("b", 2);
+
+        assertEquals("{a=1, b=2}", RequireRender.render(map));
+
+        map.put("b", 22);
+
+        assertEquals("{a=1, b=22...", RequireRender.render(map));
+
+        final List<Object> list = new ArrayList<>();
+
+        list.add(list);
+
+        assertEquals("[(this Col...", RequireRender.render(list));
+
+        // only the elements that fit render.
+        final AtomicInteger count = new AtomicInteger();
+
+        assertEquals("[0, 1, 2, ...", RequireRender.render(IntStream.range(0, 1_000).mapToObj(index -> element(index, count)).collect(Collectors.toList())));
+        assertEquals(4, count.get());
+    }
+
+    @Test
+    void testMessage()
+    {
+        final String string = "a".repeat(10_000_000);
+
+        assertEquals("string must be empty; it was '" + "a".repeat(256) + "...'.", assertThrows(IllegalArgumentException.class, () -> RequireString.requireEmpty(string, "string")).getMessage());
+        assertEquals("value must be null; it is '" + "a".repeat(256) + "...'.", assertThrows(IllegalArgumentException.class, () -> Require.requireNull(string, "value")).getMessage());
+
+        RequireRender.setMaximumLength(3);
+
+        assertEquals("value must be null; it is '[1,...'.", assertThrows(IllegalArgumentException.class, () -> Require.requireNull(List.of(1, 2), "value")).getMessage());
+        assertEquals("value must be null; it is '[1]'.", assertThrows(IllegalArgumentException.class, () -> Require.requireNull(List.of(1), "value")).getMessage());
+    }
+}
@@ -0,0 +1,195 @@
+package io.github.drewctaylor.require.test;
+
+import io.github.drewctaylor.require.RequireCollection;
+import io.github.drewctaylor.require.RequireResultCache;
+import io.github.drewctaylor.require.RequirementViolation;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static io.github.drewctaylor.require.RequireNumberInteger.requirePositive;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class RequireResultCacheTest
+{
+    private static Function<Integer, Integer> require(
+            final AtomicInteger count)
+    {
+        return value ->
+        {
+            count.incrementAndGet();
+            return requirePositive(value, "value");
+        };
+    }
+
+    @Test
+    void testOf()
+    {
+        assertThrows(NullPointerException.class, () -> RequireResultCache.of(null, 1, RequireResultCache.Eviction.LRU));
+        assertThrows(IllegalArgumentException.class, () -> RequireResultCache.of(Function.identity(), 0, RequireResultCache.Eviction.LRU));
+        assertThrows(NullPointerException.class, () -> RequireResultCache.of(Function.identity(), 1, null));
+        assertThrows(NullPointerException.class, () -> RequireResultCache.ofMatch(null, "name", 1, RequireResultCache.Eviction.LRU));
+        assertThrows(IllegalArgumentException.class, () -> RequireResultCache.ofMatch(Pattern.compile("a"), " ", 1, RequireResultCache.Eviction.LRU));
+    }
+
+    @Test
+    void testApply()
+    {
+        for (final RequireResultCache.Eviction eviction : RequireResultCache.Eviction.values())
+        {
+            final AtomicInteger count = new AtomicInteger();
+            final RequireResultCache<Integer> cache = RequireResultCache.of(require(count), 100, eviction);
+
+            assertEquals(1, cache.apply(1));
+            assertEquals(1, cache.apply(1));
+
+            final IllegalArgumentException illegalArgumentException = assertThrows(IllegalArgumentException.class, () -> cache.apply(0));
+
+            assertEquals("value must be positive; it is '0'.", illegalArgumentException.getMessage());
+
+            // each hit throws its own violation, caused by the violation that the miss threw.
+            final IllegalArgumentException illegalArgumentExceptionHit1 = assertThrows(IllegalArgumentException.class, () -> cache.apply(0));
+            final IllegalArgumentException illegalArgumentExceptionHit2 = assertThrows(IllegalArgumentException.class, () -> cache.apply(0));
+
+            assertNotSame(illegalArgumentException, illegalArgumentExceptionHit1);
+            assertNotSame(illegalArgumentExceptionHit1, illegalArgumentExceptionHit2);
+            assertSame(illegalArgumentException, illegalArgumentExceptionHit1.getCause());
+            assertSame(illegalArgumentException, illegalArgumentExceptionHit2.getCause());
+            assertEquals(illegalArgumentException.getMessage(), illegalArgumentExceptionHit1.getMessage());
+            assertEquals(RequirementViolation.Kind.POSITIVE, ((RequirementViolation) illegalArgumentExceptionHit1).getKind());
+
+            illegalArgumentExceptionHit1.addSuppressed(new RuntimeException());
+
+            assertEquals(0, assertThrows(IllegalArgumentException.class, () -> cache.apply(0)).getSuppressed().length);
+
+            assertThrows(NullPointerException.class, () -> cache.apply(null));
+            assertThrows(NullPointerException.class, () -> cache.apply(null));
+
+            assertEquals(3, count.get());
+            assertEquals(3, cache.getMissCount());
+            assertEquals(5, cache.getHitCount());
+            assertEquals(3, cache.size());
+            assertTrue(cache.toString().startsWith("RequireResultCache(eviction=" + eviction + ", maximumSize=100, size=3, hitCount=5, missCount=3"));
+
+            cache.clear();
+
+            assertEquals(0, cache.size());
+            assertEquals(1, cache.apply(1));
+            assertEquals(4, count.get());
+        }
+    }
+
+    @Test
+    void testApplyType()
+    {
+        final RequireResultCache<String> cache = RequireResultCache.of(value ->
+        {
+            if (value.isEmpty())
+            {
+                throw new IllegalStateException("value must be non-empty.");
+            }
+
+            Integer.parseInt(value);
+            return value;
+        }, 100, RequireResultCache.Eviction.LRU);
+
+        // an exception that is not a violation keeps its type, on a miss and on a hit.
+        final NumberFormatException numberFormatException = assertThrows(NumberFormatException.class, () -> cache.apply("a"));
+
+        assertSame(numberFormatException, assertThrows(NumberFormatException.class, () -> cache.apply("a")));
+
+        final IllegalStateException illegalStateException = assertThrows(IllegalStateException.class, () -> cache.apply(""));
+
+        assertSame(illegalStateException, assertThrows(IllegalStateException.class, () -> cache.apply("")));
+    }
+
+    @Test
+    void testLru()
+    {
+        final AtomicInteger count = new AtomicInteger();
+        final RequireResultCache<Integer> cache = RequireResultCache.of(require(count), 3, RequireResultCache.Eviction.LRU);
+
+        IntStream.of(1, 2, 3, 1, 4).forEach(cache::apply);
+
+        assertEquals(3, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+
+        // 2 was the least recently used, so it was evicted; 1 was not.
+        count.set(0);
+        cache.apply(1);
+        assertEquals(0, count.get());
+        cache.apply(2);
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    void testTinyLfu()
+    {
+        final AtomicInteger countLru = new AtomicInteger();
+        final AtomicInteger countTinyLfu = new AtomicInteger();
+        final RequireResultCache<Integer> cacheLru = RequireResultCache.of(require(countLru), 10, RequireResultCache.Eviction.LRU);
+        final RequireResultCache<Integer> cacheTinyLfu = RequireResultCache.of(require(countTinyLfu), 10, RequireResultCache.Eviction.TINY_LFU);
+
+        // values 1 to 10 are used often, interleaved with a scan of values used once.
+        for (int round = 0; round < 100; round++)
+        {
+            for (int value = 1; value <= 10; value++)
+            {
+                cacheLru.apply(value);
+                cacheTinyLfu.apply(value);
+            }
+
+            for (int value = 0; value < 20; value++)
+            {
+                cacheLru.apply(1_000 + round * 20 + value);
+                cacheTinyLfu.apply(1_000 + round * 20 + value);
+            }
+        }
+
+        assertTrue(cacheTinyLfu.getHitCount() > 900, cacheTinyLfu.toString());
+        assertTrue(cacheTinyLfu.getRejectionCount() > 0, cacheTinyLfu.toString());
+        assertEquals(0, cacheLru.getHitCount(), cacheLru.toString());
+        assertEquals(0, cacheLru.getRejectionCount(), cacheLru.toString());
+    }
+
+    @Test
+    void testRequireForAll()
+    {
+        final RequireResultCache<String> cache = RequireResultCache.ofMatch(Pattern.compile("[A-Z]{3}-[0-9]{4}"), "code", 1_000, RequireResultCache.Eviction.TINY_LFU);
+        final List<String> list = List.of("ABC-0001", "ABC-0002", "ABC-0001", "ABC-0002");
+
+        for (int index = 0; index < 10; index++)
+        {
+            RequireCollection.requireForAll(list, cache, "list");
+        }
+
+        assertEquals(2, cache.getMissCount());
+        assertEquals(38, cache.getHitCount());
+
+        assertEquals("abc", assertThrows(IllegalArgumentException.class, () -> RequireCollection.requireForAll(List.of("abc"), cache, "list")).getMessage().replaceAll("(?s).*it is '(.*)'\\.$", "$1"));
+        assertEquals("ABC-0001", cache.apply("ABC-0001"));
+        assertNull(RequireResultCache.of(Function.<Integer>identity(), 1, RequireResultCache.Eviction.LRU).apply(null));
+    }
+
+    @Test
+    void testConcurrent()
+    {
+        final AtomicInteger count = new AtomicInteger();
+        final RequireResultCache<Integer> cache = RequireResultCache.of(require(count), 1_000, RequireResultCache.Eviction.TINY_LFU);
+
+        IntStream.range(0, 1_000_000).parallel().forEach(index -> cache.apply(index % 500 + 1));
+
+        assertTrue(cache.size() <= 1_000);
+        assertEquals(1_000_000, cache.getHitCount() + cache.getMissCount());
+        assertTrue(count.get() < 10_000, cache.toString());
+    }
+}
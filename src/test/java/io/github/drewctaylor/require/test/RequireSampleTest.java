@@ -0,0 +1,118 @@
+package io.github.drewctaylor.require.test;
+
+import io.github.drewctaylor.require.RequireSample;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.github.drewctaylor.require.RequireNumberInteger.requirePositive;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class RequireSampleTest
+{
+    // the elements from 0 (exclusive) to 100,000 (exclusive), of which 1 in every 100 is negative.
+    private static List<Integer> list()
+    {
+        return IntStream.range(1, 100_000).map(index -> index % 100 == 0 ? -index : index).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    void testOf()
+    {
+        assertThrows(IllegalArgumentException.class, () -> RequireSample.ofRate(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> RequireSample.ofRate(-0.5, 0));
+        assertThrows(IllegalArgumentException.class, () -> RequireSample.ofRate(1.5, 0));
+        assertThrows(IllegalArgumentException.class, () -> RequireSample.ofRate(Double.NaN, 0));
+        assertThrows(IllegalArgumentException.class, () -> RequireSample.ofSize(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> RequireSample.ofSize(-1, 0));
+
+        assertEquals("RequireSample(rate=0.5, seed=1)", RequireSample.ofRate(0.5, 1).toString());
+        assertEquals("RequireSample(size=5, seed=1)", RequireSample.ofSize(5, 1).toString());
+    }
+
+    @Test
+    void testEstimate()
+    {
+        final Function<Integer, Integer> require = value -> requirePositive(value, "value");
+        final List<Integer> arrayList = list();
+        final List<Integer> linkedList = new LinkedList<>(arrayList);
+
+        assertThrows(NullPointerException.class, () -> RequireSample.ofRate(0.5, 0).estimate(null, require));
+        assertThrows(NullPointerException.class, () -> RequireSample.ofRate(0.5, 0).estimate(arrayList, null));
+
+        for (final RequireSample sample : List.of(RequireSample.ofRate(0.1, 0), RequireSample.ofRate(0.1, 1), RequireSample.ofSize(10_000, 0), RequireSample.ofSize(10_000, 1)))
+        {
+            for (final List<Integer> list : List.of(arrayList, linkedList))
+            {
+                final RequireSample.Estimate estimate = sample.estimate(list, require);
+
+                assertEquals(99_999, estimate.getPopulationSize());
+                assertTrue(estimate.getSampleSize() > 9_000 && estimate.getSampleSize() <= 11_000, estimate.toString());
+                assertTrue(estimate.getLowerBound() <= 0.01 && 0.01 <= estimate.getUpperBound(), estimate.toString());
+                assertTrue(estimate.getLowerBound() <= estimate.getFailureRate() && estimate.getFailureRate() <= estimate.getUpperBound());
+                assertEquals(estimate.toString(), sample.estimate(list, require).toString());
+            }
+        }
+
+        assertEquals(10_000, RequireSample.ofSize(10_000, 0).estimate(arrayList, require).getSampleSize());
+        assertEquals(10_000, RequireSample.ofSize(10_000, 0).estimate(linkedList, require).getSampleSize());
+
+        final RequireSample.Estimate estimateAll = RequireSample.ofRate(1, 0).estimate(arrayList, require);
+
+        assertEquals(99_999, estimateAll.getSampleSize());
+        assertEquals(999, estimateAll.getFailureCount());
+        assertEquals(999d / 99_999, estimateAll.getFailureRate());
+        assertEquals(estimateAll.getFailureRate(), estimateAll.getLowerBound());
+        assertEquals(estimateAll.getFailureRate(), estimateAll.getUpperBound());
+        assertEquals("999 of 99999 sampled of 99999 failed, an estimated failure rate of 0.0100 (95% confidence interval 0.0100 to 0.0100)", estimateAll.toString());
+
+        final RequireSample.Estimate estimateSmall = RequireSample.ofSize(10, 0).estimate(List.of(1, -1), require);
+
+        assertEquals(2, estimateSmall.getSampleSize());
+        assertEquals(1, estimateSmall.getFailureCount());
+
+        final RequireSample.Estimate estimateEmpty = RequireSample.ofRate(0.5, 0).estimate(List.of(), require);
+
+        assertEquals(0, estimateEmpty.getSampleSize());
+        assertEquals(0, estimateEmpty.getLowerBound());
+        assertEquals(1, estimateEmpty.getUpperBound());
+    }
+
+    @Test
+    void testUniform()
+    {
+        // each element should be selected about as often as any other, whether by index or by reservoir.
+        final List<Integer> arrayList = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+        final List<Integer> linkedList = new LinkedList<>(arrayList);
+
+        for (final List<Integer> list : List.of(arrayList, linkedList))
+        {
+            final int[] countArray = new int[10];
+
+            for (int seed = 0; seed < 10_000; seed++)
+            {
+                final List<Integer> selectedList = new ArrayList<>();
+
+                RequireSample.ofSize(3, seed).estimate(list, value ->
+                {
+                    selectedList.add(value);
+                    return value;
+                });
+
+                assertEquals(3, selectedList.size());
+                assertEquals(3, selectedList.stream().distinct().count());
+
+                selectedList.forEach(value -> countArray[value]++);
+            }
+
+            IntStream.of(countArray).forEach(count -> assertTrue(count > 2_700 && count < 3_300, String.valueOf(count)));
+        }
+    }
+}
@@ -1,12 +1,20 @@
 package io.github.drewctaylor.require.test;
 
+import io.github.drewctaylor.require.RequireString;
 import org.junit.jupiter.api.Test;
 
+import java.nio.CharBuffer;
 import java.util.List;
+import java.util.Random;
+import java.util.function.BiFunction;
 import java.util.regex.Pattern;
 
 import static io.github.drewctaylor.require.RequireString.requireBlank;
+import static io.github.drewctaylor.require.RequireString.requireDigits;
+import static io.github.drewctaylor.require.RequireString.requireEmail;
 import static io.github.drewctaylor.require.RequireString.requireEmpty;
+import static io.github.drewctaylor.require.RequireString.requireHexadecimal;
+import static io.github.drewctaylor.require.RequireString.requireIdentifier;
 import static io.github.drewctaylor.require.RequireString.requireLength;
 import static io.github.drewctaylor.require.RequireString.requireLengthExclusive;
 import static io.github.drewctaylor.require.RequireString.requireLengthGreaterThan;
@@ -18,12 +26,14 @@ import static io.github.drewctaylor.require.RequireString.requireLengthMinimumIn
 import static io.github.drewctaylor.require.RequireString.requireMatch;
 import static io.github.drewctaylor.require.RequireString.requireNonBlank;
 import static io.github.drewctaylor.require.RequireString.requireNonEmpty;
+import static io.github.drewctaylor.require.RequireString.requireUuid;
 import static java.lang.Integer.valueOf;
 import static java.util.Arrays.asList;
 import static java.util.regex.Pattern.compile;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.IntStream.range;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 final class RequireStringTest
@@ -67,7 +77,10 @@ final class RequireStringTest
         assertThrows(IllegalArgumentException.class, () -> requireBlank(valid, " "));
 
         assertThrows(IllegalArgumentException.class, () -> requireBlank(invalid, "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireBlank(" \t\u00A0", "name"));
         assertEquals(valid, requireBlank(valid, "name"));
+        assertEquals("", requireBlank("", "name"));
+        assertEquals(" \t\n\u000B\f\r\u001C\u2003", requireBlank(" \t\n\u000B\f\r\u001C\u2003", "name"));
     }
 
     @Test
@@ -81,7 +94,9 @@ final class RequireStringTest
         assertThrows(IllegalArgumentException.class, () -> requireNonBlank(valid, " "));
 
         assertThrows(IllegalArgumentException.class, () -> requireNonBlank(invalid, "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireNonBlank(" \t\u2003", "name"));
         assertEquals(valid, requireNonBlank(valid, "name"));
+        assertEquals(" \u00A0", requireNonBlank(" \u00A0", "name"));
     }
 
     @Test
@@ -95,12 +110,31 @@ final class RequireStringTest
         listForValid.forEach(valid -> assertThrows(IllegalArgumentException.class, () -> requireMatch(valid, pattern, "")));
         listForValid.forEach(valid -> assertThrows(IllegalArgumentException.class, () -> requireMatch(valid, pattern, " ")));
 
-        listForValid.forEach(valid -> assertThrows(NullPointerException.class, () -> requireMatch(valid, null, "name")));
+        listForValid.forEach(valid -> assertThrows(NullPointerException.class, () -> requireMatch(valid, (Pattern) null, "name")));
 
         listForInvalid.forEach(invalid -> assertThrows(IllegalArgumentException.class, () -> requireMatch(invalid, pattern, "name")));
         listForValid.forEach(valid -> assertEquals(valid, requireMatch(valid, pattern, "name")));
     }
 
+    @Test
+    void testRequireMatchRegex()
+    {
+        final List<String> listForInvalid = asList("", "aaaa", "b", "bb", "bbb");
+        final List<String> listForValid = asList("a", "aa", "aaa");
+        final String regex = "a{1,3}";
+
+        listForValid.forEach(valid -> assertThrows(NullPointerException.class, () -> requireMatch(valid, regex, null)));
+        listForValid.forEach(valid -> assertThrows(IllegalArgumentException.class, () -> requireMatch(valid, regex, "")));
+        listForValid.forEach(valid -> assertThrows(IllegalArgumentException.class, () -> requireMatch(valid, regex, " ")));
+
+        listForValid.forEach(valid -> assertThrows(NullPointerException.class, () -> requireMatch(valid, (String) null, "name")));
+        listForValid.forEach(valid -> assertThrows(IllegalArgumentException.class, () -> requireMatch(valid, "a{", "name")));
+
+        listForInvalid.forEach(invalid -> assertThrows(IllegalArgumentException.class, () -> requireMatch(invalid, regex, "name")));
+        listForValid.forEach(valid -> assertEquals(valid, requireMatch(valid, regex, "name")));
+        assertEquals("name must match 'a{1,3}'; it is 'b'.", assertThrows(IllegalArgumentException.class, () -> requireMatch("b", regex, "name")).getMessage());
+    }
+
     private static void testRequireLengthHelper(
             final List<String> list)
     {
@@ -166,4 +200,105 @@ final class RequireStringTest
         // noinspection NumericCastThatLosesPrecision,CharUsedInArithmeticContext
         testRequireLengthHelper(range(0, 6).mapToObj(i -> range(0, i + 1).mapToObj(index -> (char) ('a' + index)).map(String::valueOf).reduce("", String::concat)).collect(toList()));
     }
+
+    private static void testRequireFormatHelper(
+            final BiFunction<String, String, String> require,
+            final String regex,
+            final List<String> list)
+    {
+        final Pattern pattern = compile(regex);
+
+        assertThrows(NullPointerException.class, () -> require.apply(null, "name"));
+        assertThrows(NullPointerException.class, () -> require.apply(list.get(0), null));
+        assertThrows(IllegalArgumentException.class, () -> require.apply(list.get(0), ""));
+        assertThrows(IllegalArgumentException.class, () -> require.apply(list.get(0), " "));
+
+        list.forEach(string ->
+        {
+            if (pattern.matcher(string).matches())
+            {
+                assertEquals(string, require.apply(string, "name"));
+            }
+            else
+            {
+                assertEquals(assertThrows(IllegalArgumentException.class, () -> requireMatch(string, pattern, "name")).getMessage(), assertThrows(IllegalArgumentException.class, () -> require.apply(string, "name")).getMessage());
+            }
+        });
+    }
+
+    @Test
+    void testRequireFormat()
+    {
+        final Random random = new Random(0);
+        final String alphabet = "09afAFgzGZ_-@. \t\u000B\r\u00E9";
+        final List<String> list = range(0, 20000)
+                .mapToObj(i -> range(0, random.nextInt(12)).mapToObj(index -> String.valueOf(alphabet.charAt(random.nextInt(alphabet.length())))).reduce("", String::concat))
+                .collect(toList());
+
+        list.addAll(0, asList(
+                "123e4567-e89b-12d3-a456-426614174000",
+                "123E4567-E89B-12D3-A456-42661417400G",
+                "123e4567e89b-12d3-a456-426614174000-",
+                "0123456789abcdefABCDEF",
+                "_identifier_0",
+                "0identifier",
+                "0123456789",
+                "a@b.c",
+                "a@.c",
+                "a@b.",
+                "a@b@c.d",
+                "first.last@example.co.uk",
+                ""));
+
+        testRequireFormatHelper(RequireString::requireUuid, "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}", list);
+        testRequireFormatHelper(RequireString::requireHexadecimal, "[0-9a-fA-F]+", list);
+        testRequireFormatHelper(RequireString::requireIdentifier, "[A-Za-z_][A-Za-z0-9_]*", list);
+        testRequireFormatHelper(RequireString::requireDigits, "[0-9]+", list);
+        testRequireFormatHelper(RequireString::requireEmail, "[^@\\s]+@[^@\\s]+\\.[^@\\s]+", list);
+
+        assertEquals("123e4567-e89b-12d3-a456-426614174000", requireUuid("123e4567-e89b-12d3-a456-426614174000", "name"));
+        assertEquals("0123456789abcdefABCDEF", requireHexadecimal("0123456789abcdefABCDEF", "name"));
+        assertEquals("_identifier_0", requireIdentifier("_identifier_0", "name"));
+        assertEquals("0123456789", requireDigits("0123456789", "name"));
+        assertEquals("first.last@example.co.uk", requireEmail("first.last@example.co.uk", "name"));
+    }
+
+    @Test
+    void testRequireCharSequence()
+    {
+        final StringBuilder empty = new StringBuilder();
+        final StringBuilder blank = new StringBuilder(" \t");
+        final CharBuffer nonBlank = CharBuffer.wrap("--aaa--", 2, 5);
+
+        assertThrows(NullPointerException.class, () -> requireEmpty((StringBuilder) null, "name"));
+        assertThrows(NullPointerException.class, () -> requireEmpty(empty, null));
+        assertThrows(IllegalArgumentException.class, () -> requireEmpty(empty, " "));
+
+        assertSame(empty, requireEmpty(empty, "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireEmpty(blank, "name"));
+        assertSame(blank, requireNonEmpty(blank, "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireNonEmpty(empty, "name"));
+        assertSame(blank, requireBlank(blank, "name"));
+        assertSame(empty, requireBlank(empty, "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireBlank(nonBlank, "name"));
+        assertSame(nonBlank, requireNonBlank(nonBlank, "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireNonBlank(blank, "name"));
+
+        assertSame(nonBlank, requireLength(nonBlank, 3, "name"));
+        assertSame(nonBlank, requireLength(nonBlank, 3, 3, "name"));
+        assertSame(nonBlank, requireLengthLessThan(nonBlank, 4, "name"));
+        assertSame(nonBlank, requireLengthLessThanOrEqual(nonBlank, 3, "name"));
+        assertSame(nonBlank, requireLengthGreaterThan(nonBlank, 2, "name"));
+        assertSame(nonBlank, requireLengthGreaterThanOrEqual(nonBlank, 3, "name"));
+        assertSame(nonBlank, requireLengthExclusive(nonBlank, 2, 4, "name"));
+        assertSame(nonBlank, requireLengthMinimumExclusiveMaximumInclusive(nonBlank, 2, 3, "name"));
+        assertSame(nonBlank, requireLengthMinimumInclusiveMaximumExclusive(nonBlank, 3, 4, "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireLength(nonBlank, 7, "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireLengthExclusive(nonBlank, 3, 4, "name"));
+
+        assertSame(nonBlank, requireMatch(nonBlank, compile("a{1,3}"), "name"));
+        assertSame(nonBlank, requireMatch(nonBlank, "a{1,3}", "name"));
+        assertThrows(IllegalArgumentException.class, () -> requireMatch(nonBlank, compile("a{1,2}"), "name"));
+        assertEquals("name must match 'a{1,2}'; it is 'aaa'.", assertThrows(IllegalArgumentException.class, () -> requireMatch(nonBlank, "a{1,2}", "name")).getMessage());
+    }
 }
@@ -0,0 +1,183 @@
+package io.github.drewctaylor.require.test;
+
+import io.github.drewctaylor.require.RequireBound;
+import io.github.drewctaylor.require.RequireCollection;
+import io.github.drewctaylor.require.RequireMap;
+import io.github.drewctaylor.require.RequireNumberInteger;
+import io.github.drewctaylor.require.RequireRender;
+import io.github.drewctaylor.require.RequireString;
+import io.github.drewctaylor.require.RequirementViolation;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.github.drewctaylor.require.RequireNumberInteger.requirePositive;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class RequirementViolationTest
+{
+    // a comparable that counts the calls to toString.
+    private static final class Counted implements Comparable<Counted>
+    {
+        private final int number;
+        private final AtomicInteger count;
+
+        private Counted(
+                final int number,
+                final AtomicInteger count)
+        {
+            this.number = number;
+            this.count = count;
+        }
+
+        @Override
+        public int compareTo(
+                final Counted counted)
+        {
+            return Integer.compare(number, counted.number);
+        }
+
+        @Override
+        public String toString()
+        {
+            count.incrementAndGet();
+            return String.valueOf(number);
+        }
+    }
+
+    @Test
+    void testBound()
+    {
+        final RequirementViolation requirementViolation = assertThrows(RequirementViolation.class, () -> RequireBound.requireBoundInclusive(5, 1, 3, "name"));
+
+        assertEquals(RequirementViolation.Kind.BOUND_INCLUSIVE, requirementViolation.getKind());
+        assertEquals("name", requirementViolation.getName());
+        assertNull(requirementViolation.getFieldName());
+        assertEquals(List.of(1, 3), requirementViolation.getExpectedList());
+        assertEquals(5, requirementViolation.getValue());
+        assertEquals(-1, requirementViolation.getIndex());
+        assertEquals(Map.of(), requirementViolation.getElementMap());
+        assertEquals("name must be greater than or equal to '1' and less than or equal to '3'; it is '5'.", requirementViolation.getMessage());
+
+        final RequirementViolation requirementViolationField = assertThrows(RequirementViolation.class, () -> RequireBound.requireLessThan("abc", String::length, 3, "name", "length"));
+
+        assertEquals(RequirementViolation.Kind.LESS_THAN, requirementViolationField.getKind());
+        assertEquals("length", requirementViolationField.getFieldName());
+        assertEquals(List.of(3), requirementViolationField.getExpectedList());
+        assertEquals(3, requirementViolationField.getValue());
+        assertEquals("name length must be less than '3'; it is '3'.", requirementViolationField.getMessage());
+    }
+
+    @Test
+    void testKind()
+    {
+        final Pattern pattern = Pattern.compile("[a-z]+");
+
+        assertEquals(RequirementViolation.Kind.NEGATIVE, assertThrows(RequirementViolation.class, () -> RequireNumberInteger.requireNegative(1, "name")).getKind());
+        assertEquals(RequirementViolation.Kind.NON_EMPTY, assertThrows(RequirementViolation.class, () -> RequireString.requireNonEmpty("", "name")).getKind());
+        assertEquals(RequirementViolation.Kind.EMPTY, assertThrows(RequirementViolation.class, () -> RequireCollection.requireEmpty(List.of(1), "name")).getKind());
+        assertEquals(List.of(pattern), assertThrows(RequirementViolation.class, () -> RequireString.requireMatch("ABC", pattern, "name")).getExpectedList());
+
+        final RequirementViolation requirementViolation = assertThrows(RequirementViolation.class, () -> RequireNumberInteger.requireInteger("abc", "name"));
+
+        assertEquals(RequirementViolation.Kind.TYPE, requirementViolation.getKind());
+        assertEquals(List.of(Integer.class), requirementViolation.getExpectedList());
+        assertEquals("abc", requirementViolation.getValue());
+        assertTrue(requirementViolation.getCause() instanceof NumberFormatException);
+        assertEquals("name must be a java.lang.Integer; it is 'abc'.", requirementViolation.getMessage());
+    }
+
+    @Test
+    void testElement()
+    {
+        final List<Integer> list = List.of(1, 0, 2, -1);
+        final RequirementViolation requirementViolation = assertThrows(RequirementViolation.class, () -> RequireCollection.requireForAll(list, value -> requirePositive(value, "value"), "list"));
+
+        assertEquals(RequirementViolation.Kind.FOR_ALL, requirementViolation.getKind());
+        assertEquals("list", requirementViolation.getName());
+        assertEquals("element", requirementViolation.getFieldName());
+        assertSame(list, requirementViolation.getValue());
+        assertEquals(1, requirementViolation.getIndex());
+        assertEquals(List.of(1, 3), List.copyOf(requirementViolation.getElementMap().keySet()));
+        assertEquals(RequirementViolation.Kind.POSITIVE, ((RequirementViolation) requirementViolation.getElementMap().get(3)).getKind());
+
+        final RequirementViolation requirementViolationMap = assertThrows(RequirementViolation.class, () -> RequireMap.requireThereExistsEntry(Map.of("a", 0), (key, value) -> requirePositive(value, "value"), "map"));
+
+        assertEquals(RequirementViolation.Kind.THERE_EXISTS, requirementViolationMap.getKind());
+        assertEquals("entry", requirementViolationMap.getFieldName());
+        assertEquals(-1, requirementViolationMap.getIndex());
+        assertEquals("value must be positive; it is '0'.", requirementViolationMap.getElementMap().get("a").getMessage());
+
+        // the message renders at most ELEMENT_COUNT_MAXIMUM element violations.
+        final List<Integer> listLarge = IntStream.range(0, 1_000).map(index -> -index).boxed().collect(Collectors.toList());
+        final RequirementViolation requirementViolationLarge = assertThrows(RequirementViolation.class, () -> RequireCollection.requireForAll(listLarge, value -> requirePositive(value, "value"), "list"));
+        final String[] lineArray = requirementViolationLarge.getMessage().split(System.lineSeparator());
+
+        assertEquals(1_000, requirementViolationLarge.getElementMap().size());
+        assertEquals(RequirementViolation.ELEMENT_COUNT_MAXIMUM + 2, lineArray.length);
+        assertEquals("0: value must be positive; it is '0'.", lineArray[1]);
+        assertEquals("... and " + (1_000 - RequirementViolation.ELEMENT_COUNT_MAXIMUM) + " more", lineArray[lineArray.length - 1]);
+    }
+
+    @Test
+    void testMessage() throws IOException, ClassNotFoundException
+    {
+        final AtomicInteger count = new AtomicInteger();
+        final RequirementViolation requirementViolation = assertThrows(RequirementViolation.class, () -> RequireBound.requireLessThan(new Counted(2, count), new Counted(1, count), "name"));
+
+        // the message renders once, when first requested.
+        assertEquals(0, count.get());
+        assertEquals("name must be less than '1'; it is '2'.", requirementViolation.getMessage());
+        assertEquals(2, count.get());
+        assertSame(requirementViolation.getMessage(), requirementViolation.getMessage());
+        assertEquals(2, count.get());
+
+        // the message renders the expected bounds in at most the maximum number of characters.
+        final String string = "b".repeat(10_000);
+
+        assertEquals("name must be greater than '" + "b".repeat(RequireRender.MAXIMUM_LENGTH_DEFAULT) + "...'; it is 'a'.", assertThrows(RequirementViolation.class, () -> RequireBound.requireGreaterThan("a", string, "name")).getMessage());
+
+        // the message describes a character sequence as it was when thrown, though the value is by reference.
+        final StringBuilder stringBuilder = new StringBuilder("abc");
+        final RequirementViolation requirementViolationStringBuilder = assertThrows(RequirementViolation.class, () -> RequireString.requireEmpty(stringBuilder, "stringBuilder"));
+
+        stringBuilder.setLength(0);
+        stringBuilder.append("CHANGED");
+
+        assertSame(stringBuilder, requirementViolationStringBuilder.getValue());
+        assertEquals("stringBuilder must be empty; it was 'abc'.", requirementViolationStringBuilder.getMessage());
+
+        // the message survives serialization, though the value does not.
+        final RequirementViolation requirementViolationPositive = assertThrows(RequirementViolation.class, () -> requirePositive(0, "name"));
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream))
+        {
+            objectOutputStream.writeObject(requirementViolationPositive);
+        }
+
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray())))
+        {
+            final RequirementViolation requirementViolationRead = (RequirementViolation) objectInputStream.readObject();
+
+            assertEquals("name must be positive; it is '0'.", requirementViolationRead.getMessage());
+            assertEquals(RequirementViolation.Kind.POSITIVE, requirementViolationRead.getKind());
+            assertNull(requirementViolationRead.getValue());
+            assertEquals(List.of(), requirementViolationRead.getExpectedList());
+        }
+    }
+}